@@ -18,6 +18,7 @@ Code generator for the country codes file.
 """
 import os
 import json
+import re
 from pathlib import Path
 
 from jinja2 import FileSystemLoader, Environment
@@ -35,10 +36,18 @@ def expand_templates(basedir: Path, context: dict):
             obj = obj[elem]
         return obj
 
+    def expand_bban(fmt: str):
+        """Expands a registry BBAN format like "4!a10!n" into one character class per position: "aaaannnnnnnnnn"."""
+        parts = re.findall(r"(\d+)!([nac])", fmt)
+        if "".join(f"{n}!{c}" for n, c in parts) != fmt:
+            raise ValueError(f"Unsupported BBAN format '{fmt}'")
+        return "".join(c * int(n) for n, c in parts)
+
     environment = Environment(loader=FileSystemLoader(template_dir), autoescape=False)
     environment.filters["date_time_format"] = lambda dt, pat: dt.strftime(pat)
     environment.filters["escape_java_string"] = lambda s: json.dumps(s).strip("\"")
     environment.filters["flat_get"] = flat_get
+    environment.filters["expand_bban"] = expand_bban
 
     for template in environment.list_templates():
         template_path = Path(template)
@@ -0,0 +1,66 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first call into the library in a fresh JVM: each fork runs one invocation without warmup. Compares a
+ * cold {@link IBAN#parse(CharSequence)} with one after {@link IBAN#prime()}, and the cost of priming itself.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class IBANFirstCallBenchmark {
+
+    private static final String INPUT = "DE89 3704 0044 0532 0130 00";
+
+    @State(Scope.Benchmark)
+    public static class Primed {
+        @Setup
+        public void setUp() {
+            IBAN.prime();
+        }
+    }
+
+    @Benchmark
+    public IBAN coldParse() {
+        return IBAN.parse(INPUT);
+    }
+
+    @Benchmark
+    public IBAN primedParse(Primed primed) {
+        return IBAN.parse(INPUT);
+    }
+
+    @Benchmark
+    public void prime() {
+        IBAN.prime();
+    }
+}
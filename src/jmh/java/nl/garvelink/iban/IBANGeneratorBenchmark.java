@@ -0,0 +1,79 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost per IBAN of generating a range of 100,000 account numbers, with {@link IBAN#compose} and with
+ * {@link IBANGenerator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IBANGeneratorBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    private final IBANGenerator range = IBANGenerator.range("NL", "ABNA", 417_000_000L, 417_000_000L + SIZE - 1);
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compose(Blackhole blackhole) {
+        for (long account = 417_000_000L; account < 417_000_000L + SIZE; account++) {
+            blackhole.consume(IBAN.compose("NL", "ABNA" + String.format("%010d", account)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void stream(Blackhole blackhole) {
+        range.stream().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void writeTo(Blackhole blackhole) throws IOException {
+        range.writeTo(new OutputStream() {
+            @Override
+            public void write(int b) {
+                blackhole.consume(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                blackhole.consume(b);
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the cost of a near-duplicate query on an {@link IBANNeighborhoodIndex} of one million random IBANs, mostly
+ * Dutch, for Dutch and British candidates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IBANNeighborhoodIndexBenchmark {
+
+    @Param({"NL91ABNA0417164300", "NL91ABNA0417164310", "GB29NWBK60161331926819"})
+    String candidate;
+
+    private IBANNeighborhoodIndex index;
+
+    @Setup
+    public void setUp() {
+        index = IBANNeighborhoodIndex.of(IBANRandom.builder().seed(1L).weight("NL", 50.0).build().ibans(1_000_000)
+            .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public int[] find() {
+        return index.find(candidate, false);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the cost of a top-10 prefix query on an {@link IBANPrefixIndex} of one million random IBANs, for prefixes
+ * of increasing length.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IBANPrefixIndexBenchmark {
+
+    @Param({"NL", "NL9", "nl91 ab"})
+    String prefix;
+
+    private IBANPrefixIndex index;
+
+    @Setup
+    public void setUp() {
+        index = IBANPrefixIndex.of(IBANRandom.builder().seed(1L).weight("NL", 50.0).build().ibans(1_000_000)
+            .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<IBAN> find() {
+        return index.find(prefix, 10);
+    }
+
+    @Benchmark
+    public int count() {
+        return index.count(prefix);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the cost per IBAN of {@link IBANPseudonymizer}, on IBAN objects and in bulk over a byte buffer. Ten
+ * rounds of AES dominate the cost; the target is at most two microseconds per IBAN per core, which bulk mode divides
+ * by the number of cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IBANPseudonymizerBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    private final IBANPseudonymizer pseudonymizer =
+        IBANPseudonymizer.builder("0123456789abcdef".getBytes(StandardCharsets.US_ASCII)).build();
+    private List<IBAN> ibans;
+    private byte[] source;
+    private byte[] data;
+    private final int[] ends = new int[SIZE];
+    private final boolean[] rejected = new boolean[SIZE];
+
+    @Setup
+    public void setUp() {
+        ibans = IBANRandom.builder().seed(1L).sepaOnly().build().ibans(SIZE).collect(Collectors.toList());
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            sb.append(ibans.get(i).toPlainString());
+            ends[i] = sb.length();
+        }
+        source = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        data = new byte[source.length];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int objects() {
+        int hash = 0;
+        for (IBAN iban : ibans) {
+            hash += pseudonymizer.pseudonymize(iban).hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int bulk() {
+        System.arraycopy(source, 0, data, 0, source.length);
+        return pseudonymizer.pseudonymizeAll(data, ends, SIZE, rejected);
+    }
+}
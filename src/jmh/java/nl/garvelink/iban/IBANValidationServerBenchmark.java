@@ -0,0 +1,125 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A load generator for {@link IBANValidationServer}: four client threads, each with its own connection, send batches
+ * of random IBANs and wait for the answer. The throughput mode reports requests per second; the sample mode reports
+ * the latency distribution, including p0.99. The server listens on the loopback address, because Unix domain sockets
+ * need Java 16.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class IBANValidationServerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Server {
+        IBANValidationServer server;
+        InetSocketAddress address;
+
+        @Setup(Level.Trial)
+        public void start() throws IOException {
+            ServerSocketChannel channel = ServerSocketChannel.open()
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            address = (InetSocketAddress) channel.getLocalAddress();
+            server = IBANValidationServer.start(channel, ValidationLevel.STRUCTURE);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws IOException {
+            server.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        @Param({"1", "100"})
+        int batchSize;
+
+        SocketChannel channel;
+        ByteBuffer request;
+        ByteBuffer response = ByteBuffer.allocate(65536);
+
+        @Setup(Level.Trial)
+        public void connect(Server server) throws IOException {
+            channel = SocketChannel.open(server.address);
+            List<String> ibans = IBANRandom.builder().seed(Thread.currentThread().getId()).build()
+                .strings(batchSize).collect(Collectors.toList());
+            request = ByteBuffer.allocate(65536);
+            request.putInt(0).putShort((short) ibans.size());
+            for (String iban : ibans) {
+                byte[] bytes = iban.getBytes(StandardCharsets.US_ASCII);
+                request.put((byte) bytes.length).put(bytes);
+            }
+            request.putInt(0, request.position() - 4);
+            request.flip();
+        }
+
+        @TearDown(Level.Trial)
+        public void disconnect() throws IOException {
+            channel.close();
+        }
+    }
+
+    @Benchmark
+    public int request(Client client) throws IOException {
+        client.request.rewind();
+        while (client.request.hasRemaining()) {
+            client.channel.write(client.request);
+        }
+        client.response.clear();
+        int expected = -1;
+        while (expected < 0 || client.response.position() < expected) {
+            if (client.channel.read(client.response) < 0) {
+                throw new IOException("Connection closed.");
+            }
+            if (expected < 0 && client.response.position() >= 4) {
+                expected = 4 + client.response.getInt(0);
+            }
+        }
+        return client.response.getShort(4);
+    }
+}
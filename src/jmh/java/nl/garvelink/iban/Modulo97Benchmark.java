@@ -0,0 +1,67 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the MOD 97-10 checks of an IBAN, a creditor reference and a creditor identifier of about 18 characters,
+ * so that the results show the cost per character is the same.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Modulo97Benchmark {
+
+    private final String iban = "NL91ABNA0417164300";
+    private final String creditorReference = "RF47ABCDEFGH123456";
+    private final String creditorIdentifier = "NL69ZZZ123456780000";
+    private final IBANView view = new IBANView();
+
+    @Benchmark
+    public boolean ibanView() {
+        return view.reset(iban, ValidationLevel.CHECKSUM);
+    }
+
+    @Benchmark
+    public boolean verifyCheckDigits() {
+        return Modulo97.verifyCheckDigits(iban);
+    }
+
+    @Benchmark
+    public boolean creditorReference() {
+        return CreditorReference.isValid(creditorReference);
+    }
+
+    @Benchmark
+    public boolean creditorIdentifier() {
+        return CreditorIdentifier.isValid(creditorIdentifier);
+    }
+}
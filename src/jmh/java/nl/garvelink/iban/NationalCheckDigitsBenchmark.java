@@ -0,0 +1,72 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the national check digit verification per country, next to the cost of parsing the same IBAN.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NationalCheckDigitsBenchmark {
+
+    @Param({
+        "BE68539007547034",
+        "FR1420041010050500013M02606",
+        "ES9121000418450200051332",
+        "IT60X0542811101000000123456",
+        "NO9386011117947",
+        "FI2112345600000785",
+        "CZ6508000000192000145399",
+        "PT50000201231234567890154",
+        "NL91ABNA0417164300"
+    })
+    public String input;
+
+    private IBANCountry country;
+
+    @Setup
+    public void setUp() {
+        country = IBANRegistry.getCurrent().getCountry(input.substring(0, 2)).get();
+    }
+
+    @Benchmark
+    public IBAN parse() {
+        return IBAN.parse(input);
+    }
+
+    @Benchmark
+    public boolean nationalCheck() {
+        return NationalCheckDigits.verify(country, input);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * A reusable {@link CharSequence} view of a range of US-ASCII bytes, so that the validation code, which works on
+ * character sequences, can run over byte buffers without copying them.
+ */
+final class AsciiSequence implements CharSequence {
+
+    private byte[] source = new byte[0];
+    private int offset;
+    private int length;
+
+    /**
+     * Points this view at the given range. The range is not checked.
+     */
+    AsciiSequence reset(byte[] source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + ", length " + length);
+        }
+        return (char) (source[offset + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (source[offset + i] & 0xFF);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,346 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Comparator;
+
+/**
+ * An immutable value type representing a Business Identifier Code (ISO 9362), also known as SWIFT code. A BIC has
+ * eight or eleven characters: a four-character institution code, a two-letter country code, a two-character location
+ * code and an optional three-character branch code.
+ * <p>
+ * The BIC is validated in a single pass, without regular expressions, and stored in a single {@code long}: each
+ * character is a base-37 digit, so that an instance takes no more memory than its object header and that field. The
+ * getters and {@link #toString()} decode the characters when called. Lowercase input is accepted and stored as
+ * uppercase.</p>
+ * @since 1.18.0
+ */
+public final class BIC implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A comparator that puts BICs into lexicographic ordering of {@link #toString()}, without decoding them.
+     */
+    public static final Comparator<BIC> LEXICAL_ORDER = new Comparator<BIC>() {
+        @Override
+        public int compare(BIC bic, BIC bic2) {
+            return Long.compare(bic.packed, bic2.packed);
+        }
+    };
+
+    /** The longest BIC. */
+    private static final int LENGTH = 11;
+
+    /** The length of a BIC without branch code. */
+    private static final int SHORT_LENGTH = 8;
+
+    /** The radix of the packed representation: zero for an absent character, then the digits and the letters. */
+    private static final int RADIX = 37;
+
+    /** {@code RADIX} to the power of {@code LENGTH - 1 - i}, the place value of character {@code i}. */
+    private static final long[] PLACE = new long[LENGTH];
+
+    /**
+     * For each country code, as an index {@code (first - 'A') * 26 + (second - 'A')}, the country whose IBANs its
+     * institutions use if that differs; otherwise -1. Territories such as Jersey and French Guiana have BICs with
+     * their own country code but use the IBANs of their parent country.
+     */
+    private static final short[] IBAN_COUNTRY = new short[26 * 26];
+
+    static {
+        long place = 1L;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            PLACE[i] = place;
+            place *= RADIX;
+        }
+        for (int i = 0; i < IBAN_COUNTRY.length; i++) {
+            IBAN_COUNTRY[i] = -1;
+        }
+        shareIbanCountry("FI", "AX");
+        shareIbanCountry("FR", "BL", "GF", "GP", "MF", "MQ", "NC", "PF", "PM", "RE", "TF", "WF", "YT");
+        shareIbanCountry("GB", "GG", "IM", "JE");
+    }
+
+    private static void shareIbanCountry(String ibanCountry, String... bicCountries) {
+        for (String bicCountry : bicCountries) {
+            IBAN_COUNTRY[countryIndex(bicCountry.charAt(0), bicCountry.charAt(1))] =
+                (short) countryIndex(ibanCountry.charAt(0), ibanCountry.charAt(1));
+        }
+    }
+
+    /**
+     * The characters as base-37 digits, first character most significant; an eight-character BIC ends in three
+     * zeroes.
+     */
+    private final long packed;
+
+    private BIC(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Parses the given string into a BIC object.
+     * @param input an eight or eleven character BIC. Cannot be null.
+     * @return the BIC, never null.
+     * @throws BICParseException if the input is null or not a valid BIC.
+     */
+    public static BIC parse(CharSequence input) {
+        if (input == null) {
+            throw new BICParseException("Input is null", null);
+        }
+        final long packed = pack(input);
+        if (packed < 0) {
+            throw new BICParseException(describeFailure(input.length(), (int) ~packed), input);
+        }
+        return new BIC(packed);
+    }
+
+    /**
+     * Parses the given US-ASCII bytes into a BIC object.
+     * @param source the array holding the BIC. Cannot be null.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     * @return the BIC, never null.
+     * @throws BICParseException if the input is not a valid BIC.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public static BIC parse(byte[] source, int offset, int length) {
+        final long packed = pack(source, offset, length);
+        if (packed < 0) {
+            throw new BICParseException(describeFailure(length, (int) ~packed),
+                new AsciiSequence().reset(source, offset, length));
+        }
+        return new BIC(packed);
+    }
+
+    /**
+     * Parses the given string into a BIC object, but returns null for null.
+     * @param input an eight or eleven character BIC, or null.
+     * @return the BIC, or null.
+     * @throws BICParseException if the input is not a valid BIC.
+     */
+    public static BIC valueOf(CharSequence input) {
+        if (input == null) {
+            return null;
+        }
+        return parse(input);
+    }
+
+    /**
+     * Returns whether the given string is a valid BIC, without allocating.
+     * @param input the candidate BIC, or null.
+     * @return true if {@link #parse(CharSequence)} would succeed.
+     */
+    public static boolean isValid(CharSequence input) {
+        return input != null && pack(input) >= 0;
+    }
+
+    /**
+     * Returns whether the given US-ASCII bytes are a valid BIC, without allocating.
+     * @param source the array holding the candidate. Cannot be null.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     * @return true if {@link #parse(byte[], int, int)} would succeed.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public static boolean isValid(byte[] source, int offset, int length) {
+        return pack(source, offset, length) >= 0;
+    }
+
+    /**
+     * Returns the packed form of the input, or the bitwise complement of the index of the first invalid character.
+     */
+    private static long pack(CharSequence input) {
+        final int length = input.length();
+        if (length != SHORT_LENGTH && length != LENGTH) {
+            return ~length;
+        }
+        long packed = 0L;
+        for (int i = 0; i < length; i++) {
+            final int digit = digit(input.charAt(i), i);
+            if (digit < 0) {
+                return ~i;
+            }
+            packed += digit * PLACE[i];
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the packed form of the input, or the bitwise complement of the index of the first invalid character.
+     */
+    private static long pack(byte[] source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Offset " + offset + ", length " + length + ", array " + source.length);
+        }
+        if (length != SHORT_LENGTH && length != LENGTH) {
+            return ~length;
+        }
+        long packed = 0L;
+        for (int i = 0; i < length; i++) {
+            final int digit = digit(source[offset + i] & 0xFF, i);
+            if (digit < 0) {
+                return ~i;
+            }
+            packed += digit * PLACE[i];
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the base-37 digit of a character at the given index, or -1 if the character is not allowed there.
+     */
+    private static int digit(int c, int index) {
+        if (c >= 'a' && c <= 'z') {
+            c -= 'a' - 'A';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        if (c >= '0' && c <= '9' && (index < 4 || index > 5)) {
+            return c - '0' + 1;
+        }
+        return -1;
+    }
+
+    private static String describeFailure(int length, int index) {
+        if (length != SHORT_LENGTH && length != LENGTH) {
+            return "A BIC has 8 or 11 characters, got " + length + ".";
+        }
+        return index == 4 || index == 5
+            ? "The country code at index " + index + " must be a letter."
+            : "Invalid character at index " + index + ".";
+    }
+
+    private static int countryIndex(int first, int second) {
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    /**
+     * Returns the character at the given index, or zero if absent.
+     */
+    private char charAt(int index) {
+        final int digit = (int) (packed / PLACE[index] % RADIX);
+        return digit == 0 ? 0 : (char) (digit > 10 ? 'A' + digit - 11 : '0' + digit - 1);
+    }
+
+    private String substring(int begin, int end) {
+        final char[] chars = new char[end - begin];
+        for (int i = begin; i < end; i++) {
+            chars[i - begin] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns the institution code, the first four characters.
+     * @return the institution code.
+     */
+    public String getInstitutionCode() {
+        return substring(0, 4);
+    }
+
+    /**
+     * Returns the ISO 3166 country code, the fifth and sixth characters.
+     * @return the country code.
+     */
+    public String getCountryCode() {
+        return substring(4, 6);
+    }
+
+    /**
+     * Returns the location code, the seventh and eighth characters.
+     * @return the location code.
+     */
+    public String getLocationCode() {
+        return substring(6, 8);
+    }
+
+    /**
+     * Returns whether this BIC has a branch code, that is, whether it has eleven characters.
+     * @return true for an eleven-character BIC.
+     */
+    public boolean hasBranchCode() {
+        return packed % PLACE[SHORT_LENGTH - 1] != 0;
+    }
+
+    /**
+     * Returns the branch code.
+     * @return the last three characters of an eleven-character BIC, or {@code "XXX"}, which denotes the primary
+     *         office, for an eight-character BIC.
+     */
+    public String getBranchCode() {
+        return hasBranchCode() ? substring(8, 11) : "XXX";
+    }
+
+    /**
+     * Returns whether this is a test and training BIC, which has a zero as the second character of its location code.
+     * @return true for a test BIC.
+     */
+    public boolean isTestBIC() {
+        return charAt(7) == '0';
+    }
+
+    /**
+     * Returns whether accounts of the given IBAN can be held at this institution, judging by their country codes,
+     * without allocating. The country codes must be the same, or the BIC must be of a territory that uses the IBANs
+     * of the other country, such as Jersey ({@code JE}) with British ({@code GB}) IBANs.
+     * @param iban the IBAN. Cannot be null.
+     * @return true if the country codes are consistent.
+     */
+    public boolean isConsistentWith(IBAN iban) {
+        final String ibanCountryCode = iban.getCountryCode();
+        final int ibanCountry = countryIndex(ibanCountryCode.charAt(0), ibanCountryCode.charAt(1));
+        final int bicCountry = countryIndex(charAt(4), charAt(5));
+        return bicCountry == ibanCountry || IBAN_COUNTRY[bicCountry] == ibanCountry;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BIC)) return false;
+        return packed == ((BIC) o).packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    /**
+     * Returns the BIC as eight or eleven characters, as it was parsed but in uppercase.
+     * @return the BIC.
+     */
+    @Override
+    public String toString() {
+        return substring(0, hasBranchCode() ? LENGTH : SHORT_LENGTH);
+    }
+
+    /**
+     * Rejects streams that don't hold a valid packed BIC.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        final String value = toString();
+        if (packed < 0 || value.indexOf(0) >= 0 || pack(value) != packed) {
+            throw new InvalidObjectException("Invalid BIC.");
+        }
+        return this;
+    }
+}
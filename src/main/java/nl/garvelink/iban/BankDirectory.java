@@ -0,0 +1,524 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A read-only directory from bank identifier to BIC and bank name, backed by a memory-mapped file.
+ * <p>
+ * The directory file is built once from a CSV file with {@link #build(Reader, Path)} and opened with
+ * {@link #open(Path)}. The file contents are sorted by country code and bank identifier and are searched in place,
+ * so a directory of hundreds of thousands of banks takes up next to no heap, and several JVMs opening the same file
+ * share its pages in the operating system's page cache.</p>
+ * <p>
+ * {@link #indexOf(IBAN)} does not allocate. {@link #lookup(IBAN)} decodes the entry and keeps it in a small cache
+ * for the hottest banks. Instances are thread safe.</p>
+ * <p>
+ * The CSV input has four columns: country code, bank identifier (as returned by
+ * {@link IBANFields#getBankIdentifier(IBAN)}), BIC and bank name. The BIC may be empty. Fields may be enclosed in
+ * double quotes, in which case a double quote is written as two double quotes. Bank identifiers and BICs are stored
+ * in upper case. Empty lines and lines starting with {@code #} are ignored.</p>
+ * @since 1.18.0
+ */
+public final class BankDirectory {
+
+    /** File signature, "IBDR". */
+    private static final int MAGIC = 0x49424452;
+
+    /** File format version. */
+    private static final int VERSION = 1;
+
+    /** Number of two-letter country slots, see {@link #slot(char, char)}. */
+    private static final int SLOTS = 26 * 26;
+
+    /** Magic, version, entry count, key width, followed by the first record index of each slot, and the end. */
+    private static final int HEADER_SIZE = 16 + (SLOTS + 1) * 4;
+
+    /** Default number of entries in the lookup cache. */
+    private static final int DEFAULT_CACHE_SIZE = 256;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int keyWidth;
+    private final int recordSize;
+    private final int heapStart;
+    private final AtomicReferenceArray<Optional<Entry>> cache;
+    private final int cacheMask;
+
+    private BankDirectory(ByteBuffer buffer, int cacheSize) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a bank directory file.");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported bank directory version " + buffer.getInt(4) + ".");
+        }
+        this.buffer = buffer;
+        this.size = buffer.getInt(8);
+        this.keyWidth = buffer.getInt(12);
+        this.recordSize = 2 + keyWidth + 4;
+        this.heapStart = HEADER_SIZE + size * recordSize;
+        if (size < 0 || keyWidth < 1 || keyWidth > 255 || heapStart > buffer.capacity()
+                || slotStart(SLOTS) != size) {
+            throw new IOException("Bank directory file is corrupt.");
+        }
+        int capacity = Integer.highestOneBit(Math.max(1, cacheSize - 1)) << 1;
+        this.cache = new AtomicReferenceArray<>(capacity);
+        this.cacheMask = capacity - 1;
+    }
+
+    /**
+     * Opens a bank directory file with the default cache size.
+     * @param file a file written by {@link #build(Reader, Path)}.
+     * @return the directory.
+     * @throws IOException if the file cannot be read or is not a bank directory.
+     */
+    public static BankDirectory open(Path file) throws IOException {
+        return open(file, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Opens a bank directory file.
+     * @param file a file written by {@link #build(Reader, Path)}.
+     * @param cacheSize the number of decoded entries to cache, rounded up to a power of two.
+     * @return the directory.
+     * @throws IOException if the file cannot be read or is not a bank directory.
+     */
+    public static BankDirectory open(Path file, int cacheSize) throws IOException {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + cacheSize);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Bank directory file is too large.");
+            }
+            return new BankDirectory(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), cacheSize);
+        }
+    }
+
+    /**
+     * Reads the given CSV file and writes it to {@code target} as a bank directory file.
+     * @param csv the CSV file, in UTF-8.
+     * @param target the directory file to write. Replaced if it exists.
+     * @throws IOException if reading or writing fails, or if the input is invalid.
+     * @see #build(Reader, Path)
+     */
+    public static void build(Path csv, Path target) throws IOException {
+        try (Reader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            build(reader, target);
+        }
+    }
+
+    /**
+     * Reads the given CSV data and writes it to {@code target} as a bank directory file. The file is written next to
+     * the target and then moved into place, so that processes that have the old file open are not affected.
+     * @param csv the CSV data. Not closed by this method.
+     * @param target the directory file to write. Replaced if it exists.
+     * @throws IOException if reading or writing fails, or if the input is invalid.
+     */
+    public static void build(Reader csv, Path target) throws IOException {
+        List<Entry> entries = readCsv(csv);
+        entries.sort(BankDirectory::compare);
+        int keyWidth = 1;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (i > 0 && compare(entries.get(i - 1), entry) == 0) {
+                throw new IOException("Duplicate bank identifier " + entry.countryCode + " " + entry.bankIdentifier
+                    + ".");
+            }
+            keyWidth = Math.max(keyWidth, entry.bankIdentifier.length());
+        }
+
+        Path absolute = target.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(entries, keyWidth, out);
+            }
+            try {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void write(List<Entry> entries, int keyWidth, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(entries.size());
+        out.writeInt(keyWidth);
+        int next = 0;
+        for (int slot = 0; slot <= SLOTS; slot++) {
+            while (next < entries.size()
+                    && slot(entries.get(next).countryCode.charAt(0), entries.get(next).countryCode.charAt(1)) < slot) {
+                next++;
+            }
+            out.writeInt(next);
+        }
+        ByteArrayOutputStream heapBytes = new ByteArrayOutputStream();
+        DataOutputStream heap = new DataOutputStream(heapBytes);
+        for (Entry entry : entries) {
+            out.writeByte(entry.countryCode.charAt(0));
+            out.writeByte(entry.countryCode.charAt(1));
+            for (int i = 0; i < keyWidth; i++) {
+                out.writeByte(i < entry.bankIdentifier.length() ? entry.bankIdentifier.charAt(i) : 0);
+            }
+            out.writeInt(heap.size());
+            byte[] name = entry.bankName.getBytes(StandardCharsets.UTF_8);
+            heap.writeByte(entry.bic.length());
+            heap.writeBytes(entry.bic);
+            heap.writeShort(name.length);
+            heap.write(name);
+        }
+        heapBytes.writeTo(out);
+    }
+
+    private static List<Entry> readCsv(Reader csv) throws IOException {
+        BufferedReader in = csv instanceof BufferedReader ? (BufferedReader) csv : new BufferedReader(csv);
+        List<Entry> entries = new ArrayList<>();
+        List<String> fields = new ArrayList<>(4);
+        String line;
+        int lineNumber = 0;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            splitCsv(line, lineNumber, fields);
+            if (fields.size() != 4) {
+                throw new IOException("Line " + lineNumber + ": expected 4 fields, found " + fields.size() + ".");
+            }
+            String countryCode = fields.get(0).trim();
+            // Stored in upper case; compareKey() folds the case of the IBAN or identifier being looked up.
+            String bankIdentifier = fields.get(1).trim().toUpperCase(Locale.ROOT);
+            String bic = fields.get(2).trim().toUpperCase(Locale.ROOT);
+            String bankName = fields.get(3).trim();
+            if (countryCode.length() != 2 || !isUpperCaseLetter(countryCode.charAt(0))
+                    || !isUpperCaseLetter(countryCode.charAt(1))) {
+                throw new IOException("Line " + lineNumber + ": invalid country code '" + countryCode + "'.");
+            }
+            if (bankIdentifier.isEmpty() || bankIdentifier.length() > 255 || !isAlphanumeric(bankIdentifier)) {
+                throw new IOException("Line " + lineNumber + ": invalid bank identifier '" + bankIdentifier + "'.");
+            }
+            if (!(bic.isEmpty() || bic.length() == 8 || bic.length() == 11) || !isAlphanumeric(bic)) {
+                throw new IOException("Line " + lineNumber + ": invalid BIC '" + bic + "'.");
+            }
+            if (bankName.getBytes(StandardCharsets.UTF_8).length > 0xFFFF) {
+                throw new IOException("Line " + lineNumber + ": bank name is too long.");
+            }
+            entries.add(new Entry(-1, countryCode, bankIdentifier, bic, bankName));
+        }
+        return entries;
+    }
+
+    private static void splitCsv(String line, int lineNumber, List<String> fields) throws IOException {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IOException("Line " + lineNumber + ": unterminated quote.");
+        }
+        fields.add(field.toString());
+    }
+
+    /**
+     * Returns the number of entries in this directory.
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the entry for the bank identifier of the given IBAN. This method does not allocate.
+     * @param iban the IBAN to look up. Cannot be null.
+     * @return the index of the entry, or -1 if not found or if the IBAN's country has no bank identifier.
+     */
+    public int indexOf(IBAN iban) {
+        final IBANCountry country = iban.getCountry();
+        final String value = iban.toPlainString();
+        final int begin = country.getBankIdentifierBegin();
+        final int end = country.getBankIdentifierEnd();
+        if (begin < 0 || end > value.length()) {
+            return -1;
+        }
+        return search(value.charAt(0), value.charAt(1), value, begin, end);
+    }
+
+    /**
+     * Finds the entry for the given bank identifier. This method does not allocate.
+     * @param countryCode a two-letter uppercase country code. Cannot be null.
+     * @param bankIdentifier the bank identifier, in either case. Cannot be null.
+     * @return the index of the entry, or -1 if not found.
+     */
+    public int indexOf(CharSequence countryCode, CharSequence bankIdentifier) {
+        if (countryCode.length() != 2) {
+            return -1;
+        }
+        return search(countryCode.charAt(0), countryCode.charAt(1), bankIdentifier, 0, bankIdentifier.length());
+    }
+
+    /**
+     * Looks up the bank of the given IBAN, using the cache.
+     * @param iban the IBAN to look up. Cannot be null.
+     * @return the bank, or {@code EMPTY} if not found.
+     */
+    public Optional<Entry> lookup(IBAN iban) {
+        return cached(indexOf(iban));
+    }
+
+    /**
+     * Looks up the bank with the given bank identifier, using the cache.
+     * @param countryCode a two-letter uppercase country code. Cannot be null.
+     * @param bankIdentifier the bank identifier, in either case. Cannot be null.
+     * @return the bank, or {@code EMPTY} if not found.
+     */
+    public Optional<Entry> lookup(CharSequence countryCode, CharSequence bankIdentifier) {
+        return cached(indexOf(countryCode, bankIdentifier));
+    }
+
+    /**
+     * Decodes the entry at the given index. The result is not cached.
+     * @param index an entry index, as returned by {@link #indexOf(IBAN)}.
+     * @return the entry.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public Entry get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        }
+        int record = HEADER_SIZE + index * recordSize;
+        char[] chars = new char[keyWidth];
+        int length = 0;
+        while (length < keyWidth && buffer.get(record + 2 + length) != 0) {
+            chars[length] = (char) buffer.get(record + 2 + length);
+            length++;
+        }
+        String countryCode = new String(new char[] { (char) buffer.get(record), (char) buffer.get(record + 1) });
+        int offset = heapStart + buffer.getInt(record + 2 + keyWidth);
+        int bicLength = buffer.get(offset) & 0xFF;
+        String bic = decode(offset + 1, bicLength);
+        offset += 1 + bicLength;
+        String bankName = decode(offset + 2, buffer.getShort(offset) & 0xFFFF);
+        return new Entry(index, countryCode, new String(chars, 0, length), bic, bankName);
+    }
+
+    private Optional<Entry> cached(int index) {
+        if (index < 0) {
+            return Optional.empty();
+        }
+        int slot = index & cacheMask;
+        Optional<Entry> entry = cache.get(slot);
+        if (entry == null || entry.get().index != index) {
+            entry = Optional.of(get(index));
+            cache.set(slot, entry);
+        }
+        return entry;
+    }
+
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Binary search for the bank identifier within the records of one country.
+     */
+    private int search(char first, char second, CharSequence key, int begin, int end) {
+        if (!isUpperCaseLetter(first) || !isUpperCaseLetter(second) || end - begin > keyWidth) {
+            return -1;
+        }
+        int slot = slot(first, second);
+        int low = slotStart(slot);
+        int high = slotStart(slot + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareKey(HEADER_SIZE + mid * recordSize + 2, key, begin, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the zero-padded key at the given buffer offset with {@code key[begin, end)}, folding the key to upper
+     * case like the stored ones: {@link IBAN#parse(CharSequence)} keeps lowercase letters in the BBAN.
+     */
+    private int compareKey(int offset, CharSequence key, int begin, int end) {
+        for (int i = 0; i < keyWidth; i++) {
+            int stored = buffer.get(offset + i) & 0xFF;
+            int wanted = begin + i < end ? key.charAt(begin + i) : 0;
+            if (wanted >= 'a' && wanted <= 'z') {
+                wanted -= 'a' - 'A';
+            }
+            if (stored != wanted) {
+                return stored - wanted;
+            }
+        }
+        return 0;
+    }
+
+    private int slotStart(int slot) {
+        return buffer.getInt(16 + slot * 4);
+    }
+
+    private static int slot(char first, char second) {
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    private static int compare(Entry a, Entry b) {
+        int cmp = a.countryCode.compareTo(b.countryCode);
+        return cmp != 0 ? cmp : a.bankIdentifier.compareTo(b.bankIdentifier);
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAlphanumeric(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!(isUpperCaseLetter(c) || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A bank in the directory.
+     */
+    public static final class Entry {
+        private final int index;
+        private final String countryCode;
+        private final String bankIdentifier;
+        private final String bic;
+        private final String bankName;
+
+        Entry(int index, String countryCode, String bankIdentifier, String bic, String bankName) {
+            this.index = index;
+            this.countryCode = countryCode;
+            this.bankIdentifier = bankIdentifier;
+            this.bic = bic;
+            this.bankName = bankName;
+        }
+
+        /**
+         * Returns the country code.
+         * @return the two-letter country code.
+         */
+        public String getCountryCode() {
+            return countryCode;
+        }
+
+        /**
+         * Returns the bank identifier.
+         * @return the bank identifier.
+         */
+        public String getBankIdentifier() {
+            return bankIdentifier;
+        }
+
+        /**
+         * Returns the BIC of this bank, if known.
+         * @return the BIC, or {@code EMPTY}.
+         */
+        public Optional<String> getBic() {
+            return bic.isEmpty() ? Optional.empty() : Optional.of(bic);
+        }
+
+        /**
+         * Returns the name of this bank.
+         * @return the bank name, possibly empty.
+         */
+        public String getBankName() {
+            return bankName;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) obj;
+            return countryCode.equals(other.countryCode) && bankIdentifier.equals(other.bankIdentifier)
+                && bic.equals(other.bic) && bankName.equals(other.bankName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(countryCode, bankIdentifier, bic, bankName);
+        }
+
+        @Override
+        public String toString() {
+            return countryCode + " " + bankIdentifier + " " + bic + " " + bankName;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Assigns dense integer ids to the banks, or bank branches, that occur in IBANs.
+ * <p>
+ * {@link #intern(IBAN)} hashes and compares the bank identifier where it sits in the IBAN, so it creates nothing
+ * for a bank it has seen before; the identifier strings are created once, on first sight of a bank. Ids start at
+ * zero and are assigned in order of first sight, so they can index arrays of per-bank aggregates, see
+ * {@link IBANCollectors#countingByBank(BankIdDictionary)}.</p>
+ * <pre>
+ * BankIdDictionary banks = BankIdDictionary.banks();
+ * long[] counts = ibans.parallelStream().collect(IBANCollectors.countingByBank(banks));
+ * for (int id = 0; id &lt; counts.length; id++) {
+ *     report(banks.getCountryCode(id), banks.getBankIdentifier(id), counts[id]);
+ * }
+ * </pre>
+ * <p>
+ * Instances are thread safe. Looking up a known bank takes no lock, interning a new bank does.</p>
+ * @see IBANFields#getBankIdentifier(IBAN)
+ * @since 1.18.0
+ */
+public final class BankIdDictionary {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** Whether the key includes the branch identifier. */
+    private final boolean branches;
+    /** The hash table in use; replaced by a larger one when it fills up. */
+    private volatile AtomicReferenceArray<Entry> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    /** The entries by id; replaced by a larger array when it fills up. Elements are written under the lock. */
+    private volatile Entry[] entries = new Entry[INITIAL_CAPACITY / 2];
+    private volatile int size = 0;
+    private final Object lock = new Object();
+
+    private BankIdDictionary(boolean branches) {
+        this.branches = branches;
+    }
+
+    /**
+     * Returns a new, empty dictionary keyed on country code and bank identifier.
+     * @return a new dictionary.
+     */
+    public static BankIdDictionary banks() {
+        return new BankIdDictionary(false);
+    }
+
+    /**
+     * Returns a new, empty dictionary keyed on country code, bank identifier and branch identifier. In countries
+     * without a branch identifier, the key is the country code and bank identifier.
+     * @return a new dictionary.
+     */
+    public static BankIdDictionary branches() {
+        return new BankIdDictionary(true);
+    }
+
+    /**
+     * Returns the id of the bank of the given IBAN, assigning a new id on first sight.
+     * @param iban the IBAN. Cannot be null.
+     * @return the id, or -1 if the IBAN's country has no bank identifier.
+     */
+    public int intern(IBAN iban) {
+        return intern(iban.getCountry(), iban.toPlainString());
+    }
+
+    /**
+     * Returns the id of the bank of the given view, assigning a new id on first sight.
+     * @param view a valid view. Cannot be null.
+     * @return the id, or -1 if the IBAN's country has no bank identifier.
+     * @throws IllegalStateException if the view is not valid.
+     */
+    public int intern(IBANView view) {
+        return intern(view.getCountry(), view);
+    }
+
+    /**
+     * Returns the id of the bank of the given IBAN, without assigning one.
+     * @param iban the IBAN. Cannot be null.
+     * @return the id, or -1 if the bank has no id or the IBAN's country has no bank identifier.
+     */
+    public int find(IBAN iban) {
+        final IBANCountry country = iban.getCountry();
+        if (!country.hasBankIdentifier()) {
+            return -1;
+        }
+        final String value = iban.toPlainString();
+        final Entry entry = find(table, country, value, hash(country, value));
+        return entry == null ? -1 : entry.id;
+    }
+
+    private int intern(IBANCountry country, CharSequence value) {
+        if (!country.hasBankIdentifier()) {
+            return -1;
+        }
+        final int hash = hash(country, value);
+        final Entry entry = find(table, country, value, hash);
+        return entry != null ? entry.id : add(country, value, hash);
+    }
+
+    private int add(IBANCountry country, CharSequence value, int hash) {
+        synchronized (lock) {
+            AtomicReferenceArray<Entry> current = table;
+            final Entry existing = find(current, country, value, hash);
+            if (existing != null) {
+                return existing.id;
+            }
+            final int id = size;
+            final Entry entry = new Entry(id, hash, country.getCountryCode(),
+                value.subSequence(country.getBankIdentifierBegin(), country.getBankIdentifierEnd()).toString(),
+                branches && country.hasBranchIdentifier()
+                    ? value.subSequence(country.getBranchIdentifierBegin(), country.getBranchIdentifierEnd())
+                        .toString()
+                    : null);
+            Entry[] byId = entries;
+            if (id == byId.length) {
+                byId = Arrays.copyOf(byId, id * 2);
+            }
+            byId[id] = entry;
+            entries = byId;
+            if ((id + 1) * 2 > current.length()) {
+                current = rehash(current, current.length() * 2);
+                table = current;
+            }
+            insert(current, entry);
+            size = id + 1;
+            return id;
+        }
+    }
+
+    private static AtomicReferenceArray<Entry> rehash(AtomicReferenceArray<Entry> from, int capacity) {
+        final AtomicReferenceArray<Entry> to = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < from.length(); i++) {
+            final Entry entry = from.get(i);
+            if (entry != null) {
+                insert(to, entry);
+            }
+        }
+        return to;
+    }
+
+    private static void insert(AtomicReferenceArray<Entry> table, Entry entry) {
+        final int mask = table.length() - 1;
+        int slot = entry.hash & mask;
+        while (table.get(slot) != null) {
+            slot = (slot + 1) & mask;
+        }
+        table.set(slot, entry);
+    }
+
+    private Entry find(AtomicReferenceArray<Entry> table, IBANCountry country, CharSequence value, int hash) {
+        final int mask = table.length() - 1;
+        int slot = hash & mask;
+        Entry entry;
+        while ((entry = table.get(slot)) != null) {
+            if (entry.hash == hash && matches(entry, country, value)) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private boolean matches(Entry entry, IBANCountry country, CharSequence value) {
+        final String countryCode = country.getCountryCode();
+        if (entry.countryCode.charAt(0) != countryCode.charAt(0)
+                || entry.countryCode.charAt(1) != countryCode.charAt(1)
+                || !regionMatches(entry.bankIdentifier, value, country.getBankIdentifierBegin())) {
+            return false;
+        }
+        if (branches && country.hasBranchIdentifier()) {
+            return entry.branchIdentifier != null
+                && regionMatches(entry.branchIdentifier, value, country.getBranchIdentifierBegin());
+        }
+        return entry.branchIdentifier == null;
+    }
+
+    private static boolean regionMatches(String expected, CharSequence value, int offset) {
+        for (int i = 0; i < expected.length(); i++) {
+            if (expected.charAt(i) != value.charAt(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash(IBANCountry country, CharSequence value) {
+        final String countryCode = country.getCountryCode();
+        int h = countryCode.charAt(0) * 31 + countryCode.charAt(1);
+        for (int i = country.getBankIdentifierBegin(); i < country.getBankIdentifierEnd(); i++) {
+            h = h * 31 + value.charAt(i);
+        }
+        if (branches && country.hasBranchIdentifier()) {
+            for (int i = country.getBranchIdentifierBegin(); i < country.getBranchIdentifierEnd(); i++) {
+                h = h * 31 + value.charAt(i);
+            }
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the number of ids assigned so far.
+     * @return the number of distinct banks seen.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the country code of the bank with the given id.
+     * @param id an id returned by this dictionary.
+     * @return the two-letter country code.
+     * @throws IndexOutOfBoundsException if the id was not assigned by this dictionary.
+     */
+    public String getCountryCode(int id) {
+        return entry(id).countryCode;
+    }
+
+    /**
+     * Returns the bank identifier of the bank with the given id.
+     * @param id an id returned by this dictionary.
+     * @return the bank identifier.
+     * @throws IndexOutOfBoundsException if the id was not assigned by this dictionary.
+     */
+    public String getBankIdentifier(int id) {
+        return entry(id).bankIdentifier;
+    }
+
+    /**
+     * Returns the branch identifier of the bank branch with the given id.
+     * @param id an id returned by this dictionary.
+     * @return the branch identifier, or {@code EMPTY} if this dictionary is keyed on banks or the country has no
+     *         branch identifier.
+     * @throws IndexOutOfBoundsException if the id was not assigned by this dictionary.
+     */
+    public Optional<String> getBranchIdentifier(int id) {
+        return Optional.ofNullable(entry(id).branchIdentifier);
+    }
+
+    private Entry entry(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Id " + id + ", size " + size);
+        }
+        return entries[id];
+    }
+
+    @Override
+    public String toString() {
+        return "BankIdDictionary(" + (branches ? "branches" : "banks") + ", size " + size + ")";
+    }
+
+    /**
+     * One interned bank. Immutable, so that a reader that finds it in the table sees all of its fields.
+     */
+    private static final class Entry {
+        final int id;
+        final int hash;
+        final String countryCode;
+        final String bankIdentifier;
+        final String branchIdentifier;
+
+        Entry(int id, int hash, String countryCode, String bankIdentifier, String branchIdentifier) {
+            this.id = id;
+            this.hash = hash;
+            this.countryCode = countryCode;
+            this.bankIdentifier = bankIdentifier;
+            this.branchIdentifier = branchIdentifier;
+        }
+    }
+}
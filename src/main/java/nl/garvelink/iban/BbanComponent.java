@@ -0,0 +1,40 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * The national fields that a BBAN can embed, as listed per country in the {@code embeds} section of {@code IBAN.yml}.
+ * <p>
+ * Not every country has every component, and components may overlap: in some countries the national check digits
+ * are part of the bank or branch identifier. See {@link IBANCountry#getBegin(BbanComponent)} for the offsets and
+ * {@link IBANFields} to extract them.</p>
+ * @since 1.18.0
+ */
+public enum BbanComponent {
+    /** The bank identifier, see {@link IBANFields#getBankIdentifier(IBAN)}. */
+    BANK_IDENTIFIER,
+    /** The branch identifier, see {@link IBANFields#getBranchIdentifier(IBAN)}. */
+    BRANCH_IDENTIFIER,
+    /** The account number, see {@link IBANFields#getAccountNumber(IBAN)}. */
+    ACCOUNT_NUMBER,
+    /**
+     * The national check digits, where they are one contiguous range. See
+     * {@link IBANFields#getNationalCheckDigits(IBAN)}.
+     */
+    NATIONAL_CHECK_DIGITS,
+    /** The account type, see {@link IBANFields#getAccountType(IBAN)}. */
+    ACCOUNT_TYPE
+}
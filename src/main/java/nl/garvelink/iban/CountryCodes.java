@@ -16,24 +16,25 @@
 package nl.garvelink.iban;
 
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 
 import static nl.garvelink.iban.CountryCodesData.*;
 
 /**
- * Contains information about IBAN country codes.
+ * Contains information about IBAN country codes. The information is taken from the {@link IBANRegistry#getCurrent()
+ * current registry}, which is the data compiled into the library unless the application installed another.
  */
 public abstract class CountryCodes {
 
     /**
-     * The shortest known valid IBAN.
+     * The shortest known valid IBAN in the default registry.
+     * @see IBANRegistry
      */
     public static final int SHORTEST_IBAN_LENGTH;
 
     /**
-     * The longest known valid IBAN.
+     * The longest known valid IBAN in the default registry.
+     * @see IBANRegistry
      */
     public static final int LONGEST_IBAN_LENGTH;
 
@@ -54,12 +55,12 @@ public abstract class CountryCodes {
     }
 
     /**
-     * Returns the index of the given country code by binary search.
+     * Returns the index of the given country code in the current registry.
      * @param countryCode a country code.
      * @return the array index, or -1.
      */
     static int indexOf(String countryCode) {
-        return Arrays.binarySearch(COUNTRY_CODES, countryCode);
+        return IBANRegistry.current().indexOf(countryCode);
     }
 
     /**
@@ -68,14 +69,8 @@ public abstract class CountryCodes {
      * @return the bank ID for this IBAN, or <code>null</code> if unknown.
      */
     static String getBankIdentifier(IBAN iban) {
-        int index = CountryCodes.indexOf(iban.getCountryCode());
-        if (index > -1) {
-            int data = BANK_CODE_BRANCH_CODE[index];
-            int bankIdBegin = data & BANK_IDENTIFIER_BEGIN_MASK;
-            int bankIdEnd = (data & BANK_IDENTIFIER_END_MASK) >>> BANK_IDENTIFIER_END_SHIFT;
-            return bankIdBegin != 0 ? iban.toPlainString().substring(bankIdBegin, bankIdEnd) : null;
-        }
-        return null;
+        final CharSequence bankIdentifier = iban.getBankIdentifierView();
+        return bankIdentifier.length() > 0 ? bankIdentifier.toString() : null;
     }
 
     /**
@@ -84,14 +79,8 @@ public abstract class CountryCodes {
      * @return the branch ID for this IBAN, or <code>null</code> if unknown.
      */
     static String getBranchIdentifier(IBAN iban) {
-        int index = CountryCodes.indexOf(iban.getCountryCode());
-        if (index > -1) {
-            int data = BANK_CODE_BRANCH_CODE[index];
-            int branchIdBegin = (data & BRANCH_IDENTIFIER_BEGIN_MASK) >>> BRANCH_IDENTIFIER_BEGIN_SHIFT;
-            int branchIdEnd = (data & BRANCH_IDENTIFIER_END_MASK) >>> BRANCH_IDENTIFIER_END_SHIFT;
-            return branchIdBegin != 0 ? iban.toPlainString().substring(branchIdBegin, branchIdEnd) : null;
-        }
-        return null;
+        final CharSequence branchIdentifier = iban.getBranchIdentifierView();
+        return branchIdentifier.length() > 0 ? branchIdentifier.toString() : null;
     }
 
     /**
@@ -101,11 +90,7 @@ public abstract class CountryCodes {
      * @throws NullPointerException if the input is null.
      */
     public static int getLengthForCountryCode(CharSequence countryCode) {
-        int index = indexOf(countryCode.toString());
-        if (index > -1) {
-            return COUNTRY_IBAN_LENGTHS[index] & REMOVE_METADATA_MASK;
-        }
-        return -1;
+        return IBANRegistry.current().getLengthForCountryCode(countryCode);
     }
 
     /**
@@ -115,9 +100,10 @@ public abstract class CountryCodes {
      * @throws NullPointerException if the input is null.
      */
     public static boolean isSEPACountry(CharSequence countryCode) {
-        int index = indexOf(countryCode.toString());
+        final IBANRegistry registry = IBANRegistry.current();
+        int index = registry.indexOf(countryCode);
         if (index > -1) {
-            return (COUNTRY_IBAN_LENGTHS[index] & SEPA) == SEPA;
+            return (registry.countryData[index] & SEPA) == SEPA;
         }
         return false;
     }
@@ -129,9 +115,10 @@ public abstract class CountryCodes {
      * @throws NullPointerException if the input is null.
      */
     public static boolean isInSwiftRegistry(CharSequence countryCode) {
-        int index = indexOf(countryCode.toString());
+        final IBANRegistry registry = IBANRegistry.current();
+        int index = registry.indexOf(countryCode);
         if (index > -1) {
-            return (COUNTRY_IBAN_LENGTHS[index] & SWIFT) == SWIFT;
+            return (registry.countryData[index] & SWIFT) == SWIFT;
         }
         return false;
     }
@@ -141,7 +128,7 @@ public abstract class CountryCodes {
      * @return the collection of known country codes, upper case, in alphabetical order.
      */
     public static Collection<String> getKnownCountryCodes() {
-        return Collections.unmodifiableList(Arrays.asList(COUNTRY_CODES));
+        return IBANRegistry.current().getKnownCountryCodes();
     }
 
     /**
@@ -150,10 +137,7 @@ public abstract class CountryCodes {
      * @return {@code true} if {@code aCountryCode} is a two-letter, uppercase String present in {@link #getKnownCountryCodes()}.
      */
     public static boolean isKnownCountryCode(CharSequence aCountryCode) {
-        if (aCountryCode == null || aCountryCode.length() != 2) {
-            return false;
-        }
-        return indexOf(aCountryCode.toString()) >= 0;
+        return IBANRegistry.current().isKnownCountryCode(aCountryCode);
     }
 
     /**
@@ -162,7 +146,7 @@ public abstract class CountryCodes {
      * @since 1.7.0
      */
     public static LocalDate getLastUpdateDate() {
-        return LocalDate.parse(LAST_UPDATE_DATE);
+        return IBANRegistry.current().getLastUpdateDate();
     }
 
     /**
@@ -171,7 +155,7 @@ public abstract class CountryCodes {
      * @since 1.7.0
      */
     public static String getLastUpdateRevision() {
-        return LAST_UPDATE_REV;
+        return IBANRegistry.current().getRevision();
     }
 
     /** Prevent instantiation of static utility class. */
@@ -0,0 +1,173 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts IBANs per country in a {@code long[]} indexed by the country's position in an {@link IBANRegistry}.
+ * <p>
+ * Counters of the same registry are merged by adding their arrays, see {@link #addAll(CountryCounter)}, which makes
+ * them suitable as the container of a parallel stream collector, see {@link IBANCollectors#counting()}.</p>
+ * <p>
+ * Instances are not thread safe.</p>
+ * @since 1.18.0
+ */
+public final class CountryCounter {
+
+    private final IBANRegistry registry;
+    private final long[] counts;
+
+    /**
+     * Creates a counter for the countries of the registry in use.
+     */
+    public CountryCounter() {
+        this(IBANRegistry.current());
+    }
+
+    /**
+     * Creates a counter for the countries of the given registry.
+     * @param registry the registry. Cannot be null.
+     */
+    public CountryCounter(IBANRegistry registry) {
+        this.registry = registry;
+        this.counts = new long[registry.countries.length];
+    }
+
+    /**
+     * Returns the registry whose countries this counter counts.
+     * @return the registry.
+     */
+    public IBANRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Counts an IBAN.
+     * @param iban the IBAN. Cannot be null.
+     * @return this counter.
+     * @throws IllegalArgumentException if the registry of this counter doesn't know the IBAN's country.
+     */
+    public CountryCounter add(IBAN iban) {
+        return add(iban.getCountry(), 1L);
+    }
+
+    /**
+     * Adds to the count of a country.
+     * @param country the country. Cannot be null.
+     * @param count the number to add.
+     * @return this counter.
+     * @throws IllegalArgumentException if the registry of this counter doesn't know the country.
+     */
+    public CountryCounter add(IBANCountry country, long count) {
+        final int index = registry.indexOf(country);
+        if (index < 0) {
+            throw new IllegalArgumentException("Country " + country + " is not in the registry of this counter.");
+        }
+        counts[index] += count;
+        return this;
+    }
+
+    /**
+     * Adds the counts of another counter to this one.
+     * @param other a counter of the same registry. Cannot be null.
+     * @return this counter.
+     * @throws IllegalArgumentException if the other counter is of another registry.
+     */
+    public CountryCounter addAll(CountryCounter other) {
+        if (other.registry != registry) {
+            throw new IllegalArgumentException("Cannot merge counters of different registries.");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the count of a country.
+     * @param country the country. Cannot be null.
+     * @return the count, zero if the registry of this counter doesn't know the country.
+     */
+    public long get(IBANCountry country) {
+        final int index = registry.indexOf(country);
+        return index < 0 ? 0L : counts[index];
+    }
+
+    /**
+     * Returns the count of a country code.
+     * @param countryCode a two-letter, uppercase country code. Cannot be null.
+     * @return the count, zero if the country code is unknown.
+     */
+    public long get(CharSequence countryCode) {
+        final int index = registry.indexOf(countryCode);
+        return index < 0 ? 0L : counts[index];
+    }
+
+    /**
+     * Returns the sum of all counts.
+     * @return the total.
+     */
+    public long getTotal() {
+        long total = 0L;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the sum of the counts of the SEPA countries.
+     * @return the SEPA total.
+     */
+    public long getSEPATotal() {
+        long total = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            if (registry.countries[i].isSEPA()) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the counts as an array, in the order of {@link IBANRegistry#getKnownCountryCodes()}.
+     * @return a copy of the counts.
+     */
+    public long[] toArray() {
+        return counts.clone();
+    }
+
+    /**
+     * Returns the non-zero counts by country code.
+     * @return a new map, in alphabetical order of country code.
+     */
+    public Map<String, Long> toMap() {
+        final Map<String, Long> map = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0L) {
+                map.put(registry.countries[i].getCountryCode(), counts[i]);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
@@ -0,0 +1,334 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * An immutable value type representing a SEPA Creditor Identifier, such as {@code DE98ZZZ09999999999}: a two-letter
+ * country code, two check digits, a three-character creditor business code and a national identifier of up to 28
+ * letters and digits.
+ * <p>
+ * The check digits are ISO 7064 MOD 97-10 over the national identifier and the country code, as in an IBAN; the
+ * business code doesn't count, so that a creditor can vary it (it is often {@code ZZZ}) without changing the check
+ * digits. They are verified by the same {@link Modulo97} engine in a single pass, without allocating. The national
+ * identifier is not validated further. Input may contain spaces and lowercase letters; instances hold the plain,
+ * uppercase form.</p>
+ * @since 1.18.0
+ */
+public final class CreditorIdentifier implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The shortest creditor identifier, with a one-character national identifier. */
+    private static final int MIN_LENGTH = 8;
+
+    /** The longest creditor identifier, with a 28-character national identifier. */
+    private static final int MAX_LENGTH = 35;
+
+    /** The index of the first character after the business code. */
+    private static final int NATIONAL_IDENTIFIER_BEGIN = 7;
+
+    // Failure codes of scan(), which returns the plain length on success.
+    private static final int WRONG_LENGTH = -1;
+    private static final int INVALID_COUNTRY_CODE = -2;
+    private static final int NON_NUMERIC_CHECK_DIGITS = -3;
+    private static final int INVALID_CHARACTER = -4;
+    private static final int WRONG_CHECKSUM = -5;
+
+    /** The plain, uppercase creditor identifier. */
+    private final String value;
+
+    private CreditorIdentifier(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Parses the given string into a creditor identifier.
+     * @param input the creditor identifier, plain or with spaces. Cannot be null.
+     * @return the creditor identifier, never null.
+     * @throws CreditorIdentifierParseException if the input is null or not a valid creditor identifier.
+     */
+    public static CreditorIdentifier parse(CharSequence input) {
+        if (input == null) {
+            throw new CreditorIdentifierParseException("Input is null", null);
+        }
+        final int length = scan(input);
+        if (length < 0) {
+            throw new CreditorIdentifierParseException(describeFailure(length), input);
+        }
+        return new CreditorIdentifier(toPlainUpperCase(input, length));
+    }
+
+    /**
+     * Parses the given US-ASCII bytes into a creditor identifier.
+     * @param source the array holding the creditor identifier, plain or with spaces. Cannot be null.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     * @return the creditor identifier, never null.
+     * @throws CreditorIdentifierParseException if the input is not a valid creditor identifier.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public static CreditorIdentifier parse(byte[] source, int offset, int length) {
+        checkRange(source, offset, length);
+        return parse(new AsciiSequence().reset(source, offset, length));
+    }
+
+    /**
+     * Parses the given string into a creditor identifier, but returns null for null.
+     * @param input the creditor identifier, or null.
+     * @return the creditor identifier, or null.
+     * @throws CreditorIdentifierParseException if the input is not a valid creditor identifier.
+     */
+    public static CreditorIdentifier valueOf(CharSequence input) {
+        if (input == null) {
+            return null;
+        }
+        return parse(input);
+    }
+
+    /**
+     * Returns whether the given string is a valid creditor identifier, without allocating.
+     * @param input the candidate, plain or with spaces, or null.
+     * @return true if {@link #parse(CharSequence)} would succeed.
+     */
+    public static boolean isValid(CharSequence input) {
+        return input != null && scan(input) >= 0;
+    }
+
+    /**
+     * Returns whether the given US-ASCII bytes are a valid creditor identifier.
+     * @param source the array holding the candidate. Cannot be null.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     * @return true if {@link #parse(byte[], int, int)} would succeed.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public static boolean isValid(byte[] source, int offset, int length) {
+        checkRange(source, offset, length);
+        return scan(new AsciiSequence().reset(source, offset, length)) >= 0;
+    }
+
+    /**
+     * Validates many creditor identifiers in parallel, such as a column of a SEPA message batch.
+     * @param data the creditor identifiers as US-ASCII, one after the other. Cannot be null.
+     * @param ends the index in {@code data} after each creditor identifier. Cannot be null.
+     * @param rows the number of creditor identifiers.
+     * @param rejected receives true for each row that is not a valid creditor identifier, false otherwise.
+     * @return the number of valid rows.
+     * @throws IndexOutOfBoundsException if an array is too small for the number of rows.
+     */
+    public static int verifyAll(byte[] data, int[] ends, int rows, boolean[] rejected) {
+        return Modulo97.verifyAll(data, ends, rows, rejected, value -> scan(value) >= 0);
+    }
+
+    /**
+     * Composes a creditor identifier from its parts, calculating the check digits.
+     * @param countryCode a two-letter country code. Cannot be null.
+     * @param businessCode three letters or digits; {@code ZZZ} if the creditor doesn't use it. Cannot be null.
+     * @param nationalIdentifier one to 28 letters and digits; spaces are ignored. Cannot be null.
+     * @return the creditor identifier.
+     * @throws CreditorIdentifierParseException if a part is malformed.
+     */
+    public static CreditorIdentifier compose(CharSequence countryCode, CharSequence businessCode,
+                                             CharSequence nationalIdentifier) {
+        final StringBuilder sb = new StringBuilder(MAX_LENGTH).append(countryCode).append("00").append(businessCode);
+        if (sb.length() != NATIONAL_IDENTIFIER_BEGIN) {
+            throw new CreditorIdentifierParseException(
+                "The country code must have two characters and the business code three.", sb);
+        }
+        for (int i = 0; i < nationalIdentifier.length(); i++) {
+            final char c = nationalIdentifier.charAt(i);
+            if (c != ' ') {
+                sb.append(c);
+            }
+        }
+        final int remainder = Modulo97.remainder(sb, 0, 4,
+            Modulo97.remainder(sb, NATIONAL_IDENTIFIER_BEGIN, sb.length(), 0));
+        if (remainder < 0) {
+            throw new CreditorIdentifierParseException(describeFailure(INVALID_CHARACTER), sb);
+        }
+        final int checkDigits = 98 - remainder;
+        sb.setCharAt(2, (char) ('0' + checkDigits / 10));
+        sb.setCharAt(3, (char) ('0' + checkDigits % 10));
+        // Validates the rest of the structure.
+        return parse(sb);
+    }
+
+    /**
+     * Checks the input in a single pass, skipping spaces.
+     * @return the number of characters other than spaces if valid, or one of the failure codes.
+     */
+    private static int scan(CharSequence input) {
+        int length = 0;
+        char first = 0;
+        char second = 0;
+        int checkDigits = 0;
+        int remainder = 0;
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (length == MAX_LENGTH) {
+                return WRONG_LENGTH;
+            }
+            if (length < 2) {
+                if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+                    return INVALID_COUNTRY_CODE;
+                }
+                if (length == 0) {
+                    first = c;
+                } else {
+                    second = c;
+                }
+            } else if (length < 4) {
+                if (c < '0' || c > '9') {
+                    return NON_NUMERIC_CHECK_DIGITS;
+                }
+                checkDigits = checkDigits * 10 + (c - '0');
+            } else if (length < NATIONAL_IDENTIFIER_BEGIN) {
+                // The business code doesn't count towards the checksum.
+                if (Modulo97.step(0, c) < 0) {
+                    return INVALID_CHARACTER;
+                }
+            } else {
+                remainder = Modulo97.step(remainder, c);
+                if (remainder < 0) {
+                    return INVALID_CHARACTER;
+                }
+            }
+            length++;
+        }
+        if (length < MIN_LENGTH) {
+            return WRONG_LENGTH;
+        }
+        // The country code and check digits count last.
+        remainder = Modulo97.step(Modulo97.step(remainder, first), second);
+        return (remainder * 100 + checkDigits) % 97 == 1 ? length : WRONG_CHECKSUM;
+    }
+
+    private static String describeFailure(int failure) {
+        switch (failure) {
+            case WRONG_LENGTH:
+                return "A creditor identifier has 8 to 35 characters.";
+            case INVALID_COUNTRY_CODE:
+                return "A creditor identifier starts with a two-letter country code.";
+            case NON_NUMERIC_CHECK_DIGITS:
+                return "Characters at index 2 and 3 not both numeric.";
+            case INVALID_CHARACTER:
+                return "The business code and national identifier must consist of letters and digits.";
+            default:
+                return "The check digits are wrong.";
+        }
+    }
+
+    private static String toPlainUpperCase(CharSequence input, int length) {
+        final char[] chars = new char[length];
+        int j = 0;
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c != ' ') {
+                chars[j++] = c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+            }
+        }
+        return new String(chars);
+    }
+
+    private static void checkRange(byte[] source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Offset " + offset + ", length " + length + ", array " + source.length);
+        }
+    }
+
+    /**
+     * Returns the ISO 3166 country code, the first two characters.
+     * @return the country code.
+     */
+    public String getCountryCode() {
+        return value.substring(0, 2);
+    }
+
+    /**
+     * Returns the check digits, the third and fourth characters.
+     * @return the check digits.
+     */
+    public String getCheckDigits() {
+        return value.substring(2, 4);
+    }
+
+    /**
+     * Returns the creditor business code, the fifth to seventh characters.
+     * @return the business code.
+     */
+    public String getBusinessCode() {
+        return value.substring(4, NATIONAL_IDENTIFIER_BEGIN);
+    }
+
+    /**
+     * Returns the national identifier of the creditor, everything after the business code.
+     * @return the national identifier.
+     */
+    public String getNationalIdentifier() {
+        return value.substring(NATIONAL_IDENTIFIER_BEGIN);
+    }
+
+    /**
+     * Returns whether the given creditor identifier identifies the same creditor, that is, whether the two are equal
+     * apart from the business code.
+     * @param other the other creditor identifier. Cannot be null.
+     * @return true if only the business codes may differ.
+     */
+    public boolean isSameCreditor(CreditorIdentifier other) {
+        return value.length() == other.value.length()
+            && value.regionMatches(0, other.value, 0, 4)
+            && value.regionMatches(NATIONAL_IDENTIFIER_BEGIN, other.value, NATIONAL_IDENTIFIER_BEGIN,
+                value.length() - NATIONAL_IDENTIFIER_BEGIN);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CreditorIdentifier)) return false;
+        return value.equals(((CreditorIdentifier) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    /**
+     * Returns the creditor identifier without spaces, which is how it is printed.
+     * @return the creditor identifier.
+     */
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /**
+     * Rejects streams that don't hold a valid, plain and uppercase creditor identifier.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (value == null || scan(value) != value.length() || !value.equals(toPlainUpperCase(value, value.length()))) {
+            throw new InvalidObjectException("Invalid creditor identifier.");
+        }
+        return this;
+    }
+}
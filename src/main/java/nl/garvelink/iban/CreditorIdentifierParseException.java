@@ -0,0 +1,28 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * Indicates that some given input could not be successfully parsed into a {@link CreditorIdentifier}.
+ * @since 1.18.0
+ */
+public class CreditorIdentifierParseException extends IBANException {
+    private static final long serialVersionUID = 1L;
+
+    CreditorIdentifierParseException(String message, CharSequence failedInput) {
+        super(message, failedInput);
+    }
+}
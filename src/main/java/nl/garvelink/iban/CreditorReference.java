@@ -0,0 +1,299 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * An immutable value type representing an ISO 11649 structured creditor reference, such as
+ * {@code RF18 5390 0754 7034}: the letters {@code RF}, two check digits and a reference of one to 21 letters and
+ * digits, chosen by the creditor.
+ * <p>
+ * The check digits are ISO 7064 MOD 97-10, as in an IBAN, and are verified by the same {@link Modulo97} engine in a
+ * single pass, without allocating. Input may contain spaces and lowercase letters; instances hold the plain, uppercase
+ * form.</p>
+ * @since 1.18.0
+ */
+public final class CreditorReference implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The shortest creditor reference, with a one-character reference. */
+    private static final int MIN_LENGTH = 5;
+
+    /** The longest creditor reference, with a 21-character reference. */
+    private static final int MAX_LENGTH = 25;
+
+    private static final String PREFIX = "RF";
+
+    // Failure codes of scan(), which returns the plain length on success.
+    private static final int WRONG_LENGTH = -1;
+    private static final int WRONG_PREFIX = -2;
+    private static final int NON_NUMERIC_CHECK_DIGITS = -3;
+    private static final int INVALID_CHARACTER = -4;
+    private static final int WRONG_CHECKSUM = -5;
+
+    /** The plain, uppercase creditor reference. */
+    private final String value;
+
+    private CreditorReference(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Parses the given string into a creditor reference.
+     * @param input the creditor reference, plain or formatted with spaces. Cannot be null.
+     * @return the creditor reference, never null.
+     * @throws CreditorReferenceParseException if the input is null or not a valid creditor reference.
+     */
+    public static CreditorReference parse(CharSequence input) {
+        if (input == null) {
+            throw new CreditorReferenceParseException("Input is null", null);
+        }
+        final int length = scan(input);
+        if (length < 0) {
+            throw new CreditorReferenceParseException(describeFailure(length), input);
+        }
+        return new CreditorReference(toPlainUpperCase(input, length));
+    }
+
+    /**
+     * Parses the given US-ASCII bytes into a creditor reference.
+     * @param source the array holding the creditor reference, plain or formatted with spaces. Cannot be null.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     * @return the creditor reference, never null.
+     * @throws CreditorReferenceParseException if the input is not a valid creditor reference.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public static CreditorReference parse(byte[] source, int offset, int length) {
+        checkRange(source, offset, length);
+        return parse(new AsciiSequence().reset(source, offset, length));
+    }
+
+    /**
+     * Parses the given string into a creditor reference, but returns null for null.
+     * @param input the creditor reference, or null.
+     * @return the creditor reference, or null.
+     * @throws CreditorReferenceParseException if the input is not a valid creditor reference.
+     */
+    public static CreditorReference valueOf(CharSequence input) {
+        if (input == null) {
+            return null;
+        }
+        return parse(input);
+    }
+
+    /**
+     * Returns whether the given string is a valid creditor reference, without allocating.
+     * @param input the candidate, plain or formatted with spaces, or null.
+     * @return true if {@link #parse(CharSequence)} would succeed.
+     */
+    public static boolean isValid(CharSequence input) {
+        return input != null && scan(input) >= 0;
+    }
+
+    /**
+     * Returns whether the given US-ASCII bytes are a valid creditor reference.
+     * @param source the array holding the candidate. Cannot be null.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     * @return true if {@link #parse(byte[], int, int)} would succeed.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public static boolean isValid(byte[] source, int offset, int length) {
+        checkRange(source, offset, length);
+        return scan(new AsciiSequence().reset(source, offset, length)) >= 0;
+    }
+
+    /**
+     * Validates many creditor references in parallel, such as a column of a SEPA message batch.
+     * @param data the creditor references as US-ASCII, one after the other. Cannot be null.
+     * @param ends the index in {@code data} after each creditor reference. Cannot be null.
+     * @param rows the number of creditor references.
+     * @param rejected receives true for each row that is not a valid creditor reference, false otherwise.
+     * @return the number of valid rows.
+     * @throws IndexOutOfBoundsException if an array is too small for the number of rows.
+     */
+    public static int verifyAll(byte[] data, int[] ends, int rows, boolean[] rejected) {
+        return Modulo97.verifyAll(data, ends, rows, rejected, value -> scan(value) >= 0);
+    }
+
+    /**
+     * Composes a creditor reference by prefixing a reference with {@code RF} and the check digits.
+     * @param reference one to 21 letters and digits; spaces are ignored. Cannot be null.
+     * @return the creditor reference.
+     * @throws CreditorReferenceParseException if the reference is empty, too long, or holds another character.
+     */
+    public static CreditorReference compose(CharSequence reference) {
+        final StringBuilder sb = new StringBuilder(MAX_LENGTH).append(PREFIX).append("00");
+        for (int i = 0; i < reference.length(); i++) {
+            final char c = reference.charAt(i);
+            if (c != ' ') {
+                sb.append(c);
+            }
+        }
+        if (sb.length() < MIN_LENGTH || sb.length() > MAX_LENGTH) {
+            throw new CreditorReferenceParseException(describeFailure(WRONG_LENGTH), reference);
+        }
+        final int remainder = Modulo97.remainder(sb, 0, 4, Modulo97.remainder(sb, 4, sb.length(), 0));
+        if (remainder < 0) {
+            throw new CreditorReferenceParseException(describeFailure(INVALID_CHARACTER), reference);
+        }
+        final int checkDigits = 98 - remainder;
+        sb.setCharAt(2, (char) ('0' + checkDigits / 10));
+        sb.setCharAt(3, (char) ('0' + checkDigits % 10));
+        return new CreditorReference(toPlainUpperCase(sb, sb.length()));
+    }
+
+    /**
+     * Checks the input in a single pass, skipping spaces.
+     * @return the number of characters other than spaces if valid, or one of the failure codes.
+     */
+    private static int scan(CharSequence input) {
+        int length = 0;
+        int checkDigits = 0;
+        int remainder = 0;
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (length == MAX_LENGTH) {
+                return WRONG_LENGTH;
+            }
+            if (length < 2) {
+                if (c != PREFIX.charAt(length) && c != Character.toLowerCase(PREFIX.charAt(length))) {
+                    return WRONG_PREFIX;
+                }
+            } else if (length < 4) {
+                if (c < '0' || c > '9') {
+                    return NON_NUMERIC_CHECK_DIGITS;
+                }
+                checkDigits = checkDigits * 10 + (c - '0');
+            } else {
+                remainder = Modulo97.step(remainder, c);
+                if (remainder < 0) {
+                    return INVALID_CHARACTER;
+                }
+            }
+            length++;
+        }
+        if (length < MIN_LENGTH) {
+            return WRONG_LENGTH;
+        }
+        // The first four characters count last.
+        remainder = Modulo97.remainder(PREFIX, 0, 2, remainder);
+        return (remainder * 100 + checkDigits) % 97 == 1 ? length : WRONG_CHECKSUM;
+    }
+
+    private static String describeFailure(int failure) {
+        switch (failure) {
+            case WRONG_LENGTH:
+                return "A creditor reference has 5 to 25 characters.";
+            case WRONG_PREFIX:
+                return "A creditor reference starts with RF.";
+            case NON_NUMERIC_CHECK_DIGITS:
+                return "Characters at index 2 and 3 not both numeric.";
+            case INVALID_CHARACTER:
+                return "The reference must consist of letters and digits.";
+            default:
+                return "The check digits are wrong.";
+        }
+    }
+
+    private static String toPlainUpperCase(CharSequence input, int length) {
+        final char[] chars = new char[length];
+        int j = 0;
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c != ' ') {
+                chars[j++] = c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+            }
+        }
+        return new String(chars);
+    }
+
+    private static void checkRange(byte[] source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Offset " + offset + ", length " + length + ", array " + source.length);
+        }
+    }
+
+    /**
+     * Returns the check digits, the third and fourth characters.
+     * @return the check digits.
+     */
+    public String getCheckDigits() {
+        return value.substring(2, 4);
+    }
+
+    /**
+     * Returns the reference chosen by the creditor, everything after the check digits.
+     * @return the reference.
+     */
+    public String getReference() {
+        return value.substring(4);
+    }
+
+    /**
+     * Returns the creditor reference without spaces.
+     * @return the plain creditor reference.
+     */
+    public String toPlainString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CreditorReference)) return false;
+        return value.equals(((CreditorReference) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    /**
+     * Returns the creditor reference in its print format, in groups of four characters separated by spaces.
+     * @return the formatted creditor reference.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(value.length() + value.length() / 4);
+        for (int i = 0; i < value.length(); i++) {
+            if (i > 0 && i % 4 == 0) {
+                sb.append(' ');
+            }
+            sb.append(value.charAt(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Rejects streams that don't hold a valid, plain and uppercase creditor reference.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (value == null || scan(value) != value.length() || !value.equals(toPlainUpperCase(value, value.length()))) {
+            throw new InvalidObjectException("Invalid creditor reference.");
+        }
+        return this;
+    }
+}
@@ -22,13 +22,20 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Comparator;
-import java.util.regex.Pattern;
 
 /**
  * An immutable value type representing an International Bank Account Number. Instances of this class have correct
- * check digits and a valid length for their country code. No country-specific validation is performed, other than
- * matching the length of the IBAN to its country code. Unknown country codes are not supported.
+ * check digits and a known country code. By default, they also have a valid length for their country code, and no
+ * further country-specific validation is performed. Use {@link #parse(CharSequence, ValidationLevel)} to validate less
+ * or more strictly. Unknown country codes are not supported.
+ * <p>
+ * {@link #toString()} caches the pretty-printed form on first use. Applications that keep many IBANs in memory can
+ * set the system property {@code nl.garvelink.iban.IBAN.cachePretty} to {@code false} to turn this off, and use the
+ * {@code formatTo} methods to write formatted IBANs without creating intermediate strings.</p>
  * @author Barend Garvelink https://github.com/barend
  */
 public final class IBAN implements Serializable {
@@ -51,9 +58,27 @@ public final class IBAN implements Serializable {
     public static final int SHORTEST_POSSIBLE_IBAN = 5;
 
     /**
-     * Used to remove spaces
+     * Whether {@link #toString()} caches its result, see {@link #valuePretty}.
      */
-    private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
+    private static final boolean CACHE_PRETTY =
+        Boolean.parseBoolean(System.getProperty("nl.garvelink.iban.IBAN.cachePretty", "true"));
+
+    /**
+     * The check digits {@code "00"} to {@code "99"}, so that {@link #getCheckDigits()} doesn't allocate.
+     */
+    private static final String[] CHECK_DIGITS = new String[100];
+
+    /** The 64-bit FNV offset basis, see {@link #fingerprint64()}. */
+    private static final long FINGERPRINT_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /** The 64-bit FNV prime, see {@link #fingerprint64()}. */
+    private static final long FINGERPRINT_PRIME = 0x100000001b3L;
+
+    static {
+        for (int i = 0; i < CHECK_DIGITS.length; i++) {
+            CHECK_DIGITS[i] = (i < 10 ? "0" : "") + i;
+        }
+    }
 
     /**
      * IBAN value, normalized form (no whitespace).
@@ -61,26 +86,27 @@ public final class IBAN implements Serializable {
     private final String value;
 
     /**
-     * Whether or not this IBAN data is from the SWIFT IBAN Registry.
+     * The country this IBAN was validated against.
      */
-    private final boolean inSwiftRegistry;
+    private final IBANCountry country;
 
     /**
-     * Whether or not this IBAN is of a SEPA participating country.
+     * Pretty-printed value, lazily initialized unless {@link #CACHE_PRETTY} is false.
      */
-    private final boolean sepa;
+    private transient String valuePretty;
 
     /**
-     * Pretty-printed value, lazily initialized.
+     * The level of validation this IBAN has passed.
      */
-    private transient String valuePretty;
+    private final ValidationLevel validationLevel;
 
     /**
      * Initializing constructor.
      * @param value the IBAN value, without any white space.
+     * @param validationLevel the validation to perform.
      * @throws IllegalArgumentException if the input is null, malformed or otherwise fails validation.
      */
-    private IBAN(String value) {
+    private IBAN(String value, ValidationLevel validationLevel) {
         if (value == null) {
             throw new IBANParseException("Input is null", null);
         }
@@ -90,21 +116,106 @@ public final class IBAN implements Serializable {
         if (value.charAt(2) < '0' || value.charAt(2) > '9' || value.charAt(3) < '0' || value.charAt(3) > '9') {
             throw new IBANParseException("Characters at index 2 and 3 not both numeric.", value);
         }
-        final String countryCode = value.substring(0, 2);
-        final int expectedLength = CountryCodes.getLengthForCountryCode(countryCode);
-        if (expectedLength < 0) {
+        final IBANRegistry registry = IBANRegistry.current();
+        final int countryIndex = registry.indexOf(value.charAt(0), value.charAt(1));
+        if (countryIndex < 0) {
             throw new UnknownCountryCodeException(value);
         }
-        if (expectedLength != value.length()) {
-            throw new WrongLengthException(value, expectedLength);
+        final IBANCountry country = registry.countries[countryIndex];
+        if (validationLevel.includes(ValidationLevel.LENGTH) && country.getLength() != value.length()) {
+            throw new WrongLengthException(value, country.getLength());
+        }
+        final String structure = validationLevel.includes(ValidationLevel.STRUCTURE) ? country.bbanStructure : null;
+        final int checksum = checksum(value, structure);
+        if ((checksum & INVALID_CHARACTER) != 0) {
+            throw new IBANParseException("Invalid character '" + value.charAt(checksum & INDEX_MASK) + "'.", value);
         }
-        final int calculatedChecksum = Modulo97.checksum(value);
-        if (calculatedChecksum != 1) {
+        if ((checksum & INVALID_STRUCTURE) != 0) {
+            throw new WrongStructureException(value, checksum & INDEX_MASK);
+        }
+        if (checksum != 1) {
             throw new WrongChecksumException(value);
         }
+        if (validationLevel.includes(ValidationLevel.NATIONAL)
+                && !NationalCheckDigits.verify(country, value)) {
+            throw new WrongNationalCheckDigitsException(value);
+        }
+        this.value = value;
+        this.country = country;
+        this.validationLevel = validationLevel;
+    }
+
+    /**
+     * Constructor for values that have already been validated.
+     */
+    private IBAN(String value, IBANCountry country, ValidationLevel validationLevel) {
         this.value = value;
-        this.inSwiftRegistry = CountryCodes.isInSwiftRegistry(countryCode);
-        this.sepa = CountryCodes.isSEPACountry(countryCode);
+        this.country = country;
+        this.validationLevel = validationLevel;
+    }
+
+    /**
+     * Creates an IBAN from a value that has already passed validation, such as by {@link IBANView}.
+     * @param value a plain IBAN that is valid at {@code validationLevel}.
+     * @param country the country {@code value} was validated against.
+     * @param validationLevel the level {@code value} was validated at.
+     * @return the IBAN.
+     */
+    static IBAN validated(String value, IBANCountry country, ValidationLevel validationLevel) {
+        return new IBAN(value, country, validationLevel);
+    }
+
+    /**
+     * Flag in the result of {@link #checksum(CharSequence, String)} for a character outside {@code [A-Za-z0-9]}.
+     */
+    static final int INVALID_CHARACTER = 1 << 16;
+
+    /**
+     * Flag in the result of {@link #checksum(CharSequence, String)} for a BBAN character that doesn't match the
+     * structure.
+     */
+    static final int INVALID_STRUCTURE = 1 << 17;
+
+    /**
+     * Mask for the index of the offending character in the result of {@link #checksum(CharSequence, String)}.
+     */
+    static final int INDEX_MASK = 0xFFFF;
+
+    /**
+     * Calculates the MOD97 checksum of a plain IBAN in a single pass, optionally verifying the BBAN structure along
+     * the way. Unlike {@link Modulo97#checksum(CharSequence)}, this works on {@code int} arithmetic and doesn't allocate.
+     * @param value a plain IBAN, at least five characters long.
+     * @param structure the BBAN structure of the IBAN's country as per {@link IBANCountry#getBbanStructure()}, or
+     *                  null to skip the structure check. If not null, {@code value} must have the corresponding length.
+     * @return the MOD97 remainder, which is {@code 1} for a valid IBAN; or {@link #INVALID_CHARACTER} or
+     *         {@link #INVALID_STRUCTURE} combined with the index of the first offending character.
+     */
+    static int checksum(CharSequence value, String structure) {
+        final int length = value.length();
+        int remainder = 0;
+        for (int i = 4; i < length + 4; i++) {
+            final int index = i < length ? i : i - length;
+            final char c = value.charAt(index);
+            final int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'A' && c <= 'Z') {
+                digit = 10 + (c - 'A');
+            } else if (c >= 'a' && c <= 'z') {
+                digit = 10 + (c - 'a');
+            } else {
+                return INVALID_CHARACTER | index;
+            }
+            if (structure != null && index >= 4) {
+                final char type = structure.charAt(index - 4);
+                if ((type == 'n' && digit > 9) || (type == 'a' && (c < 'A' || c > 'Z'))) {
+                    return INVALID_STRUCTURE | index;
+                }
+            }
+            remainder = (digit > 9 ? remainder * 100 : remainder * 10) + digit;
+            remainder %= 97;
+        }
+        return remainder;
     }
 
     /**
@@ -115,13 +226,30 @@ public final class IBAN implements Serializable {
      * @see #valueOf(CharSequence)
      */
     public static IBAN parse(CharSequence input) {
+        return parse(input, ValidationLevel.LENGTH);
+    }
+
+    /**
+     * Parses the given string into an IBAN object, validating it to the given level.
+     * @param input the input, which can be either plain ("CC11ABCD123...") or formatted with (ASCII 0x20) space characters ("CC11 ABCD 123. ..").
+     * @param validationLevel the validation to perform. Cannot be null.
+     * @return the parsed and validated IBAN object, never null.
+     * @throws IllegalArgumentException if the input is null, malformed or otherwise fails validation.
+     * @throws NullPointerException if {@code validationLevel} is null.
+     * @see #getValidationLevel()
+     * @since 1.18.0
+     */
+    public static IBAN parse(CharSequence input, ValidationLevel validationLevel) {
+        if (validationLevel == null) {
+            throw new NullPointerException("validationLevel");
+        }
         if (input == null || input.length() == 0) {
             throw new IBANParseException("Input is null or empty string.", input);
         }
         if (!(isLetterOrDigit(input.charAt(0)) && isLetterOrDigit(input.charAt(input.length() - 1)))) {
             throw new IBANParseException("Input begins or ends in an invalid character.", input);
         }
-        return new IBAN(toPlain(input));
+        return new IBAN(toPlain(input), validationLevel);
     }
 
     /**
@@ -158,6 +286,61 @@ public final class IBAN implements Serializable {
         return parse(sb);
     }
 
+    /**
+     * Warms up the library, so that the first IBAN the application parses doesn't pay for class loading and static
+     * initialization.
+     * <p>
+     * This parses, formats and inspects a synthetic IBAN of every country in the current registry, through both
+     * {@link IBAN} and {@link IBANView}, and runs the common failure paths. It takes some tens of milliseconds, most of
+     * it loading classes; after it, the first call to {@link #parse(CharSequence)} takes microseconds. Call it during
+     * startup, such as in the static initializer of a serverless function, or in the training run of a class data
+     * sharing archive, which also takes most of the class loading out of startup; see {@code docs/cds.md}.</p>
+     * @since 1.18.0
+     */
+    public static void prime() {
+        final IBANRegistry registry = IBANRegistry.current();
+        final IBANView view = new IBANView();
+        // A loaded registry may have longer IBANs than the compiled-in one.
+        final StringBuilder sb = new StringBuilder(IBANRegistry.LONGEST_POSSIBLE_IBAN);
+        final byte[] bytes = new byte[IBANRegistry.LONGEST_POSSIBLE_IBAN];
+        for (IBANCountry country : registry.countries) {
+            sb.setLength(0);
+            sb.append(country.getCountryCode()).append("00");
+            final String structure = country.getBbanStructure();
+            for (int i = 0; i < structure.length(); i++) {
+                sb.append(structure.charAt(i) == 'a' ? (char) ('A' + i % 26) : (char) ('0' + i % 10));
+            }
+            final int checkDigits = 98 - checksum(sb, null);
+            sb.setCharAt(2, (char) ('0' + checkDigits / 10));
+            sb.setCharAt(3, (char) ('0' + checkDigits % 10));
+            final String value = sb.toString();
+            final IBAN iban = parse(toPretty(value), ValidationLevel.STRUCTURE);
+            iban.toString();
+            iban.getCheckDigits();
+            iban.isSEPA();
+            iban.hashCode();
+            IBANFields.getBankIdentifier(iban);
+            IBANFields.getBranchIdentifier(iban);
+            NationalCheckDigits.verify(country, value);
+            for (int i = 0; i < value.length(); i++) {
+                bytes[i] = (byte) value.charAt(i);
+            }
+            view.reset(bytes, 0, value.length(), ValidationLevel.NATIONAL);
+            view.reset(value, ValidationLevel.LENGTH);
+            view.toIBAN().equals(iban);
+            fingerprint64(value);
+        }
+        // The general MOD97 engine, used by compose().
+        Modulo97.verifyCheckDigits(sb);
+        for (String invalid : new String[] { "XX00", "ZZ00X", "GB00NWBK60161331926819" }) {
+            try {
+                parse(invalid);
+            } catch (IBANException e) {
+                // Expected; this loads the exception classes of the common failures.
+            }
+        }
+    }
+
     /**
      * @deprecated invoke {@link CountryCodes#getLengthForCountryCode(CharSequence)} instead.
      * @param countryCode the country code for which to return the length.
@@ -173,7 +356,7 @@ public final class IBAN implements Serializable {
      * @return the two-letter country code.
      */
     public String getCountryCode() {
-        return value.substring(0, 2);
+        return country.getCountryCode();
     }
 
     /**
@@ -181,7 +364,62 @@ public final class IBAN implements Serializable {
      * @return the two check digits.
      */
     public String getCheckDigits() {
-        return value.substring(2, 4);
+        return CHECK_DIGITS[(value.charAt(2) - '0') * 10 + (value.charAt(3) - '0')];
+    }
+
+    /**
+     * Returns the descriptor of the country this IBAN was validated against. It gives access to the country's format
+     * and to the offsets of the fields in {@link #toPlainString()}, without allocating.
+     * @return the country, never null.
+     * @since 1.18.0
+     */
+    public IBANCountry getCountry() {
+        return this.country;
+    }
+
+    /**
+     * Returns the basic bank account number, the part of the IBAN after the check digits.
+     * @return a view of the BBAN characters of {@link #toPlainString()}. The characters are not copied.
+     * @since 1.18.0
+     */
+    public CharSequence getBbanView() {
+        return new IBANSlice(value, 4, value.length());
+    }
+
+    /**
+     * Returns the bank identifier of this IBAN, if its country has one.
+     * @return a view of the bank identifier characters of {@link #toPlainString()}, or an empty sequence if not
+     *         available. The characters are not copied.
+     * @see IBANFields#getBankIdentifier(IBAN)
+     * @since 1.18.0
+     */
+    public CharSequence getBankIdentifierView() {
+        return view(country.getBankIdentifierBegin(), country.getBankIdentifierEnd());
+    }
+
+    /**
+     * Returns the branch identifier of this IBAN, if its country has one.
+     * @return a view of the branch identifier characters of {@link #toPlainString()}, or an empty sequence if not
+     *         available. The characters are not copied.
+     * @see IBANFields#getBranchIdentifier(IBAN)
+     * @since 1.18.0
+     */
+    public CharSequence getBranchIdentifierView() {
+        return view(country.getBranchIdentifierBegin(), country.getBranchIdentifierEnd());
+    }
+
+    /**
+     * Returns a view of the given component, or an empty sequence if the country doesn't have it.
+     */
+    CharSequence getComponentView(BbanComponent component) {
+        return view(country.getBegin(component), country.getEnd(component));
+    }
+
+    /**
+     * Returns a view of the given range of {@link #value}, or an empty sequence if the range is absent or doesn't fit.
+     */
+    private CharSequence view(int begin, int end) {
+        return begin > -1 && end <= value.length() ? new IBANSlice(value, begin, end) : "";
     }
 
     /**
@@ -189,7 +427,7 @@ public final class IBAN implements Serializable {
      * @return true if SEPA, false if non-SEPA.
      */
     public boolean isSEPA() {
-        return this.sepa;
+        return country.isSEPA();
     }
 
     /**
@@ -198,7 +436,18 @@ public final class IBAN implements Serializable {
      * @since 1.6.0
      */
     public boolean isInSwiftRegistry() {
-        return this.inSwiftRegistry;
+        return country.isInSwiftRegistry();
+    }
+
+    /**
+     * Returns the level of validation this IBAN has passed. Instances obtained through {@link #parse(CharSequence)},
+     * {@link #valueOf(CharSequence)} and {@link #compose(CharSequence, CharSequence)} are at
+     * {@link ValidationLevel#LENGTH}. The validation level is not considered in {@link #equals(Object)}.
+     * @return the validation level, never null.
+     * @since 1.18.0
+     */
+    public ValidationLevel getValidationLevel() {
+        return this.validationLevel;
     }
 
     /**
@@ -221,6 +470,76 @@ public final class IBAN implements Serializable {
         return value.hashCode();
     }
 
+    /**
+     * Returns a 64-bit hash of this IBAN for partitioning and sharding. Unlike {@link #hashCode()}, the algorithm is
+     * part of the public contract and will not change between versions:
+     * <ol>
+     *     <li>Start with {@code h = 0xcbf29ce484222325L}.</li>
+     *     <li>For each character {@code c} of the plain IBAN: {@code h ^= c; h *= 0x100000001b3L} (64-bit FNV-1a).</li>
+     *     <li>Finish with the MurmurHash3 {@code fmix64} step: {@code h ^= h >>> 33; h *= 0xff51afd7ed558ccdL;
+     *     h ^= h >>> 33; h *= 0xc4ceb9fe1a85ec53L; h ^= h >>> 33}.</li>
+     * </ol>
+     * @return the fingerprint.
+     * @see #fingerprint64(CharSequence)
+     * @see IBANPartitioner
+     */
+    public long fingerprint64() {
+        return fingerprint64(value);
+    }
+
+    /**
+     * Returns the {@link #fingerprint64()} of an IBAN without parsing it. ASCII spaces are skipped and lower case
+     * letters are treated as upper case, so that the plain, pretty and lower case forms of a valid IBAN give the same
+     * value as the parsed {@code IBAN}. The input is not validated.
+     * @param input the IBAN. Cannot be null.
+     * @return the fingerprint.
+     */
+    public static long fingerprint64(CharSequence input) {
+        long h = FINGERPRINT_OFFSET_BASIS;
+        for (int i = 0, length = input.length(); i < length; i++) {
+            char c = input.charAt(i);
+            if (c != ' ') {
+                h = (h ^ (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c)) * FINGERPRINT_PRIME;
+            }
+        }
+        return fmix64(h);
+    }
+
+    /**
+     * Returns the {@link #fingerprint64()} of an IBAN in a range of US-ASCII bytes, without parsing it. Treats its
+     * input like {@link #fingerprint64(CharSequence)}.
+     * @param source the bytes. Cannot be null.
+     * @param offset the index of the first byte of the IBAN.
+     * @param length the number of bytes.
+     * @return the fingerprint.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public static long fingerprint64(byte[] source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Offset " + offset + ", length " + length + ", array " + source.length);
+        }
+        long h = FINGERPRINT_OFFSET_BASIS;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int c = source[i] & 0xFF;
+            if (c != ' ') {
+                h = (h ^ (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c)) * FINGERPRINT_PRIME;
+            }
+        }
+        return fmix64(h);
+    }
+
+    /**
+     * The MurmurHash3 finalizer, which spreads every input bit over the whole result.
+     */
+    static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
     /**
      * Returns the IBAN in standard formatting, with a space every four characters.
      * @return the formatted IBAN number.
@@ -228,6 +547,9 @@ public final class IBAN implements Serializable {
      */
     @Override
     public String toString() {
+        if (!CACHE_PRETTY) {
+            return addSpaces(value);
+        }
         // This code is using a non-threadsafe (but still nullsafe) assignment. The addSpaces() operation is
         // idempotent, so no harm done if it happens to run more than once. I expect concurrent use to be rare.
         String vp = valuePretty;
@@ -237,6 +559,129 @@ public final class IBAN implements Serializable {
         return vp;
     }
 
+    /**
+     * Returns the number of characters that the {@code formatTo} methods write in the given format.
+     * @param format the output format. Cannot be null.
+     * @return the length of the formatted IBAN.
+     * @since 1.18.0
+     */
+    public int formattedLength(IBANFormat format) {
+        return format.length(value.length());
+    }
+
+    /**
+     * Appends this IBAN in the given format to the destination.
+     * @param destination the destination. Cannot be null.
+     * @param format the output format. Cannot be null.
+     * @throws IOException if the destination throws it.
+     * @since 1.18.0
+     */
+    public void formatTo(Appendable destination, IBANFormat format) throws IOException {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && (i & 3) == 0 && format.isGrouped()) {
+                destination.append(' ');
+            }
+            destination.append(format.charAt(value, i));
+        }
+    }
+
+    /**
+     * Appends this IBAN in the given format to the destination.
+     * @param destination the destination. Cannot be null.
+     * @param format the output format. Cannot be null.
+     * @return the destination.
+     * @since 1.18.0
+     */
+    public StringBuilder formatTo(StringBuilder destination, IBANFormat format) {
+        destination.ensureCapacity(destination.length() + formattedLength(format));
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && (i & 3) == 0 && format.isGrouped()) {
+                destination.append(' ');
+            }
+            destination.append(format.charAt(value, i));
+        }
+        return destination;
+    }
+
+    /**
+     * Writes this IBAN in the given format into the destination array.
+     * @param destination the destination. Cannot be null.
+     * @param offset the index in {@code destination} to write the first character to.
+     * @param format the output format. Cannot be null.
+     * @return the number of characters written, as per {@link #formattedLength(IBANFormat)}.
+     * @throws IndexOutOfBoundsException if the formatted IBAN doesn't fit. Nothing is written in that case.
+     * @since 1.18.0
+     */
+    public int formatTo(char[] destination, int offset, IBANFormat format) {
+        final int count = checkRange(destination.length, offset, format);
+        final int length = value.length();
+        int j = offset;
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && (i & 3) == 0 && format.isGrouped()) {
+                destination[j++] = ' ';
+            }
+            destination[j++] = format.charAt(value, i);
+        }
+        return count;
+    }
+
+    /**
+     * Writes this IBAN in the given format into the destination array as US-ASCII bytes.
+     * @param destination the destination. Cannot be null.
+     * @param offset the index in {@code destination} to write the first byte to.
+     * @param format the output format. Cannot be null.
+     * @return the number of bytes written, as per {@link #formattedLength(IBANFormat)}.
+     * @throws IndexOutOfBoundsException if the formatted IBAN doesn't fit. Nothing is written in that case.
+     * @since 1.18.0
+     */
+    public int formatTo(byte[] destination, int offset, IBANFormat format) {
+        final int count = checkRange(destination.length, offset, format);
+        final int length = value.length();
+        int j = offset;
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && (i & 3) == 0 && format.isGrouped()) {
+                destination[j++] = ' ';
+            }
+            destination[j++] = (byte) format.charAt(value, i);
+        }
+        return count;
+    }
+
+    /**
+     * Writes this IBAN in the given format into the destination buffer, advancing its position.
+     * @param destination the destination. Cannot be null.
+     * @param format the output format. Cannot be null.
+     * @throws BufferOverflowException if the formatted IBAN doesn't fit. Nothing is written in that case.
+     * @throws ReadOnlyBufferException if the destination is read-only.
+     * @since 1.18.0
+     */
+    public void formatTo(CharBuffer destination, IBANFormat format) {
+        if (destination.remaining() < formattedLength(format)) {
+            throw new BufferOverflowException();
+        }
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && (i & 3) == 0 && format.isGrouped()) {
+                destination.put(' ');
+            }
+            destination.put(format.charAt(value, i));
+        }
+    }
+
+    /**
+     * Checks that the formatted IBAN fits into an array of the given length at the given offset.
+     * @return the formatted length.
+     */
+    private int checkRange(int arrayLength, int offset, IBANFormat format) {
+        final int count = formattedLength(format);
+        if (offset < 0 || offset > arrayLength - count) {
+            throw new IndexOutOfBoundsException("Offset " + offset + ", length " + count + ", array " + arrayLength);
+        }
+        return count;
+    }
+
     /**
      * Returns whether the given character is in the {@code A-Za-z0-9} range.
      * This differs from {@link Character#isLetterOrDigit(char)} because it doesn't understand non-Western characters.
@@ -253,10 +698,25 @@ public final class IBAN implements Serializable {
      * @param input
      *         possibly pretty printed IBAN
      * @return plain IBAN
+     * @see IBANNormalizer
      */
     public static String toPlain(CharSequence input) {
-        // if SPACE_PATTERN is not found this returns input.toString();
-        return SPACE_PATTERN.matcher(input).replaceAll("");
+        final int length = input.length();
+        int i = 0;
+        while (i < length && input.charAt(i) != ' ') {
+            i++;
+        }
+        if (i == length) {
+            return input.toString();
+        }
+        final StringBuilder sb = new StringBuilder(length - 1).append(input, 0, i);
+        for (i++; i < length; i++) {
+            final char c = input.charAt(i);
+            if (c != ' ') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
     }
 
     /**
@@ -293,12 +753,12 @@ public final class IBAN implements Serializable {
 
     /**
      * When serializing this object, substitute a {@link Memento} object.
-     * @return a memento containing {@link #value}.
+     * @return a memento containing {@link #value} and {@link #validationLevel}.
      * @throws ObjectStreamException never.
      * @since 1.8.0
      */
     private Object writeReplace() throws ObjectStreamException {
-        return new Memento(this.toPlainString());
+        return new Memento(this.toPlainString(), this.validationLevel);
     }
 
     /**
@@ -343,21 +803,34 @@ public final class IBAN implements Serializable {
      */
     static final class Memento implements Externalizable {
         private static final long serialVersionUID = 1L;
+        /**
+         * The serial version written for IBANs at a {@link ValidationLevel} other than the default. IBANs at the
+         * default level are written in the version 1 form, so that older versions of this library can read them.
+         */
+        private static final long SERIAL_VERSION_WITH_LEVEL = 2L;
         private String value;
+        private ValidationLevel validationLevel = ValidationLevel.LENGTH;
 
         public Memento() {
             super();
         }
 
-        Memento(String value) {
+        Memento(String value, ValidationLevel validationLevel) {
             this();
             this.value = value;
+            this.validationLevel = validationLevel;
         }
 
         @Override
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeLong(serialVersionUID);
-            out.writeUTF(this.value);
+            if (validationLevel == ValidationLevel.LENGTH) {
+                out.writeLong(serialVersionUID);
+                out.writeUTF(this.value);
+            } else {
+                out.writeLong(SERIAL_VERSION_WITH_LEVEL);
+                out.writeUTF(this.value);
+                out.writeUTF(this.validationLevel.name());
+            }
         }
 
         @Override
@@ -365,6 +838,14 @@ public final class IBAN implements Serializable {
             long serialUID = in.readLong();
             if (serialUID == 1L) {
                 this.value = in.readUTF();
+            } else if (serialUID == SERIAL_VERSION_WITH_LEVEL) {
+                this.value = in.readUTF();
+                String level = in.readUTF();
+                try {
+                    this.validationLevel = ValidationLevel.valueOf(level);
+                } catch (IllegalArgumentException e) {
+                    throw new InvalidObjectException("Unsupported validation level: " + level);
+                }
             } else {
                 throw new InvalidObjectException("Unsupported serial version: " + serialUID);
             }
@@ -372,7 +853,7 @@ public final class IBAN implements Serializable {
 
         private Object readResolve() throws ObjectStreamException {
             try {
-                return IBAN.parse(this.value);
+                return IBAN.parse(this.value, this.validationLevel);
             } catch (IllegalArgumentException e) {
                 InvalidObjectException ioe = new InvalidObjectException(
                         "Cannot decode serialized form: " + e.getMessage());
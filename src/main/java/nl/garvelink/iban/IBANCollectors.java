@@ -0,0 +1,266 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Stream collectors that group IBANs by country without creating a key string or hash map entry per element.
+ * <pre>
+ * CountryCounter counts = ibans.parallelStream().collect(IBANCollectors.counting());
+ * IBANCountryMap&lt;Long&gt; volumes = payments.stream()
+ *     .collect(IBANCollectors.groupingBy(Payment::getIban, Collectors.summingLong(Payment::getAmount)));
+ * </pre>
+ * <p>
+ * The collectors use the registry that is in use when the stream starts collecting. Partial results of parallel
+ * streams are merged per array slot.</p>
+ * @since 1.18.0
+ */
+public final class IBANCollectors {
+
+    /**
+     * Returns a collector that counts IBANs per country.
+     * @return the collector.
+     */
+    public static Collector<IBAN, ?, CountryCounter> counting() {
+        return Collector.of(CountryCounter::new, CountryCounter::add, CountryCounter::addAll,
+            Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector that groups IBANs by country into lists.
+     * @return the collector.
+     */
+    public static Collector<IBAN, ?, IBANCountryMap<List<IBAN>>> groupingBy() {
+        return groupingBy(Function.identity(), Collectors.toList());
+    }
+
+    /**
+     * Returns a collector that groups IBANs by country and reduces each group with a downstream collector.
+     * @param downstream the collector for each group. Cannot be null.
+     * @param <A> the accumulation type of the downstream collector.
+     * @param <D> the result type of the downstream collector.
+     * @return the collector.
+     */
+    public static <A, D> Collector<IBAN, ?, IBANCountryMap<D>> groupingBy(Collector<? super IBAN, A, D> downstream) {
+        return groupingBy(Function.identity(), downstream);
+    }
+
+    /**
+     * Returns a collector that groups elements by the country of their IBAN and reduces each group with a downstream
+     * collector.
+     * @param classifier returns the IBAN of an element. Cannot be null.
+     * @param downstream the collector for each group. Cannot be null.
+     * @param <T> the element type.
+     * @param <A> the accumulation type of the downstream collector.
+     * @param <D> the result type of the downstream collector.
+     * @return the collector.
+     */
+    public static <T, A, D> Collector<T, ?, IBANCountryMap<D>> groupingBy(
+            Function<? super T, IBAN> classifier, Collector<? super T, A, D> downstream) {
+        final Supplier<A> supplier = downstream.supplier();
+        final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        final BinaryOperator<A> combiner = downstream.combiner();
+        final Function<A, D> finisher = downstream.finisher();
+        return Collector.<T, Groups<A>, IBANCountryMap<D>>of(
+            Groups::new,
+            (groups, element) -> {
+                final int index = groups.indexOf(classifier.apply(element).getCountry());
+                @SuppressWarnings("unchecked")
+                A container = (A) groups.containers[index];
+                if (container == null) {
+                    container = supplier.get();
+                    groups.containers[index] = container;
+                }
+                accumulator.accept(container, element);
+            },
+            (left, right) -> {
+                if (left.registry != right.registry) {
+                    throw new IllegalStateException("The registry in use changed during collection.");
+                }
+                for (int i = 0; i < left.containers.length; i++) {
+                    @SuppressWarnings("unchecked")
+                    final A l = (A) left.containers[i];
+                    @SuppressWarnings("unchecked")
+                    final A r = (A) right.containers[i];
+                    if (l == null) {
+                        left.containers[i] = r;
+                    } else if (r != null) {
+                        left.containers[i] = combiner.apply(l, r);
+                    }
+                }
+                return left;
+            },
+            groups -> {
+                final IBANCountryMap<D> map = new IBANCountryMap<>(groups.registry);
+                for (int i = 0; i < groups.containers.length; i++) {
+                    @SuppressWarnings("unchecked")
+                    final A container = (A) groups.containers[i];
+                    if (container != null) {
+                        map.setAt(i, finisher.apply(container));
+                    }
+                }
+                return map;
+            });
+    }
+
+    /**
+     * Returns a collector that partitions IBANs into SEPA ({@code true}) and non-SEPA ({@code false}) lists.
+     * @return the collector.
+     */
+    public static Collector<IBAN, ?, Map<Boolean, List<IBAN>>> partitioningBySEPA() {
+        return partitioningBySEPA(Collectors.toList());
+    }
+
+    /**
+     * Returns a collector that partitions IBANs into SEPA ({@code true}) and non-SEPA ({@code false}) groups and
+     * reduces each group with a downstream collector.
+     * @param downstream the collector for each group. Cannot be null.
+     * @param <A> the accumulation type of the downstream collector.
+     * @param <D> the result type of the downstream collector.
+     * @return the collector.
+     */
+    public static <A, D> Collector<IBAN, ?, Map<Boolean, D>> partitioningBySEPA(
+            Collector<? super IBAN, A, D> downstream) {
+        return Collectors.partitioningBy(IBAN::isSEPA, downstream);
+    }
+
+    /**
+     * Returns a collector that counts IBANs per bank. IBANs of countries without a bank identifier are not counted.
+     * @param dictionary the dictionary that assigns the bank ids. Cannot be null.
+     * @return the collector. Its result holds the count of bank id {@code i} at index {@code i}, for all ids that
+     *         the dictionary had assigned when the collector finished.
+     */
+    public static Collector<IBAN, ?, long[]> countingByBank(BankIdDictionary dictionary) {
+        return Collector.<IBAN, long[][], long[]>of(
+            () -> new long[][] { new long[64] },
+            (holder, iban) -> {
+                final int id = dictionary.intern(iban);
+                if (id > -1) {
+                    if (id >= holder[0].length) {
+                        holder[0] = Arrays.copyOf(holder[0], Math.max(holder[0].length * 2, id + 1));
+                    }
+                    holder[0][id]++;
+                }
+            },
+            (left, right) -> {
+                if (left[0].length < right[0].length) {
+                    long[][] swap = left;
+                    left = right;
+                    right = swap;
+                }
+                for (int i = 0; i < right[0].length; i++) {
+                    left[0][i] += right[0][i];
+                }
+                return left;
+            },
+            holder -> Arrays.copyOf(holder[0], dictionary.size()),
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector that groups elements by the bank of their IBAN and reduces each group with a downstream
+     * collector. Elements whose IBAN's country has no bank identifier are skipped.
+     * @param dictionary the dictionary that assigns the bank ids. Cannot be null.
+     * @param classifier returns the IBAN of an element. Cannot be null.
+     * @param downstream the collector for each group. Cannot be null.
+     * @param <T> the element type.
+     * @param <A> the accumulation type of the downstream collector.
+     * @param <D> the result type of the downstream collector.
+     * @return the collector. Its result holds the group of bank id {@code i} at index {@code i}, or null if no
+     *         element had that bank, for all ids that the dictionary had assigned when the collector finished.
+     */
+    public static <T, A, D> Collector<T, ?, List<D>> groupingByBank(BankIdDictionary dictionary,
+            Function<? super T, IBAN> classifier, Collector<? super T, A, D> downstream) {
+        final Supplier<A> supplier = downstream.supplier();
+        final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        final BinaryOperator<A> combiner = downstream.combiner();
+        final Function<A, D> finisher = downstream.finisher();
+        return Collector.<T, Object[][], List<D>>of(
+            () -> new Object[][] { new Object[64] },
+            (holder, element) -> {
+                final int id = dictionary.intern(classifier.apply(element));
+                if (id < 0) {
+                    return;
+                }
+                if (id >= holder[0].length) {
+                    holder[0] = Arrays.copyOf(holder[0], Math.max(holder[0].length * 2, id + 1));
+                }
+                @SuppressWarnings("unchecked")
+                A container = (A) holder[0][id];
+                if (container == null) {
+                    container = supplier.get();
+                    holder[0][id] = container;
+                }
+                accumulator.accept(container, element);
+            },
+            (left, right) -> {
+                if (left[0].length < right[0].length) {
+                    left[0] = Arrays.copyOf(left[0], right[0].length);
+                }
+                for (int i = 0; i < right[0].length; i++) {
+                    @SuppressWarnings("unchecked")
+                    final A l = (A) left[0][i];
+                    @SuppressWarnings("unchecked")
+                    final A r = (A) right[0][i];
+                    if (l == null) {
+                        left[0][i] = r;
+                    } else if (r != null) {
+                        left[0][i] = combiner.apply(l, r);
+                    }
+                }
+                return left;
+            },
+            holder -> {
+                final int size = dictionary.size();
+                final List<D> result = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    @SuppressWarnings("unchecked")
+                    final A container = i < holder[0].length ? (A) holder[0][i] : null;
+                    result.add(container == null ? null : finisher.apply(container));
+                }
+                return result;
+            });
+    }
+
+    /**
+     * The mutable container of {@link #groupingBy(Function, Collector)}: one downstream container per country.
+     */
+    private static final class Groups<A> {
+        final IBANRegistry registry = IBANRegistry.current();
+        final Object[] containers = new Object[registry.countries.length];
+
+        int indexOf(IBANCountry country) {
+            final int index = registry.indexOf(country);
+            if (index < 0) {
+                throw new IllegalArgumentException("Country " + country + " is not in the registry in use.");
+            }
+            return index;
+        }
+    }
+
+    /** Prevent instantiation of static utility class. */
+    private IBANCollectors() { }
+}
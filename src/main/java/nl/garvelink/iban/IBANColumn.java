@@ -0,0 +1,640 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A column of many IBANs stored as flat arrays, for batch processing.
+ * <p>
+ * The characters of all IBANs are kept in one {@code byte[]}, next to arrays with the offset, length and country
+ * index of each row. The bulk operations run over these arrays without creating an object per row, and return their
+ * results as a {@link BitSet} of row numbers or as primitive arrays. {@link #select(BitSet)} turns a row set back
+ * into a column.</p>
+ * <pre>
+ * IBANColumn column = IBANColumn.builder().addAll(lines).build();
+ * BitSet valid = column.validate(ValidationLevel.LENGTH);
+ * valid.and(column.filterSEPA());
+ * int[] perCountry = column.select(valid).countPerCountry();
+ * </pre>
+ * <p>
+ * The rows are stored as given. Country codes are resolved against the {@link IBANRegistry} that was current when
+ * the column was built, and all operations use that registry. Instances are immutable.</p>
+ * @since 1.18.0
+ */
+public final class IBANColumn {
+
+    /** The longest row that can be stored. */
+    private static final int MAX_ROW_LENGTH = 255;
+
+    private final IBANRegistry registry;
+    private final byte[] data;
+    private final int[] offsets;
+    private final byte[] lengths;
+    private final short[] countries;
+    private final int size;
+
+    private IBANColumn(IBANRegistry registry, byte[] data, int[] offsets, byte[] lengths, short[] countries,
+                       int size) {
+        this.registry = registry;
+        this.data = data;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.countries = countries;
+        this.size = size;
+    }
+
+    /**
+     * Returns a new builder.
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the registry that the country codes of this column were resolved against.
+     * @return the registry.
+     */
+    public IBANRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Returns the characters of a row.
+     * @param row the row number.
+     * @return the row as stored, which is not necessarily a valid IBAN.
+     * @throws IndexOutOfBoundsException if the row doesn't exist.
+     */
+    public String get(int row) {
+        checkRow(row);
+        return new AsciiSequence().reset(data, offsets[row], length(row)).toString();
+    }
+
+    /**
+     * Returns the number of characters of a row.
+     * @param row the row number.
+     * @return the length.
+     * @throws IndexOutOfBoundsException if the row doesn't exist.
+     */
+    public int length(int row) {
+        checkRow(row);
+        return lengths[row] & 0xFF;
+    }
+
+    /**
+     * Returns the country of a row.
+     * @param row the row number.
+     * @return the country, or null if the row doesn't start with a known country code.
+     * @throws IndexOutOfBoundsException if the row doesn't exist.
+     */
+    public IBANCountry getCountry(int row) {
+        checkRow(row);
+        return countries[row] < 0 ? null : registry.countries[countries[row]];
+    }
+
+    /**
+     * Returns whether a row has the same characters as the given IBAN.
+     * @param row the row number.
+     * @param iban the IBAN to compare with. Cannot be null.
+     * @return true if equal.
+     * @throws IndexOutOfBoundsException if the row doesn't exist.
+     */
+    public boolean matches(int row, IBAN iban) {
+        final String value = iban.toPlainString();
+        final int length = length(row);
+        if (value.length() != length) {
+            return false;
+        }
+        final int offset = offsets[row];
+        for (int i = 0; i < length; i++) {
+            if ((data[offset + i] & 0xFF) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a row into an {@link IBAN}.
+     * @param row the row number.
+     * @return the IBAN.
+     * @throws IndexOutOfBoundsException if the row doesn't exist.
+     * @throws IllegalArgumentException if the row is not a valid IBAN.
+     * @see IBAN#parse(CharSequence)
+     */
+    public IBAN toIBAN(int row) {
+        return IBAN.parse(get(row));
+    }
+
+    /**
+     * Validates every row.
+     * @param validationLevel the validation to perform. Cannot be null.
+     * @return the numbers of the rows that are valid.
+     */
+    public BitSet validate(ValidationLevel validationLevel) {
+        if (validationLevel == null) {
+            throw new NullPointerException("validationLevel");
+        }
+        final BitSet result = new BitSet(size);
+        final AsciiSequence value = new AsciiSequence();
+        for (int row = 0; row < size; row++) {
+            final int country = countries[row];
+            if (country < 0) {
+                continue;
+            }
+            value.reset(data, offsets[row], lengths[row] & 0xFF);
+            if (value.length() >= IBAN.SHORTEST_POSSIBLE_IBAN && isDigit(value.charAt(2)) && isDigit(value.charAt(3))
+                    && IBANView.validate(value, registry.countries[country], validationLevel)
+                        == IBANView.Result.VALID) {
+                result.set(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the rows of the given country.
+     * @param countryCode a two-letter, uppercase country code. Cannot be null.
+     * @return the numbers of the rows that start with the given country code; empty if the country is unknown.
+     */
+    public BitSet filterCountry(CharSequence countryCode) {
+        final BitSet result = new BitSet(size);
+        final int wanted = registry.indexOf(countryCode);
+        if (wanted > -1) {
+            for (int row = 0; row < size; row++) {
+                if (countries[row] == wanted) {
+                    result.set(row);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the rows of SEPA countries.
+     * @return the numbers of the rows that start with the country code of a SEPA country.
+     */
+    public BitSet filterSEPA() {
+        final boolean[] sepa = new boolean[registry.countries.length];
+        for (int i = 0; i < sepa.length; i++) {
+            sepa[i] = registry.countries[i].isSEPA();
+        }
+        final BitSet result = new BitSet(size);
+        for (int row = 0; row < size; row++) {
+            if (countries[row] > -1 && sepa[countries[row]]) {
+                result.set(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the rows per country.
+     * @return the number of rows of each country, in the order of {@link IBANRegistry#getKnownCountryCodes()} of
+     *         {@link #getRegistry()}. Rows with an unknown country code are not counted.
+     */
+    public int[] countPerCountry() {
+        final int[] counts = new int[registry.countries.length];
+        for (int row = 0; row < size; row++) {
+            if (countries[row] > -1) {
+                counts[countries[row]]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Extracts the bank identifier of every row into a dictionary-encoded column. Only one string is created per
+     * distinct bank.
+     * @return the bank identifiers.
+     */
+    public BankIdentifiers bankIdentifiers() {
+        final int[] codes = new int[size];
+        int[] table = new int[16];
+        int[] representatives = new int[16];
+        int distinct = 0;
+        for (int row = 0; row < size; row++) {
+            codes[row] = -1;
+            final int country = countries[row];
+            if (country < 0) {
+                continue;
+            }
+            final IBANCountry c = registry.countries[country];
+            if (!c.hasBankIdentifier() || c.getBankIdentifierEnd() > (lengths[row] & 0xFF)) {
+                continue;
+            }
+            final int hash = hashBank(row);
+            int slot = hash & (table.length - 1);
+            while (table[slot] != 0 && !sameBank(representatives[table[slot] - 1], row)) {
+                slot = (slot + 1) & (table.length - 1);
+            }
+            if (table[slot] != 0) {
+                codes[row] = table[slot] - 1;
+                continue;
+            }
+            if (distinct == representatives.length) {
+                representatives = Arrays.copyOf(representatives, distinct * 2);
+            }
+            codes[row] = distinct;
+            representatives[distinct++] = row;
+            table[slot] = distinct;
+            if (distinct * 2 > table.length) {
+                table = rehash(table.length * 2, representatives, distinct);
+            }
+        }
+        final short[] dictionaryCountries = new short[distinct];
+        final String[] dictionaryValues = new String[distinct];
+        final AsciiSequence value = new AsciiSequence();
+        for (int code = 0; code < distinct; code++) {
+            final int row = representatives[code];
+            final IBANCountry c = registry.countries[countries[row]];
+            dictionaryCountries[code] = countries[row];
+            dictionaryValues[code] = value.reset(data, offsets[row] + c.getBankIdentifierBegin(),
+                c.getBankIdentifierEnd() - c.getBankIdentifierBegin()).toString();
+        }
+        return new BankIdentifiers(registry, codes, dictionaryCountries, dictionaryValues);
+    }
+
+    private int hashBank(int row) {
+        final IBANCountry c = registry.countries[countries[row]];
+        int hash = countries[row];
+        for (int i = offsets[row] + c.getBankIdentifierBegin(), end = offsets[row] + c.getBankIdentifierEnd();
+                i < end; i++) {
+            hash = hash * 31 + data[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean sameBank(int a, int b) {
+        if (countries[a] != countries[b]) {
+            return false;
+        }
+        final IBANCountry c = registry.countries[countries[a]];
+        final int length = c.getBankIdentifierEnd() - c.getBankIdentifierBegin();
+        final int offsetA = offsets[a] + c.getBankIdentifierBegin();
+        final int offsetB = offsets[b] + c.getBankIdentifierBegin();
+        for (int i = 0; i < length; i++) {
+            if (data[offsetA + i] != data[offsetB + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] rehash(int capacity, int[] representatives, int distinct) {
+        final int[] table = new int[capacity];
+        for (int code = 0; code < distinct; code++) {
+            int slot = hashBank(representatives[code]) & (capacity - 1);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            table[slot] = code + 1;
+        }
+        return table;
+    }
+
+    /**
+     * Returns the row numbers in lexicographic order of the rows, per {@link IBAN#LEXICAL_ORDER}. The sort is stable.
+     * @return a permutation of the row numbers.
+     */
+    public int[] sortOrder() {
+        final int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, new int[size], 0, size);
+        return order;
+    }
+
+    /**
+     * Returns a column with the rows of this column in lexicographic order.
+     * @return the sorted column.
+     * @see #sortOrder()
+     */
+    public IBANColumn sorted() {
+        return select(sortOrder());
+    }
+
+    /**
+     * Returns a column with the given rows of this column.
+     * @param rows the row numbers to keep.
+     * @return a new column.
+     */
+    public IBANColumn select(BitSet rows) {
+        final int[] order = new int[rows.cardinality()];
+        int j = 0;
+        for (int row = rows.nextSetBit(0); row > -1 && row < size; row = rows.nextSetBit(row + 1)) {
+            order[j++] = row;
+        }
+        return select(j == order.length ? order : Arrays.copyOf(order, j));
+    }
+
+    private IBANColumn select(int[] order) {
+        int total = 0;
+        for (int row : order) {
+            total += lengths[row] & 0xFF;
+        }
+        final byte[] newData = new byte[total];
+        final int[] newOffsets = new int[order.length];
+        final byte[] newLengths = new byte[order.length];
+        final short[] newCountries = new short[order.length];
+        int offset = 0;
+        for (int i = 0; i < order.length; i++) {
+            final int row = order[i];
+            final int length = lengths[row] & 0xFF;
+            System.arraycopy(data, offsets[row], newData, offset, length);
+            newOffsets[i] = offset;
+            newLengths[i] = lengths[row];
+            newCountries[i] = countries[row];
+            offset += length;
+        }
+        return new IBANColumn(registry, newData, newOffsets, newLengths, newCountries, order.length);
+    }
+
+    private void mergeSort(int[] order, int[] scratch, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        mergeSort(order, scratch, from, mid);
+        mergeSort(order, scratch, mid, to);
+        if (compareRows(order[mid - 1], order[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(order, from, scratch, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && compareRows(scratch[i], scratch[j]) <= 0)) {
+                order[k] = scratch[i++];
+            } else {
+                order[k] = scratch[j++];
+            }
+        }
+    }
+
+    private int compareRows(int a, int b) {
+        final int lengthA = lengths[a] & 0xFF;
+        final int lengthB = lengths[b] & 0xFF;
+        final int length = Math.min(lengthA, lengthB);
+        final int offsetA = offsets[a];
+        final int offsetB = offsets[b];
+        for (int i = 0; i < length; i++) {
+            final int cmp = (data[offsetA + i] & 0xFF) - (data[offsetB + i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + ", size " + size);
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * The bank identifiers of a column, dictionary encoded: each row has an integer code, and each code stands for
+     * one combination of country and bank identifier.
+     */
+    public static final class BankIdentifiers {
+        private final IBANRegistry registry;
+        private final int[] codes;
+        private final short[] countries;
+        private final String[] values;
+
+        BankIdentifiers(IBANRegistry registry, int[] codes, short[] countries, String[] values) {
+            this.registry = registry;
+            this.codes = codes;
+            this.countries = countries;
+            this.values = values;
+        }
+
+        /**
+         * Returns the number of distinct banks.
+         * @return the dictionary size.
+         */
+        public int getDictionarySize() {
+            return values.length;
+        }
+
+        /**
+         * Returns the code of a row.
+         * @param row the row number.
+         * @return the code, or -1 if the row has no bank identifier.
+         * @throws IndexOutOfBoundsException if the row doesn't exist.
+         */
+        public int getCode(int row) {
+            return codes[row];
+        }
+
+        /**
+         * Returns the codes of all rows.
+         * @return a copy of the code column, with -1 for rows without a bank identifier.
+         */
+        public int[] getCodes() {
+            return codes.clone();
+        }
+
+        /**
+         * Returns the country code of the bank with the given code.
+         * @param code a code from {@link #getCode(int)}.
+         * @return the two-letter country code.
+         * @throws IndexOutOfBoundsException if the code is not in the dictionary.
+         */
+        public String getCountryCode(int code) {
+            return registry.countries[countries[code]].getCountryCode();
+        }
+
+        /**
+         * Returns the bank identifier with the given code.
+         * @param code a code from {@link #getCode(int)}.
+         * @return the bank identifier.
+         * @throws IndexOutOfBoundsException if the code is not in the dictionary.
+         */
+        public String getBankIdentifier(int code) {
+            return values[code];
+        }
+    }
+
+    /**
+     * Collects rows for an {@link IBANColumn}. The input is stored as given, except that ASCII spaces are removed
+     * and non-ASCII characters are stored as {@code '?'}, so that they fail validation. Instances are not thread
+     * safe.
+     */
+    public static final class Builder {
+        private byte[] data = new byte[1024];
+        private int[] offsets = new int[64];
+        private byte[] lengths = new byte[64];
+        private int size = 0;
+        private int end = 0;
+
+        Builder() {
+            super();
+        }
+
+        /**
+         * Adds a row.
+         * @param iban the IBAN, in plain or pretty format. Cannot be null.
+         * @return this builder.
+         * @throws IllegalArgumentException if the input is longer than 255 characters without spaces.
+         */
+        public Builder add(CharSequence iban) {
+            final int begin = beginRow(iban.length());
+            for (int i = 0; i < iban.length(); i++) {
+                final char c = iban.charAt(i);
+                if (c != ' ') {
+                    data[end++] = (byte) (c < 0x80 ? c : '?');
+                }
+            }
+            return endRow(begin);
+        }
+
+        /**
+         * Adds a row from a range of US-ASCII bytes.
+         * @param source the bytes. Cannot be null.
+         * @param offset the index of the first byte.
+         * @param length the number of bytes.
+         * @return this builder.
+         * @throws IllegalArgumentException if the input is longer than 255 characters without spaces.
+         * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+         */
+        public Builder add(byte[] source, int offset, int length) {
+            if (offset < 0 || length < 0 || offset > source.length - length) {
+                throw new IndexOutOfBoundsException(
+                    "Offset " + offset + ", length " + length + ", array " + source.length);
+            }
+            final int begin = beginRow(length);
+            for (int i = offset; i < offset + length; i++) {
+                final byte b = source[i];
+                if (b != ' ') {
+                    data[end++] = b >= 0 ? b : (byte) '?';
+                }
+            }
+            return endRow(begin);
+        }
+
+        /**
+         * Adds the remaining bytes of the buffer as one row, and advances its position to its limit.
+         * @param source the US-ASCII bytes. Cannot be null.
+         * @return this builder.
+         * @throws IllegalArgumentException if the input is longer than 255 characters without spaces.
+         */
+        public Builder add(ByteBuffer source) {
+            final int begin = beginRow(source.remaining());
+            while (source.hasRemaining()) {
+                final byte b = source.get();
+                if (b != ' ') {
+                    data[end++] = b >= 0 ? b : (byte) '?';
+                }
+            }
+            return endRow(begin);
+        }
+
+        /**
+         * Adds one row per line of the remaining bytes of the buffer, and advances its position to its limit. Lines
+         * end in {@code '\n'} or {@code "\r\n"}. Empty lines are skipped.
+         * @param source the US-ASCII bytes. Cannot be null.
+         * @return this builder.
+         * @throws IllegalArgumentException if a line is longer than 255 characters without spaces.
+         */
+        public Builder addLines(ByteBuffer source) {
+            while (source.hasRemaining()) {
+                int lineEnd = source.position();
+                while (lineEnd < source.limit() && source.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                int contentEnd = lineEnd;
+                if (contentEnd > source.position() && source.get(contentEnd - 1) == '\r') {
+                    contentEnd--;
+                }
+                if (contentEnd > source.position()) {
+                    ByteBuffer line = source.duplicate();
+                    line.limit(contentEnd);
+                    add(line);
+                }
+                source.position(Math.min(lineEnd + 1, source.limit()));
+            }
+            return this;
+        }
+
+        /**
+         * Adds a row for each of the given IBANs.
+         * @param ibans the IBANs, in plain or pretty format. Cannot be null.
+         * @return this builder.
+         * @throws IllegalArgumentException if an input is longer than 255 characters without spaces.
+         */
+        public Builder addAll(Iterable<? extends CharSequence> ibans) {
+            for (CharSequence iban : ibans) {
+                add(iban);
+            }
+            return this;
+        }
+
+        private int beginRow(int maxLength) {
+            if (end + maxLength > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, end + maxLength));
+            }
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            return end;
+        }
+
+        private Builder endRow(int begin) {
+            if (end - begin > MAX_ROW_LENGTH) {
+                end = begin;
+                throw new IllegalArgumentException("Row is longer than " + MAX_ROW_LENGTH + " characters.");
+            }
+            offsets[size] = begin;
+            lengths[size] = (byte) (end - begin);
+            size++;
+            return this;
+        }
+
+        /**
+         * Creates the column. The builder can be used further afterwards.
+         * @return the column.
+         */
+        public IBANColumn build() {
+            final IBANRegistry registry = IBANRegistry.current();
+            final short[] countries = new short[size];
+            for (int row = 0; row < size; row++) {
+                countries[row] = (short) ((lengths[row] & 0xFF) < 2 ? -1
+                    : registry.indexOf((char) data[offsets[row]], (char) data[offsets[row] + 1]));
+            }
+            return new IBANColumn(registry, Arrays.copyOf(data, end), Arrays.copyOf(offsets, size),
+                Arrays.copyOf(lengths, size), countries, size);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import static nl.garvelink.iban.CountryCodesData.BANK_IDENTIFIER_BEGIN_MASK;
+import static nl.garvelink.iban.CountryCodesData.BANK_IDENTIFIER_END_MASK;
+import static nl.garvelink.iban.CountryCodesData.BANK_IDENTIFIER_END_SHIFT;
+import static nl.garvelink.iban.CountryCodesData.BRANCH_IDENTIFIER_BEGIN_MASK;
+import static nl.garvelink.iban.CountryCodesData.BRANCH_IDENTIFIER_BEGIN_SHIFT;
+import static nl.garvelink.iban.CountryCodesData.BRANCH_IDENTIFIER_END_MASK;
+import static nl.garvelink.iban.CountryCodesData.BRANCH_IDENTIFIER_END_SHIFT;
+import static nl.garvelink.iban.CountryCodesData.REMOVE_METADATA_MASK;
+import static nl.garvelink.iban.CountryCodesData.SEPA;
+import static nl.garvelink.iban.CountryCodesData.SWIFT;
+
+/**
+ * Describes the IBAN format of one country in an {@link IBANRegistry}.
+ * <p>
+ * Every {@link IBAN} holds the descriptor of the country it was validated against, see {@link IBAN#getCountry()}.
+ * The field offsets are indices into the plain IBAN as returned by {@link IBAN#toPlainString()}, so that a field can
+ * be read in place, for example with {@link String#regionMatches(int, String, int, int)}.</p>
+ * <p>
+ * Instances are immutable. Each registry has its own set of descriptors.</p>
+ * @since 1.18.0
+ */
+public final class IBANCountry {
+
+    /** The position of this country in its registry's arrays. */
+    final int index;
+    private final String countryCode;
+    private final int length;
+    private final boolean sepa;
+    private final boolean inSwiftRegistry;
+    /** One character class per BBAN position, as per {@link IBANRegistry#bbanStructures}. */
+    final String bbanStructure;
+    private final int bankIdentifierBegin;
+    private final int bankIdentifierEnd;
+    private final int branchIdentifierBegin;
+    private final int branchIdentifierEnd;
+    /** Begin and end offset per {@link BbanComponent}, by ordinal, or -1 if absent. */
+    private final int[] componentBounds;
+    /** The national check digit algorithm, or null. */
+    final NationalCheckDigits.Kernel nationalCheck;
+
+    IBANCountry(int index, String countryCode, int countryData, int bankCodeBranchCode, int accountNumberCheckDigits,
+                int accountType, String bbanStructure) {
+        this.index = index;
+        this.countryCode = countryCode;
+        this.length = countryData & REMOVE_METADATA_MASK;
+        this.sepa = (countryData & SEPA) == SEPA;
+        this.inSwiftRegistry = (countryData & SWIFT) == SWIFT;
+        this.bbanStructure = bbanStructure;
+        int bankBegin = bankCodeBranchCode & BANK_IDENTIFIER_BEGIN_MASK;
+        int branchBegin = (bankCodeBranchCode & BRANCH_IDENTIFIER_BEGIN_MASK) >>> BRANCH_IDENTIFIER_BEGIN_SHIFT;
+        this.bankIdentifierBegin = bankBegin != 0 ? bankBegin : -1;
+        this.bankIdentifierEnd = bankBegin != 0
+            ? (bankCodeBranchCode & BANK_IDENTIFIER_END_MASK) >>> BANK_IDENTIFIER_END_SHIFT
+            : -1;
+        this.branchIdentifierBegin = branchBegin != 0 ? branchBegin : -1;
+        this.branchIdentifierEnd = branchBegin != 0
+            ? (bankCodeBranchCode & BRANCH_IDENTIFIER_END_MASK) >>> BRANCH_IDENTIFIER_END_SHIFT
+            : -1;
+        this.nationalCheck = NationalCheckDigits.kernelFor(countryCode, length);
+        this.componentBounds = new int[BbanComponent.values().length * 2];
+        setBounds(BbanComponent.BANK_IDENTIFIER, bankCodeBranchCode);
+        setBounds(BbanComponent.BRANCH_IDENTIFIER, bankCodeBranchCode >>> BRANCH_IDENTIFIER_BEGIN_SHIFT);
+        setBounds(BbanComponent.ACCOUNT_NUMBER, accountNumberCheckDigits);
+        setBounds(BbanComponent.NATIONAL_CHECK_DIGITS, accountNumberCheckDigits >>> BRANCH_IDENTIFIER_BEGIN_SHIFT);
+        setBounds(BbanComponent.ACCOUNT_TYPE, accountType);
+    }
+
+    /**
+     * Decodes a begin and end offset from the lower 16 bits of the given value, as laid out in
+     * {@link CountryCodesData#BANK_CODE_BRANCH_CODE}.
+     */
+    private void setBounds(BbanComponent component, int encoded) {
+        int begin = encoded & BANK_IDENTIFIER_BEGIN_MASK;
+        int end = (encoded & BANK_IDENTIFIER_END_MASK) >>> BANK_IDENTIFIER_END_SHIFT;
+        componentBounds[component.ordinal() * 2] = begin != 0 ? begin : -1;
+        componentBounds[component.ordinal() * 2 + 1] = begin != 0 ? end : -1;
+    }
+
+    /**
+     * Returns the country code.
+     * @return the two-letter, uppercase country code.
+     */
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    /**
+     * Returns the length of this country's IBANs.
+     * @return the IBAN length, including country code and check digits.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns whether this country participates in SEPA.
+     * @return true if SEPA, false if non-SEPA.
+     */
+    public boolean isSEPA() {
+        return sepa;
+    }
+
+    /**
+     * Returns whether the source for this country's format is the SWIFT IBAN Registry.
+     * @return true if from SWIFT IBAN Registry, false if from Experimental IBANs list.
+     */
+    public boolean isInSwiftRegistry() {
+        return inSwiftRegistry;
+    }
+
+    /**
+     * Returns the BBAN structure, with one character per BBAN position: {@code n} for a digit, {@code a} for an
+     * upper case letter and {@code c} for an upper case letter or a digit.
+     * @return the expanded BBAN structure, e.g. {@code "aaaannnnnnnnnn"} for the Netherlands.
+     */
+    public String getBbanStructure() {
+        return bbanStructure;
+    }
+
+    /**
+     * Returns whether this country's IBANs embed a bank identifier.
+     * @return true if {@link #getBankIdentifierBegin()} and {@link #getBankIdentifierEnd()} are available.
+     */
+    public boolean hasBankIdentifier() {
+        return bankIdentifierBegin > -1;
+    }
+
+    /**
+     * Returns the index of the first character of the bank identifier in the plain IBAN.
+     * @return the begin index (inclusive), or -1 if not available.
+     */
+    public int getBankIdentifierBegin() {
+        return bankIdentifierBegin;
+    }
+
+    /**
+     * Returns the index after the last character of the bank identifier in the plain IBAN.
+     * @return the end index (exclusive), or -1 if not available.
+     */
+    public int getBankIdentifierEnd() {
+        return bankIdentifierEnd;
+    }
+
+    /**
+     * Returns whether this country's IBANs embed a branch identifier.
+     * @return true if {@link #getBranchIdentifierBegin()} and {@link #getBranchIdentifierEnd()} are available.
+     */
+    public boolean hasBranchIdentifier() {
+        return branchIdentifierBegin > -1;
+    }
+
+    /**
+     * Returns the index of the first character of the branch identifier in the plain IBAN.
+     * @return the begin index (inclusive), or -1 if not available.
+     */
+    public int getBranchIdentifierBegin() {
+        return branchIdentifierBegin;
+    }
+
+    /**
+     * Returns the index after the last character of the branch identifier in the plain IBAN.
+     * @return the end index (exclusive), or -1 if not available.
+     */
+    public int getBranchIdentifierEnd() {
+        return branchIdentifierEnd;
+    }
+
+    /**
+     * Returns whether this country's IBANs embed the given component.
+     * @param component the component. Cannot be null.
+     * @return true if {@link #getBegin(BbanComponent)} and {@link #getEnd(BbanComponent)} are available.
+     */
+    public boolean has(BbanComponent component) {
+        return componentBounds[component.ordinal() * 2] > -1;
+    }
+
+    /**
+     * Returns the index of the first character of the given component in the plain IBAN.
+     * @param component the component. Cannot be null.
+     * @return the begin index (inclusive), or -1 if not available.
+     */
+    public int getBegin(BbanComponent component) {
+        return componentBounds[component.ordinal() * 2];
+    }
+
+    /**
+     * Returns the index after the last character of the given component in the plain IBAN.
+     * @param component the component. Cannot be null.
+     * @return the end index (exclusive), or -1 if not available.
+     */
+    public int getEnd(BbanComponent component) {
+        return componentBounds[component.ordinal() * 2 + 1];
+    }
+
+    @Override
+    public String toString() {
+        return countryCode;
+    }
+}
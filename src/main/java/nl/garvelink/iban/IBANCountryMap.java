@@ -0,0 +1,262 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map from country to value, backed by an array indexed by the country's position in an {@link IBANRegistry}.
+ * <p>
+ * Lookups and updates index the array directly, without hashing and without an entry object per key. Iteration is
+ * in alphabetical order of country code. A country descriptor from another registry, for example one that was
+ * installed earlier, is matched by its country code.</p>
+ * <p>
+ * Null values are not supported. Instances are not thread safe.</p>
+ * @param <V> the value type.
+ * @see IBANCollectors#groupingBy()
+ * @since 1.18.0
+ */
+public final class IBANCountryMap<V> extends AbstractMap<IBANCountry, V> {
+
+    private final IBANRegistry registry;
+    private final Object[] values;
+    private int size;
+
+    /**
+     * Creates an empty map for the countries of the registry in use.
+     */
+    public IBANCountryMap() {
+        this(IBANRegistry.current());
+    }
+
+    /**
+     * Creates an empty map for the countries of the given registry.
+     * @param registry the registry. Cannot be null.
+     */
+    public IBANCountryMap(IBANRegistry registry) {
+        this.registry = registry;
+        this.values = new Object[registry.countries.length];
+    }
+
+    /**
+     * Returns the registry whose countries this map holds.
+     * @return the registry.
+     */
+    public IBANRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Returns the value for the country of the given IBAN.
+     * @param iban the IBAN. Cannot be null.
+     * @return the value, or null if none.
+     */
+    public V get(IBAN iban) {
+        return valueAt(registry.indexOf(iban.getCountry()));
+    }
+
+    /**
+     * Returns the value for the given country code.
+     * @param countryCode a two-letter, uppercase country code. Cannot be null.
+     * @return the value, or null if none or if the country code is unknown.
+     */
+    public V getByCountryCode(CharSequence countryCode) {
+        return valueAt(registry.indexOf(countryCode));
+    }
+
+    @Override
+    public V get(Object key) {
+        return key instanceof IBANCountry ? valueAt(registry.indexOf((IBANCountry) key)) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associates a value with a country.
+     * @param key the country. Cannot be null.
+     * @param value the value. Cannot be null.
+     * @return the previous value, or null if none.
+     * @throws IllegalArgumentException if the registry of this map doesn't know the country.
+     */
+    @Override
+    public V put(IBANCountry key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        final int index = indexOf(key);
+        final V previous = valueAt(index);
+        values[index] = value;
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!(key instanceof IBANCountry)) {
+            return null;
+        }
+        final int index = registry.indexOf((IBANCountry) key);
+        final V previous = valueAt(index);
+        if (previous != null) {
+            values[index] = null;
+            size--;
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<IBANCountry, V>> entrySet() {
+        return new AbstractSet<Entry<IBANCountry, V>>() {
+            @Override
+            public Iterator<Entry<IBANCountry, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the array index of the given country.
+     * @throws IllegalArgumentException if the registry of this map doesn't know the country.
+     */
+    int indexOf(IBANCountry country) {
+        final int index = registry.indexOf(country);
+        if (index < 0) {
+            throw new IllegalArgumentException("Country " + country + " is not in the registry of this map.");
+        }
+        return index;
+    }
+
+    /**
+     * Stores a value at an array index, for the collectors. The index must be valid and the value non-null.
+     */
+    void setAt(int index, V value) {
+        if (values[index] == null) {
+            size++;
+        }
+        values[index] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return index < 0 ? null : (V) values[index];
+    }
+
+    private final class EntryIterator implements Iterator<Entry<IBANCountry, V>> {
+        private int next = advance(0);
+        private int last = -1;
+
+        private int advance(int from) {
+            int i = from;
+            while (i < values.length && values[i] == null) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        public Entry<IBANCountry, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return new Entry<IBANCountry, V>() {
+                private final int index = last;
+
+                @Override
+                public IBANCountry getKey() {
+                    return registry.countries[index];
+                }
+
+                @Override
+                public V getValue() {
+                    return valueAt(index);
+                }
+
+                @Override
+                public V setValue(V value) {
+                    if (value == null) {
+                        throw new NullPointerException("value");
+                    }
+                    final V previous = valueAt(index);
+                    values[index] = value;
+                    return previous;
+                }
+
+                @Override
+                public boolean equals(Object o) {
+                    if (!(o instanceof Map.Entry)) {
+                        return false;
+                    }
+                    Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                    return getKey().equals(e.getKey()) && getValue().equals(e.getValue());
+                }
+
+                @Override
+                public int hashCode() {
+                    return getKey().hashCode() ^ getValue().hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return getKey() + "=" + getValue();
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0 || values[last] == null) {
+                throw new IllegalStateException();
+            }
+            values[last] = null;
+            size--;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package nl.garvelink.iban;
 
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -59,6 +60,126 @@ public class IBANFields {
         return Optional.ofNullable(CountryCodes.getBranchIdentifier(iban));
     }
 
+    /**
+     * Returns the account number from the given IBAN, if available.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @return the account number for this IBAN, or <code>EMPTY</code> if unknown.
+     * @since 1.18.0
+     */
+    public static Optional<String> getAccountNumber(IBAN iban) {
+        return get(iban, BbanComponent.ACCOUNT_NUMBER);
+    }
+
+    /**
+     * Returns the national check digits from the given IBAN, if available. Countries whose check digits are spread
+     * over more than one place in the BBAN, like Croatia (HR) and Hungary (HU), return <code>EMPTY</code>.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @return the national check digits for this IBAN, or <code>EMPTY</code> if unknown.
+     * @see NationalCheckDigits
+     * @since 1.18.0
+     */
+    public static Optional<String> getNationalCheckDigits(IBAN iban) {
+        return get(iban, BbanComponent.NATIONAL_CHECK_DIGITS);
+    }
+
+    /**
+     * Returns the account type from the given IBAN, if available.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @return the account type for this IBAN, or <code>EMPTY</code> if unknown.
+     * @since 1.18.0
+     */
+    public static Optional<String> getAccountType(IBAN iban) {
+        return get(iban, BbanComponent.ACCOUNT_TYPE);
+    }
+
+    /**
+     * Returns the given component of the IBAN, if available.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @param component the component to return. Cannot be null.
+     * @return the component, or <code>EMPTY</code> if unknown.
+     * @since 1.18.0
+     */
+    public static Optional<String> get(IBAN iban, BbanComponent component) {
+        CharSequence view = iban.getComponentView(component);
+        return view.length() == 0 ? Optional.empty() : Optional.of(view.toString());
+    }
+
+    /**
+     * Returns the given component of the IBAN without copying it.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @param component the component to return. Cannot be null.
+     * @return a view of the component's characters in {@link IBAN#toPlainString()}, or an empty sequence if unknown.
+     * @since 1.18.0
+     */
+    public static CharSequence getView(IBAN iban, BbanComponent component) {
+        return iban.getComponentView(component);
+    }
+
+    /**
+     * Copies the given component of the IBAN into a char array.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @param component the component to copy. Cannot be null.
+     * @param destination the array to write to. Cannot be null.
+     * @param offset the index in {@code destination} to write the first character to.
+     * @return the number of characters written, or -1 if the component is unknown or runs past the end of an IBAN
+     * that was parsed without checking its length.
+     * @throws IndexOutOfBoundsException if the component doesn't fit in {@code destination}.
+     * @since 1.18.0
+     */
+    public static int copy(IBAN iban, BbanComponent component, char[] destination, int offset) {
+        IBANCountry country = iban.getCountry();
+        String value = iban.toPlainString();
+        int end = country.getEnd(component);
+        if (!country.has(component) || end > value.length()) {
+            return -1;
+        }
+        int begin = country.getBegin(component);
+        if (offset < 0 || offset > destination.length - (end - begin)) {
+            throw new IndexOutOfBoundsException(
+                "Offset " + offset + ", length " + (end - begin) + ", array " + destination.length);
+        }
+        value.getChars(begin, end, destination, offset);
+        return end - begin;
+    }
+
+    /**
+     * Copies the given component of each IBAN into one byte array, as US-ASCII, one after the other. The component
+     * of {@code ibans.get(i)} ends up in {@code destination[i == 0 ? 0 : ends[i - 1]]} up to {@code ends[i]}; an
+     * unknown component, or one that runs past the end of its IBAN, is written as an empty range.
+     * <pre>
+     * byte[] accounts = new byte[ibans.size() * IBANNormalizer.MAX_LENGTH];
+     * int[] ends = new int[ibans.size()];
+     * IBANFields.extractAll(ibans, BbanComponent.ACCOUNT_NUMBER, accounts, ends);
+     * </pre>
+     * @param ibans the IBANs to evaluate. Cannot be null.
+     * @param component the component to copy. Cannot be null.
+     * @param destination the array to write the characters to. Cannot be null.
+     * @param ends the array to write the end offset of each component to, at least as long as {@code ibans}.
+     * @return the number of bytes written.
+     * @throws IndexOutOfBoundsException if {@code destination} or {@code ends} is too small.
+     * @since 1.18.0
+     */
+    public static int extractAll(List<IBAN> ibans, BbanComponent component, byte[] destination, int[] ends) {
+        final int size = ibans.size();
+        if (ends.length < size) {
+            throw new IndexOutOfBoundsException("Size " + size + ", ends " + ends.length);
+        }
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            IBAN iban = ibans.get(i);
+            IBANCountry country = iban.getCountry();
+            String value = iban.toPlainString();
+            int end = country.getEnd(component);
+            if (country.has(component) && end <= value.length()) {
+                for (int j = country.getBegin(component); j < end; j++) {
+                    destination[position++] = (byte) value.charAt(j);
+                }
+            }
+            ends[i] = position;
+        }
+        return position;
+    }
+
     /** Prevent instantiation of static utility class. */
     private IBANFields() { }
 }
@@ -54,6 +54,49 @@ public class IBANFieldsCompat {
         return CountryCodes.getBranchIdentifier(iban);
     }
 
+    /**
+     * Returns the account number from the given IBAN, if available.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @return the account number for this IBAN, or null if unknown.
+     * @since 1.18.0
+     */
+    public static String getAccountNumber(IBAN iban) {
+        return get(iban, BbanComponent.ACCOUNT_NUMBER);
+    }
+
+    /**
+     * Returns the national check digits from the given IBAN, if available.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @return the national check digits for this IBAN, or null if unknown.
+     * @see IBANFields#getNationalCheckDigits(IBAN)
+     * @since 1.18.0
+     */
+    public static String getNationalCheckDigits(IBAN iban) {
+        return get(iban, BbanComponent.NATIONAL_CHECK_DIGITS);
+    }
+
+    /**
+     * Returns the account type from the given IBAN, if available.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @return the account type for this IBAN, or null if unknown.
+     * @since 1.18.0
+     */
+    public static String getAccountType(IBAN iban) {
+        return get(iban, BbanComponent.ACCOUNT_TYPE);
+    }
+
+    /**
+     * Returns the given component of the IBAN, if available.
+     * @param iban an iban to evaluate. Cannot be null.
+     * @param component the component to return. Cannot be null.
+     * @return the component, or null if unknown.
+     * @since 1.18.0
+     */
+    public static String get(IBAN iban, BbanComponent component) {
+        CharSequence view = iban.getComponentView(component);
+        return view.length() == 0 ? null : view.toString();
+    }
+
     /** Prevent instantiation of static utility class. */
     private IBANFieldsCompat() { }
 }
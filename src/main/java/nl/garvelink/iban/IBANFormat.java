@@ -0,0 +1,57 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * The output forms of {@link IBAN#formatTo(Appendable, IBANFormat)} and its overloads.
+ * @since 1.18.0
+ */
+public enum IBANFormat {
+    /**
+     * The electronic format, without spaces, as returned by {@link IBAN#toPlainString()}.
+     */
+    ELECTRONIC,
+    /**
+     * The print format, with a space every four characters, as returned by {@link IBAN#toString()}.
+     */
+    PRINT,
+    /**
+     * The print format with every character except the country code and the last four characters replaced by
+     * {@code '*'}, for use in logs. For example, {@code "NL** **** **** **43 00"}.
+     */
+    MASKED;
+
+    /**
+     * Returns whether this format groups the characters in blocks of four.
+     */
+    boolean isGrouped() {
+        return this != ELECTRONIC;
+    }
+
+    /**
+     * Returns the length of an IBAN of the given length in this format.
+     */
+    int length(int plainLength) {
+        return isGrouped() ? plainLength + (plainLength - 1) / 4 : plainLength;
+    }
+
+    /**
+     * Returns the output character for the given position of a plain IBAN, without the grouping.
+     */
+    char charAt(String plain, int index) {
+        return this == MASKED && index >= 2 && index < plain.length() - 4 ? '*' : plain.charAt(index);
+    }
+}
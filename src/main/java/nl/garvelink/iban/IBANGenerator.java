@@ -0,0 +1,324 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates the IBANs of a range of consecutive account numbers.
+ * <p>
+ * The BBAN of each IBAN is a fixed prefix, such as a bank code, followed by the account number, zero-padded to fill
+ * the rest of the BBAN. Because the MOD 97 checksum is linear, the check digits of the next account number follow
+ * from those of the previous one with a single addition, so that generating an IBAN costs no more than writing its
+ * characters.</p>
+ * <pre>
+ * IBANGenerator range = IBANGenerator.range("NL", "ABNA", 0L, 9_999_999L);
+ * range.stream().parallel().forEach(ledger::open);
+ * range.writeTo(outputStream);
+ * </pre>
+ * <p>
+ * The generated IBANs are valid at the {@link ValidationLevel#STRUCTURE} level. National check digits are not
+ * computed, so most account numbers in a country with national check digits fail {@link ValidationLevel#NATIONAL}.
+ * Instances are immutable and thread safe.</p>
+ * @since 1.18.0
+ */
+public final class IBANGenerator {
+
+    /** 10^6 mod 97: the change in remainder when the account number goes up by one. */
+    private static final int STEP = 27;
+
+    private final IBANCountry country;
+    private final String prefix;
+    private final int accountDigits;
+    /** The remainder of the IBAN with account number zero and check digits "00". */
+    private final int baseRemainder;
+    private final long fromAccount;
+    private final long toAccount;
+
+    private IBANGenerator(IBANCountry country, String prefix, int accountDigits, int baseRemainder,
+                          long fromAccount, long toAccount) {
+        this.country = country;
+        this.prefix = prefix;
+        this.accountDigits = accountDigits;
+        this.baseRemainder = baseRemainder;
+        this.fromAccount = fromAccount;
+        this.toAccount = toAccount;
+    }
+
+    /**
+     * Returns a generator for the given range of account numbers.
+     * @param countryCode a two-letter, uppercase country code. Cannot be null.
+     * @param bankPrefix the BBAN characters before the account number, such as the bank code. Cannot be null.
+     * @param fromAccount the first account number (inclusive).
+     * @param toAccount the last account number (inclusive), less than {@link Long#MAX_VALUE}.
+     * @return the generator.
+     * @throws IllegalArgumentException if the country is unknown, if the prefix doesn't match the country's BBAN
+     *         structure, if the rest of the BBAN is not numeric, or if the range is empty or doesn't fit.
+     */
+    public static IBANGenerator range(String countryCode, String bankPrefix, long fromAccount, long toAccount) {
+        final IBANCountry country = IBANRegistry.current().getCountry(countryCode)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown country code: " + countryCode));
+        final String structure = country.bbanStructure;
+        final int accountDigits = structure.length() - bankPrefix.length();
+        if (accountDigits < 1) {
+            throw new IllegalArgumentException("Prefix " + bankPrefix + " leaves no room for an account number.");
+        }
+        for (int i = 0; i < structure.length(); i++) {
+            final char expected = structure.charAt(i);
+            if (i < bankPrefix.length() ? !matches(bankPrefix.charAt(i), expected) : expected != 'n') {
+                throw new IllegalArgumentException("Prefix " + bankPrefix + " doesn't match the BBAN structure of "
+                    + countryCode + " at position " + i + ".");
+            }
+        }
+        // The streams end at toAccount + 1, so Long.MAX_VALUE can't be the last account number.
+        if (fromAccount < 0 || fromAccount > toAccount || toAccount == Long.MAX_VALUE
+                || (accountDigits < 19 && toAccount >= pow10(accountDigits))) {
+            throw new IllegalArgumentException("Invalid range " + fromAccount + ".." + toAccount + " for "
+                + accountDigits + " digit account numbers.");
+        }
+        int remainder = 0;
+        for (int i = 0; i < bankPrefix.length(); i++) {
+            remainder = append(remainder, bankPrefix.charAt(i));
+        }
+        for (int i = 0; i < accountDigits; i++) {
+            remainder = remainder * 10 % 97;
+        }
+        remainder = append(remainder, countryCode.charAt(0));
+        remainder = append(remainder, countryCode.charAt(1));
+        remainder = remainder * 100 % 97;
+        return new IBANGenerator(country, bankPrefix, accountDigits, remainder, fromAccount, toAccount);
+    }
+
+    private static boolean matches(char c, char characterClass) {
+        final boolean digit = c >= '0' && c <= '9';
+        final boolean letter = c >= 'A' && c <= 'Z';
+        switch (characterClass) {
+            case 'n':
+                return digit;
+            case 'a':
+                return letter;
+            default:
+                return digit || letter;
+        }
+    }
+
+    private static int append(int remainder, char c) {
+        return c <= '9' ? (remainder * 10 + c - '0') % 97 : (remainder * 100 + c - 'A' + 10) % 97;
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1L;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10L;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of IBANs in this range.
+     * @return the size.
+     */
+    public long size() {
+        return Math.addExact(toAccount - fromAccount, 1L);
+    }
+
+    /**
+     * Returns the IBAN of an account number in this range.
+     * @param account the account number.
+     * @return the IBAN.
+     * @throws IllegalArgumentException if the account number is outside this range.
+     */
+    public IBAN get(long account) {
+        if (account < fromAccount || account > toAccount) {
+            throw new IllegalArgumentException("Account " + account + " is outside " + this);
+        }
+        final Cursor cursor = new Cursor(account);
+        return cursor.toIBAN();
+    }
+
+    /**
+     * Splits this range into consecutive sub-ranges of about equal size, for example to generate them on different
+     * machines.
+     * @param parts the number of sub-ranges, at least one.
+     * @return the sub-ranges, fewer than {@code parts} if this range is smaller than that.
+     */
+    public List<IBANGenerator> split(int parts) {
+        if (parts < 1) {
+            throw new IllegalArgumentException("At least one part is required, got " + parts);
+        }
+        final List<IBANGenerator> result = new ArrayList<>(parts);
+        final long size = size();
+        long from = fromAccount;
+        for (int i = 0; i < parts && from <= toAccount; i++) {
+            final long count = size / parts + (i < size % parts ? 1 : 0);
+            final long to = from + count - 1;
+            result.add(new IBANGenerator(country, prefix, accountDigits, baseRemainder, from, to));
+            from = to + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the IBANs of this range, in order of account number. The stream can be made parallel; each thread then
+     * generates its own sub-range incrementally.
+     * @return the stream.
+     */
+    public Stream<IBAN> stream() {
+        return StreamSupport.stream(new RangeSpliterator(fromAccount, toAccount + 1), false);
+    }
+
+    /**
+     * Writes the IBANs of this range in plain format, one per line ({@code '\n'}), as US-ASCII. No objects are
+     * created per IBAN. The stream is not closed.
+     * @param out the stream to write to. Cannot be null.
+     * @throws IOException if writing fails.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        final int lineLength = country.getLength() + 1;
+        final byte[] buffer = new byte[Math.max(1, 65536 / lineLength) * lineLength];
+        final Cursor cursor = new Cursor(fromAccount);
+        int position = 0;
+        for (long account = fromAccount; ; account++) {
+            cursor.copyTo(buffer, position);
+            buffer[position + lineLength - 1] = '\n';
+            position += lineLength;
+            if (position == buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+            if (account == toAccount) {
+                break;
+            }
+            cursor.increment();
+        }
+        out.write(buffer, 0, position);
+    }
+
+    @Override
+    public String toString() {
+        return "IBANGenerator(" + country.getCountryCode() + " " + prefix + " " + fromAccount + ".." + toAccount + ")";
+    }
+
+    /**
+     * The characters and remainder of one IBAN in the range, updated in place.
+     */
+    private final class Cursor {
+        private final char[] chars = new char[country.getLength()];
+        private int remainder;
+
+        Cursor(long account) {
+            final String countryCode = country.getCountryCode();
+            chars[0] = countryCode.charAt(0);
+            chars[1] = countryCode.charAt(1);
+            prefix.getChars(0, prefix.length(), chars, 4);
+            long rest = account;
+            for (int i = chars.length - 1; i >= chars.length - accountDigits; i--) {
+                chars[i] = (char) ('0' + rest % 10);
+                rest /= 10;
+            }
+            // (account * 10^6) mod 97, computed without overflow.
+            remainder = (int) (account % 97 * STEP % 97);
+            remainder = (remainder + baseRemainder) % 97;
+            setCheckDigits();
+        }
+
+        void increment() {
+            int i = chars.length - 1;
+            while (chars[i] == '9') {
+                chars[i--] = '0';
+            }
+            chars[i]++;
+            remainder += STEP;
+            if (remainder >= 97) {
+                remainder -= 97;
+            }
+            setCheckDigits();
+        }
+
+        private void setCheckDigits() {
+            final int checkDigits = 98 - remainder;
+            chars[2] = (char) ('0' + checkDigits / 10);
+            chars[3] = (char) ('0' + checkDigits % 10);
+        }
+
+        IBAN toIBAN() {
+            return IBAN.validated(new String(chars), country, ValidationLevel.STRUCTURE);
+        }
+
+        void copyTo(byte[] destination, int offset) {
+            for (int i = 0; i < chars.length; i++) {
+                destination[offset + i] = (byte) chars[i];
+            }
+        }
+    }
+
+    /**
+     * Generates a sub-range incrementally; splits in halves for parallel streams.
+     */
+    private final class RangeSpliterator implements Spliterator<IBAN> {
+        private long next;
+        private final long end;
+        private Cursor cursor;
+
+        RangeSpliterator(long next, long end) {
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IBAN> action) {
+            if (next >= end) {
+                return false;
+            }
+            if (cursor == null) {
+                cursor = new Cursor(next);
+            } else {
+                cursor.increment();
+            }
+            next++;
+            action.accept(cursor.toIBAN());
+            return true;
+        }
+
+        @Override
+        public Spliterator<IBAN> trySplit() {
+            if (cursor != null || end - next < 1024) {
+                return null;
+            }
+            final long mid = next + (end - next) / 2;
+            final RangeSpliterator prefixPart = new RangeSpliterator(next, mid);
+            next = mid;
+            return prefixPart;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - next;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+        }
+    }
+}
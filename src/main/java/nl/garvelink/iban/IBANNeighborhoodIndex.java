@@ -0,0 +1,299 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable index of known IBANs that finds the ones within one typo of a candidate: one substituted, inserted
+ * or deleted character, or two swapped adjacent characters (restricted Damerau-Levenshtein distance 1).
+ * <p>
+ * The index uses pigeonhole partitioning. A single typo leaves either the first half or the second half of an IBAN
+ * intact; the second half is aligned to the end, so that an insertion or deletion in the first half doesn't shift
+ * it. Every known IBAN is indexed by a hash of each half. A query probes both halves, for the three possible lengths
+ * of a known IBAN, and verifies the candidates byte by byte. Candidates are never parsed into {@link IBAN} objects.
+ * </p>
+ * <pre>
+ * IBANNeighborhoodIndex trusted = IBANNeighborhoodIndex.of(trustedBeneficiaries);
+ * if (trusted.find(newBeneficiary, false).length &gt; 0) {
+ *     flagForReview(newBeneficiary);
+ * }
+ * </pre>
+ * <p>
+ * Memory is fixed at build time: the IBANs as packed US-ASCII with an {@code int} offset each, plus two
+ * {@code long} keys each, about 45 bytes per IBAN in total. The keys are computed and sorted in parallel. Instances
+ * are immutable and thread safe.</p>
+ * @since 1.18.0
+ */
+public final class IBANNeighborhoodIndex {
+
+    /** The number of low bits of a key that hold the row; the rest holds the hash. */
+    private static final int ROW_BITS = 27;
+
+    private static final long ROW_MASK = (1L << ROW_BITS) - 1;
+
+    /** The largest number of IBANs in an index. */
+    public static final int MAX_SIZE = 1 << ROW_BITS;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** The known IBANs, in the order they were given. */
+    private final byte[] data;
+    /** Row {@code r} runs from {@code offsets[r]} to {@code offsets[r + 1]}. */
+    private final int[] offsets;
+    /** Two keys per row, {@code hash << ROW_BITS | row}, sorted. */
+    private final long[] keys;
+    private final int size;
+
+    private IBANNeighborhoodIndex(byte[] data, int[] offsets, long[] keys, int size) {
+        this.data = data;
+        this.offsets = offsets;
+        this.keys = keys;
+        this.size = size;
+    }
+
+    /**
+     * Returns an index of the given IBANs.
+     * @param ibans the known IBANs. Cannot be null or contain null.
+     * @return the index.
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} IBANs.
+     */
+    public static IBANNeighborhoodIndex of(Collection<IBAN> ibans) {
+        final List<String> values = new ArrayList<>(ibans.size());
+        for (IBAN iban : ibans) {
+            values.add(iban.toPlainString());
+        }
+        return build(values);
+    }
+
+    /**
+     * Returns an index of the rows of a column, valid or not.
+     * @param column the known IBANs. Cannot be null.
+     * @return the index, whose rows are those of the column.
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} rows.
+     */
+    public static IBANNeighborhoodIndex of(IBANColumn column) {
+        final List<String> values = new ArrayList<>(column.size());
+        for (int row = 0; row < column.size(); row++) {
+            values.add(column.get(row));
+        }
+        return build(values);
+    }
+
+    private static IBANNeighborhoodIndex build(List<String> values) {
+        final int size = values.size();
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_SIZE + " IBANs, got " + size);
+        }
+        final int[] offsets = new int[size + 1];
+        for (int row = 0; row < size; row++) {
+            offsets[row + 1] = Math.addExact(offsets[row], values.get(row).length());
+        }
+        final byte[] data = new byte[offsets[size]];
+        final long[] keys = new long[2 * size];
+        IntStream.range(0, size).parallel().forEach(row -> {
+            final String value = values.get(row);
+            final int begin = offsets[row];
+            for (int i = 0; i < value.length(); i++) {
+                // In upper case, like the queries: IBAN.parse keeps lowercase letters in the BBAN.
+                final char c = value.charAt(i);
+                data[begin + i] = (byte) (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c);
+            }
+            final int length = value.length();
+            keys[2 * row] = prefixHash(data, begin, length) << ROW_BITS | row;
+            keys[2 * row + 1] = suffixHash(data, begin, length, length) << ROW_BITS | row;
+        });
+        Arrays.parallelSort(keys);
+        return new IBANNeighborhoodIndex(data, offsets, keys, size);
+    }
+
+    /**
+     * Returns the hash of the first half of a known IBAN of the given length, taken from the start.
+     */
+    private static long prefixHash(byte[] source, int begin, int knownLength) {
+        return hash(source, begin, begin + (knownLength - 1) / 2, knownLength << 1);
+    }
+
+    /**
+     * Returns the hash of the second half of a known IBAN of the given length, taken from the end of the range.
+     */
+    private static long suffixHash(byte[] source, int begin, int length, int knownLength) {
+        final int end = begin + length;
+        return hash(source, end - (knownLength - 1 - (knownLength - 1) / 2), end, knownLength << 1 | 1);
+    }
+
+    private static long hash(byte[] source, int begin, int end, int salt) {
+        long h = (FNV_OFFSET_BASIS ^ salt) * FNV_PRIME;
+        for (int i = begin; i < end; i++) {
+            h = (h ^ (source[i] & 0xFF)) * FNV_PRIME;
+        }
+        return IBAN.fmix64(h) >>> ROW_BITS;
+    }
+
+    /**
+     * Returns the number of IBANs in this index.
+     * @return the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a known IBAN.
+     * @param row the row, from {@code 0} to {@link #size()}.
+     * @return the IBAN, in plain format and upper case.
+     */
+    public String get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + ", size " + size);
+        }
+        return new String(data, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the known IBANs within one typo of the candidate.
+     * @param candidate the candidate IBAN. Spaces are ignored and lowercase letters match their uppercase forms.
+     *                  Cannot be null.
+     * @param includeExact whether to include known IBANs equal to the candidate.
+     * @return the rows of the matching IBANs, in ascending order.
+     */
+    public int[] find(CharSequence candidate, boolean includeExact) {
+        final byte[] query = normalize(candidate);
+        int[] rows = new int[4];
+        int count = 0;
+        for (int knownLength = query.length - 1; knownLength <= query.length + 1; knownLength++) {
+            if (knownLength < 1) {
+                continue;
+            }
+            for (int kind = 0; kind < 2; kind++) {
+                final long hash = kind == 0
+                    ? prefixHash(query, 0, knownLength)
+                    : suffixHash(query, 0, query.length, knownLength);
+                for (int i = lowerBound(hash << ROW_BITS); i < keys.length && keys[i] >>> ROW_BITS == hash; i++) {
+                    final int row = (int) (keys[i] & ROW_MASK);
+                    if (offsets[row + 1] - offsets[row] != knownLength) {
+                        continue;
+                    }
+                    final int distance = distance(row, query);
+                    if (distance == 1 || (distance == 0 && includeExact)) {
+                        if (count == rows.length) {
+                            rows = Arrays.copyOf(rows, count * 2);
+                        }
+                        rows[count++] = row;
+                    }
+                }
+            }
+        }
+        // A row can be found through both halves.
+        Arrays.sort(rows, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || rows[unique - 1] != rows[i]) {
+                rows[unique++] = rows[i];
+            }
+        }
+        return Arrays.copyOf(rows, unique);
+    }
+
+    /**
+     * Returns the known IBANs within one typo of the candidate, excluding exact matches.
+     * @param candidate the candidate IBAN, see {@link #find(CharSequence, boolean)}. Cannot be null.
+     * @return the matching IBANs, in plain format.
+     */
+    public List<String> findNeighbors(CharSequence candidate) {
+        final int[] rows = find(candidate, false);
+        final List<String> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(get(row));
+        }
+        return result;
+    }
+
+    private static byte[] normalize(CharSequence candidate) {
+        final byte[] result = new byte[candidate.length()];
+        int length = 0;
+        for (int i = 0; i < candidate.length(); i++) {
+            char c = candidate.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            }
+            result[length++] = c < 0x80 ? (byte) c : (byte) '?';
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the restricted Damerau-Levenshtein distance between a row and the query, capped at 2.
+     */
+    private int distance(int row, byte[] query) {
+        final int begin = offsets[row];
+        final int length = offsets[row + 1] - begin;
+        int i = 0;
+        final int common = Math.min(length, query.length);
+        while (i < common && data[begin + i] == query[i]) {
+            i++;
+        }
+        if (length == query.length) {
+            if (i == length) {
+                return 0;
+            }
+            if (equal(begin + i + 1, query, i + 1, length - i - 1)) {
+                return 1;
+            }
+            return i + 1 < length && data[begin + i] == query[i + 1] && data[begin + i + 1] == query[i]
+                && equal(begin + i + 2, query, i + 2, length - i - 2) ? 1 : 2;
+        }
+        if (length == query.length + 1) {
+            return equal(begin + i + 1, query, i, query.length - i) ? 1 : 2;
+        }
+        if (length + 1 == query.length) {
+            return equal(begin + i, query, i + 1, length - i) ? 1 : 2;
+        }
+        return 2;
+    }
+
+    private boolean equal(int dataOffset, byte[] query, int queryOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (data[dataOffset + i] != query[queryOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
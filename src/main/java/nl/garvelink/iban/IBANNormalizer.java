@@ -0,0 +1,264 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Cleans up IBANs entered by people or taken from documents, so that they can be parsed.
+ * <p>
+ * The normalizer makes a single pass over the input and decides what to do with each character through a lookup
+ * table built from the enabled {@link Rule}s. Characters that no enabled rule applies to are copied unchanged, so
+ * that {@link IBAN#parse(CharSequence)} can report them. The output is written to a caller-supplied
+ * {@link StringBuilder}, which can be reused across calls, and the return value tells which rules changed the
+ * input.</p>
+ * <pre>
+ * IBANNormalizer normalizer = IBANNormalizer.lenient();
+ * StringBuilder buffer = new StringBuilder(IBANNormalizer.MAX_LENGTH);
+ * int fired = normalizer.normalize("IBAN: nl91-abna-0417-1643-00", buffer);
+ * IBAN iban = IBAN.parse(buffer);
+ * boolean wasLowerCase = IBANNormalizer.Rule.LOWER_CASE.in(fired);
+ * </pre>
+ * <p>
+ * Instances are immutable and thread safe.</p>
+ * @since 1.18.0
+ */
+public final class IBANNormalizer {
+
+    /**
+     * The longest normalized output that can be a valid IBAN, a suitable initial capacity for the output buffer.
+     */
+    public static final int MAX_LENGTH = IBANRegistry.LONGEST_POSSIBLE_IBAN;
+
+    /**
+     * The rules a normalizer can apply.
+     */
+    public enum Rule {
+        /** Removes ASCII spaces (0x20), like {@link IBAN#toPlain(CharSequence)}. */
+        SPACE,
+        /** Removes tabs, line breaks, no-break spaces and other Unicode space characters. */
+        WHITESPACE,
+        /** Removes dashes, dots and slashes used to group the characters, including Unicode dashes. */
+        SEPARATORS,
+        /** Converts lower case letters to upper case. */
+        LOWER_CASE,
+        /** Converts full-width digits, letters and punctuation to their ASCII counterparts. */
+        FULL_WIDTH,
+        /** Removes a leading {@code "IBAN"} or {@code "IBAN:"}, in any case. */
+        IBAN_PREFIX;
+
+        /**
+         * Returns the bit that represents this rule in the result of {@link #normalize(CharSequence, StringBuilder)}.
+         * @return a single bit.
+         */
+        public int bit() {
+            return 1 << ordinal();
+        }
+
+        /**
+         * Returns whether this rule is present in the given result of
+         * {@link #normalize(CharSequence, StringBuilder)}.
+         * @param fired the bit set returned by the normalizer.
+         * @return true if this rule changed the input.
+         */
+        public boolean in(int fired) {
+            return (fired & bit()) != 0;
+        }
+    }
+
+    /** Action table entry for characters that are copied unchanged. */
+    private static final byte COPY = -1;
+
+    private static final Rule[] RULES = Rule.values();
+
+    private static final IBANNormalizer LENIENT = new IBANNormalizer(EnumSet.allOf(Rule.class));
+
+    /**
+     * For each ASCII character: {@link #COPY}, or the ordinal of the rule that removes or converts it.
+     */
+    private final byte[] ascii = new byte[128];
+
+    /** The enabled rules, as a bit set. */
+    private final int enabled;
+
+    private IBANNormalizer(Set<Rule> rules) {
+        int bits = 0;
+        for (Rule rule : rules) {
+            bits |= rule.bit();
+        }
+        this.enabled = bits;
+        for (int c = 0; c < ascii.length; c++) {
+            ascii[c] = COPY;
+        }
+        set(Rule.SPACE, " ");
+        set(Rule.WHITESPACE, "\t\n\u000B\f\r");
+        set(Rule.SEPARATORS, "-./");
+        set(Rule.LOWER_CASE, "abcdefghijklmnopqrstuvwxyz");
+    }
+
+    private void set(Rule rule, String chars) {
+        if (rule.in(enabled)) {
+            for (int i = 0; i < chars.length(); i++) {
+                ascii[chars.charAt(i)] = (byte) rule.ordinal();
+            }
+        }
+    }
+
+    /**
+     * Returns a normalizer that applies all rules.
+     * @return the lenient normalizer.
+     */
+    public static IBANNormalizer lenient() {
+        return LENIENT;
+    }
+
+    /**
+     * Returns a normalizer that applies the given rules.
+     * @param rules the rules to apply.
+     * @return a normalizer.
+     */
+    public static IBANNormalizer of(Rule... rules) {
+        EnumSet<Rule> set = EnumSet.noneOf(Rule.class);
+        Collections.addAll(set, rules);
+        return new IBANNormalizer(set);
+    }
+
+    /**
+     * Returns the rules in the given result of {@link #normalize(CharSequence, StringBuilder)}.
+     * @param fired the bit set returned by the normalizer.
+     * @return the rules that changed the input.
+     */
+    public static Set<Rule> rules(int fired) {
+        EnumSet<Rule> set = EnumSet.noneOf(Rule.class);
+        for (Rule rule : Rule.values()) {
+            if (rule.in(fired)) {
+                set.add(rule);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Writes the normalized input to the destination, replacing its contents.
+     * @param input the input. Cannot be null.
+     * @param destination the output buffer. Cannot be null.
+     * @return the rules that changed the input, as a bit set, see {@link Rule#in(int)}. Zero if the input was copied
+     *         unchanged.
+     */
+    public int normalize(CharSequence input, StringBuilder destination) {
+        destination.setLength(0);
+        final int length = input.length();
+        int fired = 0;
+        int i = 0;
+        if (Rule.IBAN_PREFIX.in(enabled)) {
+            // Skip leading characters that are removed anyway, so that the prefix may follow them.
+            while (i < length && removes(input.charAt(i))) {
+                fired |= ruleFor(input.charAt(i)).bit();
+                i++;
+            }
+            if (hasPrefix(input, i)) {
+                fired |= Rule.IBAN_PREFIX.bit();
+                i += 4;
+                if (i < length && input.charAt(i) == ':') {
+                    i++;
+                }
+            }
+        }
+        for (; i < length; i++) {
+            char c = input.charAt(i);
+            if (c >= 0xFF01 && c <= 0xFF5E && Rule.FULL_WIDTH.in(enabled)) {
+                fired |= Rule.FULL_WIDTH.bit();
+                c = (char) (c - 0xFEE0);
+            }
+            Rule rule = ruleFor(c);
+            if (rule == null) {
+                destination.append(c);
+            } else {
+                fired |= rule.bit();
+                if (rule == Rule.LOWER_CASE) {
+                    destination.append((char) (c - ('a' - 'A')));
+                }
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Normalizes and parses the input.
+     * @param input the input. Cannot be null.
+     * @return the parsed and validated IBAN object, never null.
+     * @throws IllegalArgumentException if the normalized input fails validation.
+     * @see IBAN#parse(CharSequence)
+     */
+    public IBAN parse(CharSequence input) {
+        return parse(input, ValidationLevel.LENGTH);
+    }
+
+    /**
+     * Normalizes and parses the input, validating it to the given level.
+     * @param input the input. Cannot be null.
+     * @param validationLevel the validation to perform. Cannot be null.
+     * @return the parsed and validated IBAN object, never null.
+     * @throws IllegalArgumentException if the normalized input fails validation.
+     * @see IBAN#parse(CharSequence, ValidationLevel)
+     */
+    public IBAN parse(CharSequence input, ValidationLevel validationLevel) {
+        StringBuilder sb = new StringBuilder(Math.min(input.length(), MAX_LENGTH));
+        normalize(input, sb);
+        return IBAN.parse(sb, validationLevel);
+    }
+
+    /**
+     * Returns the enabled rule that removes or converts the given character, or null.
+     */
+    private Rule ruleFor(char c) {
+        if (c < 128) {
+            byte action = ascii[c];
+            return action == COPY ? null : RULES[action];
+        }
+        if (isUnicodeSpace(c)) {
+            return Rule.WHITESPACE.in(enabled) ? Rule.WHITESPACE : null;
+        }
+        if ((c >= '\u2010' && c <= '\u2015') || c == '\u2212') {
+            return Rule.SEPARATORS.in(enabled) ? Rule.SEPARATORS : null;
+        }
+        return null;
+    }
+
+    private boolean removes(char c) {
+        Rule rule = ruleFor(c);
+        return rule == Rule.SPACE || rule == Rule.WHITESPACE || rule == Rule.SEPARATORS;
+    }
+
+    private static boolean isUnicodeSpace(char c) {
+        return c == '\u00A0' || c == '\u1680' || (c >= '\u2000' && c <= '\u200B') || c == '\u2028'
+            || c == '\u2029' || c == '\u202F' || c == '\u205F' || c == '\u3000' || c == '\uFEFF';
+    }
+
+    private static boolean hasPrefix(CharSequence input, int from) {
+        if (input.length() - from < 4) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            if ((input.charAt(from + i) & ~0x20) != "IBAN".charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * Assigns IBANs to a fixed number of partitions, for example Kafka partitions or cluster nodes.
+ * <p>
+ * The partition is the jump consistent hash (Lamping and Veach, 2014) of the IBAN's {@link IBAN#fingerprint64()}.
+ * Both steps are fully specified, so every service using this class routes the same IBAN to the same partition,
+ * regardless of library version. When the number of partitions grows from {@code n} to {@code n + 1}, only about
+ * {@code 1 / (n + 1)} of the IBANs move, and all of them move to the new partition.</p>
+ * <pre>
+ * IBANPartitioner partitioner = IBANPartitioner.of(12);
+ * int partition = partitioner.partition(iban);
+ * </pre>
+ * <p>
+ * Instances are immutable and thread safe.</p>
+ * @since 1.18.0
+ */
+public final class IBANPartitioner {
+
+    private final int partitions;
+
+    private IBANPartitioner(int partitions) {
+        this.partitions = partitions;
+    }
+
+    /**
+     * Returns a partitioner for the given number of partitions.
+     * @param partitions the number of partitions, at least one.
+     * @return a partitioner.
+     * @throws IllegalArgumentException if {@code partitions} is less than one.
+     */
+    public static IBANPartitioner of(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("At least one partition is required, got " + partitions);
+        }
+        return new IBANPartitioner(partitions);
+    }
+
+    /**
+     * Returns the number of partitions.
+     * @return the number of partitions.
+     */
+    public int getPartitionCount() {
+        return partitions;
+    }
+
+    /**
+     * Returns the partition of an IBAN.
+     * @param iban the IBAN. Cannot be null.
+     * @return the partition, from zero to {@link #getPartitionCount()} (exclusive).
+     */
+    public int partition(IBAN iban) {
+        return jumpConsistentHash(iban.fingerprint64(), partitions);
+    }
+
+    /**
+     * Returns the partition of an IBAN, without parsing it.
+     * @param input the IBAN, see {@link IBAN#fingerprint64(CharSequence)}. Cannot be null.
+     * @return the partition, from zero to {@link #getPartitionCount()} (exclusive).
+     */
+    public int partition(CharSequence input) {
+        return jumpConsistentHash(IBAN.fingerprint64(input), partitions);
+    }
+
+    /**
+     * Returns the partition of an IBAN in a range of US-ASCII bytes, without parsing it.
+     * @param source the bytes. Cannot be null.
+     * @param offset the index of the first byte of the IBAN.
+     * @param length the number of bytes.
+     * @return the partition, from zero to {@link #getPartitionCount()} (exclusive).
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public int partition(byte[] source, int offset, int length) {
+        return jumpConsistentHash(IBAN.fingerprint64(source, offset, length), partitions);
+    }
+
+    /**
+     * Computes the jump consistent hash of a key.
+     * @param key the key, for example an {@link IBAN#fingerprint64()}.
+     * @param buckets the number of buckets, at least one.
+     * @return the bucket, from zero to {@code buckets} (exclusive).
+     * @throws IllegalArgumentException if {@code buckets} is less than one.
+     */
+    public static int jumpConsistentHash(long key, int buckets) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("At least one bucket is required, got " + buckets);
+        }
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IBANPartitioner && ((IBANPartitioner) o).partitions == partitions;
+    }
+
+    @Override
+    public int hashCode() {
+        return partitions;
+    }
+
+    @Override
+    public String toString() {
+        return "IBANPartitioner(" + partitions + ")";
+    }
+}
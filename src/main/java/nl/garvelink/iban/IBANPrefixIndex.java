@@ -0,0 +1,318 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An immutable, sorted index of IBANs for prefix search, such as autocompleting an IBAN as it is typed.
+ * <p>
+ * The IBANs are kept in lexicographic order as packed US-ASCII in a single array, with one {@code int} offset per
+ * entry, so that an entry takes little more than its own length in bytes. A prefix query is two binary searches.
+ * Updates return a new snapshot and leave this one untouched, so readers never lock:</p>
+ * <pre>
+ * AtomicReference&lt;IBANPrefixIndex&gt; index = new AtomicReference&lt;&gt;(IBANPrefixIndex.of(beneficiaries));
+ * List&lt;IBAN&gt; suggestions = index.get().find("nl91 ab", 10);
+ * index.updateAndGet(current -&gt; current.withAdded(Collections.singleton(newBeneficiary)));
+ * </pre>
+ * <p>
+ * Instances are immutable and thread safe.</p>
+ * @since 1.18.0
+ */
+public final class IBANPrefixIndex {
+
+    private static final IBANPrefixIndex EMPTY =
+        new IBANPrefixIndex(IBANRegistry.current(), new byte[0], new int[1], 0);
+
+    private final IBANRegistry registry;
+    /** The plain IBANs in upper case, in order. */
+    private final byte[] data;
+    /** Entry {@code i} runs from {@code offsets[i]} to {@code offsets[i + 1]}. */
+    private final int[] offsets;
+    private final int size;
+
+    private IBANPrefixIndex(IBANRegistry registry, byte[] data, int[] offsets, int size) {
+        this.registry = registry;
+        this.data = data;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty index.
+     * @return the empty index.
+     */
+    public static IBANPrefixIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an index of the given IBANs. Duplicates are stored once, and lowercase letters in upper case.
+     * @param ibans the IBANs. Cannot be null or contain null.
+     * @return the index.
+     */
+    public static IBANPrefixIndex of(Iterable<IBAN> ibans) {
+        final List<String> values = new ArrayList<>();
+        for (IBAN iban : ibans) {
+            values.add(key(iban));
+        }
+        return EMPTY.merge(values, Collections.<String>emptyList());
+    }
+
+    /**
+     * Returns a snapshot with the given IBANs added. This index is not changed.
+     * @param ibans the IBANs to add. Cannot be null or contain null.
+     * @return the new snapshot.
+     */
+    public IBANPrefixIndex withAdded(Collection<IBAN> ibans) {
+        final List<String> values = new ArrayList<>(ibans.size());
+        for (IBAN iban : ibans) {
+            values.add(key(iban));
+        }
+        return merge(values, Collections.<String>emptyList());
+    }
+
+    /**
+     * Returns a snapshot with the given IBANs removed. This index is not changed.
+     * @param ibans the IBANs to remove. Cannot be null or contain null.
+     * @return the new snapshot.
+     */
+    public IBANPrefixIndex withRemoved(Collection<IBAN> ibans) {
+        final List<String> values = new ArrayList<>(ibans.size());
+        for (IBAN iban : ibans) {
+            values.add(key(iban));
+        }
+        return merge(Collections.<String>emptyList(), values);
+    }
+
+    /**
+     * Returns the IBAN as stored: plain and in upper case, like the prefixes it is searched with.
+     * {@link IBAN#parse(CharSequence)} keeps lowercase letters in the BBAN.
+     */
+    private static String key(IBAN iban) {
+        return iban.toPlainString().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Merges this index with sorted additions in one pass, skipping duplicates and removals.
+     */
+    private IBANPrefixIndex merge(List<String> added, List<String> removed) {
+        final String[] additions = added.toArray(new String[0]);
+        final String[] removals = removed.toArray(new String[0]);
+        Arrays.sort(additions);
+        Arrays.sort(removals);
+        int addedBytes = 0;
+        for (String value : additions) {
+            addedBytes += value.length();
+        }
+        final byte[] mergedData = new byte[offsets[size] + addedBytes];
+        final int[] mergedOffsets = new int[size + additions.length + 1];
+        int count = 0;
+        int row = 0;
+        int next = 0;
+        int removal = 0;
+        while (row < size || next < additions.length) {
+            // Write the next candidate after the last entry, and only keep it if it's not a duplicate or removed.
+            final int begin = mergedOffsets[count];
+            final int end;
+            if (next == additions.length || (row < size && compare(row, additions[next]) <= 0)) {
+                final int length = offsets[row + 1] - offsets[row];
+                System.arraycopy(data, offsets[row], mergedData, begin, length);
+                end = begin + length;
+                row++;
+            } else {
+                final String value = additions[next++];
+                for (int i = 0; i < value.length(); i++) {
+                    mergedData[begin + i] = (byte) value.charAt(i);
+                }
+                end = begin + value.length();
+            }
+            if (count > 0 && sameBytes(mergedData, mergedOffsets[count - 1], begin, end)) {
+                continue;
+            }
+            while (removal < removals.length && compare(mergedData, begin, end, removals[removal]) > 0) {
+                removal++;
+            }
+            if (removal < removals.length && compare(mergedData, begin, end, removals[removal]) == 0) {
+                continue;
+            }
+            mergedOffsets[++count] = end;
+        }
+        return new IBANPrefixIndex(IBANRegistry.current(), Arrays.copyOf(mergedData, mergedOffsets[count]),
+            Arrays.copyOf(mergedOffsets, count + 1), count);
+    }
+
+    /**
+     * Returns whether {@code [previous, begin)} and {@code [begin, end)} hold the same bytes.
+     */
+    private static boolean sameBytes(byte[] source, int previous, int begin, int end) {
+        if (begin - previous != end - begin) {
+            return false;
+        }
+        for (int i = 0; i < end - begin; i++) {
+            if (source[previous + i] != source[begin + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int compare(int row, String value) {
+        return compare(data, offsets[row], offsets[row + 1], value);
+    }
+
+    private static int compare(byte[] source, int begin, int end, String other) {
+        final int length = Math.min(end - begin, other.length());
+        for (int i = 0; i < length; i++) {
+            final int difference = (source[begin + i] & 0xFF) - other.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return (end - begin) - other.length();
+    }
+
+    /**
+     * Returns the number of IBANs in this index.
+     * @return the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this index holds the given IBAN.
+     * @param iban the IBAN. Cannot be null.
+     * @return true if found.
+     */
+    public boolean contains(IBAN iban) {
+        final String value = key(iban);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int c = compare(mid, value);
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first IBANs, in lexicographic order, that start with the given prefix.
+     * @param prefix the typed prefix. Spaces are ignored and lowercase letters match their uppercase forms. Cannot be
+     *               null.
+     * @param limit the maximum number of results.
+     * @return the matching IBANs, at most {@code limit}, at the {@link ValidationLevel#CHECKSUM} level; the level of
+     *         the IBANs the index was built from is not stored.
+     */
+    public List<IBAN> find(CharSequence prefix, int limit) {
+        final byte[] key = normalize(prefix);
+        if (key == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        final int first = lowerBound(key, false);
+        final int end = Math.min(lowerBound(key, true), first + limit);
+        final List<IBAN> result = new ArrayList<>(Math.max(0, end - first));
+        for (int row = first; row < end; row++) {
+            final String value = new String(data, offsets[row], offsets[row + 1] - offsets[row],
+                StandardCharsets.US_ASCII);
+            final int country = registry.indexOf(value.charAt(0), value.charAt(1));
+            result.add(country < 0 ? IBAN.parse(value, ValidationLevel.CHECKSUM)
+                : IBAN.validated(value, registry.countries[country], ValidationLevel.CHECKSUM));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of IBANs that start with the given prefix, without allocating IBANs.
+     * @param prefix the typed prefix, see {@link #find(CharSequence, int)}. Cannot be null.
+     * @return the number of matches.
+     */
+    public int count(CharSequence prefix) {
+        final byte[] key = normalize(prefix);
+        return key == null ? 0 : lowerBound(key, true) - lowerBound(key, false);
+    }
+
+    /**
+     * Returns the prefix without spaces and in uppercase, or null if it can't match any IBAN.
+     */
+    private static byte[] normalize(CharSequence prefix) {
+        final byte[] key = new byte[IBANRegistry.LONGEST_POSSIBLE_IBAN];
+        int length = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            }
+            if (!((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) || length == key.length) {
+                return null;
+            }
+            key[length++] = (byte) c;
+        }
+        return Arrays.copyOf(key, length);
+    }
+
+    /**
+     * Returns the first row that doesn't sort before the key, or with {@code after}, the first row that sorts after
+     * every row starting with the key.
+     */
+    private int lowerBound(byte[] key, boolean after) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final int c = compareToPrefix(mid, key);
+            if (c < 0 || (after && c == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a negative number if the row sorts before all rows starting with the key, zero if it starts with the
+     * key, and a positive number if it sorts after them.
+     */
+    private int compareToPrefix(int row, byte[] key) {
+        final int begin = offsets[row];
+        final int length = offsets[row + 1] - begin;
+        final int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            final int difference = (data[begin + i] & 0xFF) - (key[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length < key.length ? -1 : 0;
+    }
+}
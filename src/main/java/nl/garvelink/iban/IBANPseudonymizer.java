@@ -0,0 +1,385 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Replaces IBANs by pseudonyms that are IBANs themselves, for test and analytics environments.
+ * <p>
+ * The characters of the BBAN are permuted by a keyed, format-preserving cipher in the style of NIST FF1: a ten-round
+ * Feistel network over the BBAN characters, with AES as the round function. Each character stays within its
+ * character class, so that the pseudonym has the same country, length and BBAN structure as the original; then the
+ * check digits are recomputed. The bank and branch identifiers can be kept as they are, in which case they take part
+ * in the tweak of the cipher.</p>
+ * <pre>
+ * IBANPseudonymizer pseudonymizer = IBANPseudonymizer.builder(key).keepBankIdentifier().build();
+ * IBAN masked = pseudonymizer.pseudonymize(iban);   // same key, same pseudonym
+ * IBAN original = pseudonymizer.restore(masked);
+ * </pre>
+ * <p>
+ * Because the cipher is a permutation, distinct IBANs have distinct pseudonyms and joins on the pseudonym give the
+ * same result as joins on the original. Pseudonyms pass validation at the {@link ValidationLevel#STRUCTURE} level;
+ * national check digits are permuted like the other characters, so they generally fail
+ * {@link ValidationLevel#NATIONAL}. Instances are immutable and thread safe; each thread keeps its own
+ * {@link Cipher}.</p>
+ * @since 1.18.0
+ */
+public final class IBANPseudonymizer {
+
+    private static final int ROUNDS = 10;
+
+    /**
+     * The most characters the round function handles: it packs half of them into one AES block, next to the round
+     * number, and draws two bytes for each of the other half from two blocks.
+     */
+    private static final int MAX_PERMUTED = 30;
+
+    /** The number of rows that {@link #pseudonymizeAll(byte[], int[], int, boolean[])} processes per task. */
+    private static final int CHUNK_SIZE = 4096;
+
+    private final SecretKeySpec key;
+    private final IBANRegistry registry;
+    /** The positions in the plain IBAN to permute, per country index of {@link #registry}. */
+    private final int[][] positions;
+    /** The length of the longest array in {@link #positions}. */
+    private final int maxPermuted;
+    private final ThreadLocal<Worker> workers;
+
+    private IBANPseudonymizer(SecretKeySpec key, IBANRegistry registry, int[][] positions, int maxPermuted) {
+        this.key = key;
+        this.registry = registry;
+        this.positions = positions;
+        this.maxPermuted = maxPermuted;
+        this.workers = ThreadLocal.withInitial(this::newWorker);
+    }
+
+    /**
+     * Returns a new builder.
+     * @param key an AES key of 16, 24 or 32 bytes. Cannot be null. The key is copied.
+     * @return the builder.
+     * @throws IllegalArgumentException if the key has the wrong length.
+     */
+    public static Builder builder(byte[] key) {
+        if (key.length != 16 && key.length != 24 && key.length != 32) {
+            throw new IllegalArgumentException("AES keys have 16, 24 or 32 bytes, got " + key.length);
+        }
+        return new Builder(key.clone());
+    }
+
+    /**
+     * Returns the pseudonym of the given IBAN.
+     * @param iban the IBAN. Cannot be null.
+     * @return the pseudonym, validated at the {@link ValidationLevel#STRUCTURE} level.
+     */
+    public IBAN pseudonymize(IBAN iban) {
+        return transform(iban, true);
+    }
+
+    /**
+     * Returns the IBAN of the given pseudonym; the inverse of {@link #pseudonymize(IBAN)}.
+     * @param pseudonym the pseudonym. Cannot be null.
+     * @return the original IBAN, validated at the {@link ValidationLevel#STRUCTURE} level.
+     */
+    public IBAN restore(IBAN pseudonym) {
+        return transform(pseudonym, false);
+    }
+
+    /**
+     * Replaces a plain IBAN in US-ASCII by its pseudonym, in place.
+     * @param buffer the array holding the IBAN. Cannot be null.
+     * @param offset the index of the first character.
+     * @param length the length of the IBAN.
+     * @return true if the IBAN was replaced, false if it is not valid at the {@link ValidationLevel#STRUCTURE} level
+     *         and was left as it is.
+     * @throws IndexOutOfBoundsException if the range is outside {@code buffer}.
+     */
+    public boolean pseudonymize(byte[] buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Offset " + offset + ", length " + length + ", array " + buffer.length);
+        }
+        return workers.get().apply(buffer, offset, length, true);
+    }
+
+    /**
+     * Replaces IBANs by their pseudonyms in bulk, in place. Row {@code r} runs from {@code ends[r - 1]} (or zero) to
+     * {@code ends[r]}, the layout written by {@link IBANFields#extractAll(java.util.List, BbanComponent, byte[], int[])}.
+     * Large inputs are processed in parallel, with one cipher per thread.
+     * @param data the plain IBANs in US-ASCII. Cannot be null.
+     * @param ends the end offset of each row. Cannot be null.
+     * @param rows the number of rows.
+     * @param rejected receives true for each row that is not a valid IBAN and was left as it is, false otherwise.
+     * @return the number of rows replaced.
+     * @throws IndexOutOfBoundsException if an array is too small for the number of rows.
+     */
+    public int pseudonymizeAll(byte[] data, int[] ends, int rows, boolean[] rejected) {
+        if (ends.length < rows || rejected.length < rows || (rows > 0 && ends[rows - 1] > data.length)) {
+            throw new IndexOutOfBoundsException("Rows " + rows + ", ends " + ends.length + ", rejected "
+                + rejected.length + ", data " + data.length);
+        }
+        final int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream stream = IntStream.range(0, chunks);
+        if (chunks > 1) {
+            stream = stream.parallel();
+        }
+        return stream.map(chunk -> {
+            final Worker worker = workers.get();
+            final int last = Math.min(rows, (chunk + 1) * CHUNK_SIZE);
+            int replaced = 0;
+            for (int row = chunk * CHUNK_SIZE; row < last; row++) {
+                final int begin = row == 0 ? 0 : ends[row - 1];
+                final boolean success = begin <= ends[row] && worker.apply(data, begin, ends[row] - begin, true);
+                rejected[row] = !success;
+                if (success) {
+                    replaced++;
+                }
+            }
+            return replaced;
+        }).sum();
+    }
+
+    private IBAN transform(IBAN iban, boolean forward) {
+        final byte[] buffer = iban.toPlainString().getBytes(StandardCharsets.US_ASCII);
+        if (!workers.get().apply(buffer, 0, buffer.length, forward)) {
+            throw new IllegalArgumentException("Cannot pseudonymize " + iban + ": unknown to the registry in use.");
+        }
+        final String value = new String(buffer, StandardCharsets.US_ASCII);
+        return IBAN.validated(value, registry.countries[registry.indexOf(value.charAt(0), value.charAt(1))],
+            ValidationLevel.STRUCTURE);
+    }
+
+    private Worker newWorker() {
+        try {
+            final Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key);
+            return new Worker(cipher);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES is not available.", e);
+        }
+    }
+
+    /**
+     * The cipher and scratch buffers of one thread.
+     */
+    private final class Worker {
+        private final Cipher cipher;
+        private final AsciiSequence view = new AsciiSequence();
+        private final byte[] tweakState = new byte[16];
+        private final byte[] block = new byte[16];
+        private final byte[] output = new byte[32];
+        private final int[] values = new int[maxPermuted];
+        private final int[] radices = new int[maxPermuted];
+
+        Worker(Cipher cipher) {
+            this.cipher = cipher;
+        }
+
+        boolean apply(byte[] buffer, int offset, int length, boolean forward) {
+            if (length < IBAN.SHORTEST_POSSIBLE_IBAN) {
+                return false;
+            }
+            final int countryIndex = registry.indexOf((char) buffer[offset], (char) buffer[offset + 1]);
+            if (countryIndex < 0) {
+                return false;
+            }
+            final IBANCountry country = registry.countries[countryIndex];
+            view.reset(buffer, offset, length);
+            if (IBANView.validate(view, country, ValidationLevel.STRUCTURE) != IBANView.Result.VALID) {
+                return false;
+            }
+            final int[] permuted = positions[countryIndex];
+            final int n = permuted.length;
+            for (int i = 0; i < n; i++) {
+                final int position = permuted[i];
+                final char characterClass = country.bbanStructure.charAt(position - 4);
+                radices[i] = characterClass == 'n' ? 10 : characterClass == 'a' ? 26 : 36;
+                values[i] = decode(buffer[offset + position], radices[i]);
+            }
+            computeTweak(buffer, offset, length, permuted);
+            final int u = n / 2;
+            for (int step = 0; step < ROUNDS; step++) {
+                final int round = forward ? step : ROUNDS - 1 - step;
+                // Even rounds update the first u values from the rest, odd rounds the rest from the first u.
+                final boolean updateFirst = round % 2 == 0;
+                final int from = updateFirst ? u : 0;
+                final int to = updateFirst ? n : u;
+                final int target = updateFirst ? 0 : u;
+                final int targetEnd = updateFirst ? u : n;
+                roundFunction(round, from, to, targetEnd - target);
+                for (int i = target; i < targetEnd; i++) {
+                    final int r = radices[i];
+                    final int f = ((output[2 * (i - target)] & 0xFF) << 8 | (output[2 * (i - target) + 1] & 0xFF)) % r;
+                    values[i] = forward ? (values[i] + f) % r : (values[i] - f + r) % r;
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                buffer[offset + permuted[i]] = encode(values[i], radices[i]);
+            }
+            buffer[offset + 2] = '0';
+            buffer[offset + 3] = '0';
+            final int checkDigits = 98 - IBAN.checksum(view, null);
+            buffer[offset + 2] = (byte) ('0' + checkDigits / 10);
+            buffer[offset + 3] = (byte) ('0' + checkDigits % 10);
+            return true;
+        }
+
+        /**
+         * CBC-MACs the characters that are not permuted, so that every round function depends on them.
+         */
+        private void computeTweak(byte[] buffer, int offset, int length, int[] permuted) {
+            Arrays.fill(tweakState, (byte) 0);
+            tweakState[0] = (byte) length;
+            tweakState[1] = (byte) permuted.length;
+            int fill = 2;
+            int next = 0;
+            for (int i = 0; i < length; i++) {
+                if (i == 2 || i == 3) {
+                    continue;
+                }
+                if (next < permuted.length && permuted[next] == i) {
+                    next++;
+                    continue;
+                }
+                tweakState[fill++] ^= toUpperCase(buffer[offset + i]);
+                if (fill == 16) {
+                    encrypt(tweakState, tweakState);
+                    fill = 0;
+                }
+            }
+            encrypt(tweakState, tweakState);
+        }
+
+        /**
+         * Fills {@link #output} with two pseudo-random bytes for each of {@code count} values, from the round number
+         * and the values in {@code [from, to)}.
+         */
+        private void roundFunction(int round, int from, int to, int count) {
+            System.arraycopy(tweakState, 0, block, 0, 16);
+            block[0] ^= (byte) round;
+            for (int i = from; i < to; i++) {
+                block[1 + i - from] ^= (byte) values[i];
+            }
+            encrypt(block, output);
+            if (count > 8) {
+                System.arraycopy(output, 0, block, 0, 16);
+                block[15] ^= 1;
+                encryptInto(block, output, 16);
+            }
+        }
+
+        private void encrypt(byte[] input, byte[] destination) {
+            encryptInto(input, destination, 0);
+        }
+
+        private void encryptInto(byte[] input, byte[] destination, int destinationOffset) {
+            try {
+                cipher.update(input, 0, 16, destination, destinationOffset);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("AES failed.", e);
+            }
+        }
+    }
+
+    private static byte toUpperCase(byte c) {
+        return c >= 'a' && c <= 'z' ? (byte) (c - ('a' - 'A')) : c;
+    }
+
+    private static int decode(byte c, int radix) {
+        final byte upper = toUpperCase(c);
+        if (radix == 26) {
+            return upper - 'A';
+        }
+        return upper <= '9' ? upper - '0' : upper - 'A' + 10;
+    }
+
+    private static byte encode(int value, int radix) {
+        if (radix == 26) {
+            return (byte) ('A' + value);
+        }
+        return (byte) (value < 10 ? '0' + value : 'A' + value - 10);
+    }
+
+    /**
+     * Configures an {@link IBANPseudonymizer}.
+     */
+    public static final class Builder {
+        private final byte[] key;
+        private boolean keepBankIdentifier;
+        private boolean keepBranchIdentifier;
+
+        Builder(byte[] key) {
+            this.key = key;
+        }
+
+        /**
+         * Keeps the bank identifier of each IBAN, so that pseudonyms stay at the same bank.
+         * @return this builder.
+         */
+        public Builder keepBankIdentifier() {
+            this.keepBankIdentifier = true;
+            return this;
+        }
+
+        /**
+         * Keeps the branch identifier of each IBAN, for the countries that have one.
+         * @return this builder.
+         */
+        public Builder keepBranchIdentifier() {
+            this.keepBranchIdentifier = true;
+            return this;
+        }
+
+        /**
+         * Creates the pseudonymizer, for the countries of the registry in use.
+         * @return the pseudonymizer.
+         * @throws IllegalStateException if a country of the registry in use has more than 30 BBAN characters to
+         *                               permute, which ISO 13616 doesn't allow.
+         */
+        public IBANPseudonymizer build() {
+            final IBANRegistry registry = IBANRegistry.current();
+            final int[][] positions = new int[registry.countries.length][];
+            int maxPermuted = 0;
+            for (int c = 0; c < positions.length; c++) {
+                final IBANCountry country = registry.countries[c];
+                final int[] permuted = new int[country.getLength() - 4];
+                int count = 0;
+                for (int position = 4; position < country.getLength(); position++) {
+                    if (!(keepBankIdentifier && within(country, BbanComponent.BANK_IDENTIFIER, position))
+                            && !(keepBranchIdentifier && within(country, BbanComponent.BRANCH_IDENTIFIER, position))) {
+                        permuted[count++] = position;
+                    }
+                }
+                if (count > MAX_PERMUTED) {
+                    throw new IllegalStateException(country.getCountryCode() + ": cannot permute " + count
+                        + " characters, at most " + MAX_PERMUTED);
+                }
+                positions[c] = Arrays.copyOf(permuted, count);
+                maxPermuted = Math.max(maxPermuted, count);
+            }
+            return new IBANPseudonymizer(new SecretKeySpec(key, "AES"), registry, positions, maxPermuted);
+        }
+
+        private static boolean within(IBANCountry country, BbanComponent component, int position) {
+            return country.has(component) && position >= country.getBegin(component)
+                && position < country.getEnd(component);
+        }
+    }
+}
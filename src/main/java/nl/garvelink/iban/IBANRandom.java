@@ -0,0 +1,507 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates random IBANs for load and fuzz testing.
+ * <p>
+ * Each IBAN is written straight into a byte array: the country is drawn by weight, every BBAN character is drawn
+ * from the character class of the country's BBAN structure, and the check digits are computed while the characters
+ * are written. Valid IBANs pass validation at the {@link ValidationLevel#STRUCTURE} level; national check digits are
+ * not computed. A configurable fraction of the output can be made invalid in a specific way, reported by
+ * {@link #getLastResult()}.</p>
+ * <pre>
+ * IBANRandom random = IBANRandom.builder()
+ *     .seed(42L)
+ *     .sepaOnly()
+ *     .weight("DE", 5.0)
+ *     .invalid(IBANView.Result.WRONG_CHECKSUM, 0.01)
+ *     .build();
+ * byte[] buffer = new byte[IBANRandom.MAX_LENGTH];
+ * int length = random.nextInto(buffer, 0);
+ * </pre>
+ * <p>
+ * The sequence is determined by the seed. Like {@link SplittableRandom}, an instance is not thread safe; use
+ * {@link #split()} to give each thread its own generator, or the parallel-capable {@link #strings(long)}.</p>
+ * @since 1.18.0
+ */
+public final class IBANRandom {
+
+    /**
+     * The longest output, which is longer than the longest IBAN that ISO 13616 allows, to leave room for
+     * {@link IBANView.Result#WRONG_LENGTH} output. This also covers a loaded {@link IBANRegistry}.
+     */
+    public static final int MAX_LENGTH = IBANRegistry.LONGEST_POSSIBLE_IBAN + 3;
+
+    private static final byte[] DIGITS = "0123456789".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ALPHANUMERICS =
+        "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MALFORMED_CHARACTERS = "-_.#*/".getBytes(StandardCharsets.US_ASCII);
+
+    /** The invalid categories that can be generated. */
+    private static final IBANView.Result[] CATEGORIES = {
+        IBANView.Result.MALFORMED,
+        IBANView.Result.UNKNOWN_COUNTRY_CODE,
+        IBANView.Result.WRONG_LENGTH,
+        IBANView.Result.WRONG_STRUCTURE,
+        IBANView.Result.WRONG_CHECKSUM
+    };
+
+    private final Profile profile;
+    private final SplittableRandom random;
+    private IBANView.Result lastResult = IBANView.Result.VALID;
+
+    private IBANRandom(Profile profile, SplittableRandom random) {
+        this.profile = profile;
+        this.random = random;
+    }
+
+    /**
+     * Returns a new builder.
+     * @return a builder with all known countries at weight 1, and no invalid output.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a new generator that shares the configuration of this one and draws from a random sequence split off
+     * from this one's, see {@link SplittableRandom#split()}.
+     * @return the new generator.
+     */
+    public IBANRandom split() {
+        return new IBANRandom(profile, random.split());
+    }
+
+    /**
+     * Writes the next IBAN into the given array, as US-ASCII.
+     * @param destination the array to write to, with room for {@link #MAX_LENGTH} bytes from {@code offset}.
+     * @param offset the index of the first byte to write.
+     * @return the number of bytes written.
+     * @throws IndexOutOfBoundsException if the output doesn't fit.
+     */
+    public int nextInto(byte[] destination, int offset) {
+        if (offset < 0 || offset > destination.length - MAX_LENGTH) {
+            throw new IndexOutOfBoundsException(
+                "Offset " + offset + ", array " + destination.length + ", need " + MAX_LENGTH);
+        }
+        final IBANCountry country = profile.countries[pick(profile.countryWeights)];
+        final int length = country.getLength();
+        final String structure = country.bbanStructure;
+        destination[offset] = (byte) country.getCountryCode().charAt(0);
+        destination[offset + 1] = (byte) country.getCountryCode().charAt(1);
+        for (int i = 0; i < structure.length(); i++) {
+            destination[offset + 4 + i] = draw(structure.charAt(i));
+        }
+        IBANView.Result category = IBANView.Result.VALID;
+        if (profile.invalidWeights != null) {
+            final int index = pick(profile.invalidWeights);
+            category = index < CATEGORIES.length ? CATEGORIES[index] : IBANView.Result.VALID;
+        }
+        int outputLength = length;
+        switch (category) {
+            case MALFORMED:
+                destination[offset + 4 + random.nextInt(length - 4)] =
+                    MALFORMED_CHARACTERS[random.nextInt(MALFORMED_CHARACTERS.length)];
+                setCheckDigits(destination, offset, length);
+                break;
+            case UNKNOWN_COUNTRY_CODE:
+                final String unknown = profile.unknownCountryCodes[random.nextInt(profile.unknownCountryCodes.length)];
+                destination[offset] = (byte) unknown.charAt(0);
+                destination[offset + 1] = (byte) unknown.charAt(1);
+                setCheckDigits(destination, offset, length);
+                break;
+            case WRONG_LENGTH:
+                outputLength = wrongLength(destination, offset, length);
+                setCheckDigits(destination, offset, outputLength);
+                break;
+            case WRONG_STRUCTURE:
+                if (breakStructure(destination, offset, structure)) {
+                    setCheckDigits(destination, offset, length);
+                } else {
+                    // No position with a fixed character class; make the checksum wrong instead.
+                    setWrongCheckDigits(destination, offset, length);
+                    category = IBANView.Result.WRONG_CHECKSUM;
+                }
+                break;
+            case WRONG_CHECKSUM:
+                setWrongCheckDigits(destination, offset, length);
+                break;
+            default:
+                setCheckDigits(destination, offset, length);
+                break;
+        }
+        lastResult = category;
+        return outputLength;
+    }
+
+    /**
+     * Returns the next IBAN as a string.
+     * @return the IBAN, in plain format.
+     */
+    public String next() {
+        final byte[] buffer = new byte[MAX_LENGTH];
+        return new String(buffer, 0, nextInto(buffer, 0), StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns how the last output of {@link #nextInto(byte[], int)} or {@link #next()} is invalid.
+     * @return {@link IBANView.Result#VALID} if it is a valid IBAN, otherwise the reason it fails validation at the
+     *         {@link ValidationLevel#STRUCTURE} level.
+     */
+    public IBANView.Result getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Writes IBANs, one per line ({@code '\n'}), as US-ASCII. The stream is not closed.
+     * @param out the stream to write to. Cannot be null.
+     * @param count the number of IBANs to write.
+     * @throws IOException if writing fails.
+     */
+    public void writeTo(OutputStream out, long count) throws IOException {
+        final byte[] buffer = new byte[65536];
+        int position = 0;
+        for (long i = 0; i < count; i++) {
+            if (position > buffer.length - MAX_LENGTH - 1) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+            position += nextInto(buffer, position);
+            buffer[position++] = '\n';
+        }
+        out.write(buffer, 0, position);
+    }
+
+    /**
+     * Returns a stream of IBANs as strings. A parallel stream gives each thread a generator split off from this one,
+     * so its output depends on how the stream is split. This generator must not be used while the stream runs.
+     * @param count the number of IBANs.
+     * @return the stream.
+     */
+    public Stream<String> strings(long count) {
+        return StreamSupport.stream(new RandomSpliterator(this, count), false);
+    }
+
+    /**
+     * Returns a stream of IBAN objects, see {@link #strings(long)}.
+     * @param count the number of IBANs.
+     * @return the stream.
+     * @throws IllegalStateException if this generator is configured to produce invalid output.
+     */
+    public Stream<IBAN> ibans(long count) {
+        if (profile.invalidWeights != null) {
+            throw new IllegalStateException("Cannot create IBAN objects from invalid output.");
+        }
+        return strings(count).map(value -> IBAN.validated(value,
+            profile.countries[profile.registry.indexOf(value.charAt(0), value.charAt(1))], ValidationLevel.STRUCTURE));
+    }
+
+    private int pick(double[] cumulativeWeights) {
+        final double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        // The first index whose cumulative weight exceeds the target; zero-weight entries are never picked.
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (cumulativeWeights[mid] > target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private byte draw(char characterClass) {
+        switch (characterClass) {
+            case 'n':
+                return DIGITS[random.nextInt(DIGITS.length)];
+            case 'a':
+                return LETTERS[random.nextInt(LETTERS.length)];
+            default:
+                return ALPHANUMERICS[random.nextInt(ALPHANUMERICS.length)];
+        }
+    }
+
+    private int wrongLength(byte[] destination, int offset, int length) {
+        final int change = 1 + random.nextInt(3);
+        if (random.nextBoolean()) {
+            for (int i = 0; i < change; i++) {
+                destination[offset + length + i] = DIGITS[random.nextInt(DIGITS.length)];
+            }
+            return length + change;
+        }
+        return length - change;
+    }
+
+    private boolean breakStructure(byte[] destination, int offset, String structure) {
+        final int start = random.nextInt(structure.length());
+        for (int i = 0; i < structure.length(); i++) {
+            final int position = (start + i) % structure.length();
+            final char characterClass = structure.charAt(position);
+            if (characterClass == 'n') {
+                destination[offset + 4 + position] = LETTERS[random.nextInt(LETTERS.length)];
+                return true;
+            } else if (characterClass == 'a') {
+                destination[offset + 4 + position] = DIGITS[random.nextInt(DIGITS.length)];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the check digits of the output and writes them, skipping characters that are not alphanumeric.
+     */
+    private static void setCheckDigits(byte[] destination, int offset, int length) {
+        writeCheckDigits(destination, offset, 98 - remainder(destination, offset, length));
+    }
+
+    /**
+     * Writes random check digits other than the correct ones.
+     */
+    private void setWrongCheckDigits(byte[] destination, int offset, int length) {
+        // Any other value from 02 to 98 gives a different remainder.
+        final int checkDigits = 98 - remainder(destination, offset, length);
+        writeCheckDigits(destination, offset, 2 + (checkDigits - 2 + 1 + random.nextInt(96)) % 97);
+    }
+
+    /**
+     * Returns the MOD 97 remainder of the output with check digits "00".
+     */
+    private static int remainder(byte[] destination, int offset, int length) {
+        int remainder = 0;
+        for (int i = 4; i < length; i++) {
+            remainder = append(remainder, destination[offset + i]);
+        }
+        remainder = append(remainder, destination[offset]);
+        remainder = append(remainder, destination[offset + 1]);
+        return remainder * 100 % 97;
+    }
+
+    private static int append(int remainder, byte c) {
+        if (c >= '0' && c <= '9') {
+            return (remainder * 10 + c - '0') % 97;
+        } else if (c >= 'A' && c <= 'Z') {
+            return (remainder * 100 + c - 'A' + 10) % 97;
+        }
+        return remainder;
+    }
+
+    private static void writeCheckDigits(byte[] destination, int offset, int checkDigits) {
+        destination[offset + 2] = (byte) ('0' + checkDigits / 10);
+        destination[offset + 3] = (byte) ('0' + checkDigits % 10);
+    }
+
+    /**
+     * The immutable configuration shared by split generators.
+     */
+    private static final class Profile {
+        final IBANRegistry registry;
+        final IBANCountry[] countries;
+        final double[] countryWeights;
+        /** Cumulative weights of {@link #CATEGORIES} followed by valid output, or null if all output is valid. */
+        final double[] invalidWeights;
+        final String[] unknownCountryCodes;
+
+        Profile(IBANRegistry registry, double[] countryWeights, double[] invalidWeights) {
+            this.registry = registry;
+            this.countries = registry.countries;
+            this.countryWeights = countryWeights;
+            this.invalidWeights = invalidWeights;
+            final List<String> unknown = new ArrayList<>();
+            for (char first = 'A'; first <= 'Z'; first++) {
+                for (char second = 'A'; second <= 'Z'; second++) {
+                    if (registry.indexOf(first, second) < 0) {
+                        unknown.add(new String(new char[] { first, second }));
+                    }
+                }
+            }
+            this.unknownCountryCodes = unknown.toArray(new String[0]);
+        }
+    }
+
+    /**
+     * Splits off a generator per sub-range for parallel streams.
+     */
+    private static final class RandomSpliterator implements Spliterator<String> {
+        private final IBANRandom generator;
+        private long remaining;
+
+        RandomSpliterator(IBANRandom generator, long remaining) {
+            this.generator = generator;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            remaining--;
+            action.accept(generator.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            if (remaining < 2048) {
+                return null;
+            }
+            final long half = remaining / 2;
+            remaining -= half;
+            return new RandomSpliterator(generator.split(), half);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+        }
+    }
+
+    /**
+     * Configures an {@link IBANRandom}. Instances are not thread safe.
+     */
+    public static final class Builder {
+        private Long seed;
+        private boolean sepaOnly;
+        private final Map<String, Double> weights = new HashMap<>();
+        private final EnumMap<IBANView.Result, Double> invalid = new EnumMap<>(IBANView.Result.class);
+
+        Builder() {
+            super();
+        }
+
+        /**
+         * Sets the seed, which makes the output reproducible.
+         * @param seed the seed for the {@link SplittableRandom}.
+         * @return this builder.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the relative weight of a country. Countries default to weight 1.
+         * @param countryCode a known country code. Cannot be null.
+         * @param weight the weight, zero or more; zero excludes the country.
+         * @return this builder.
+         * @throws IllegalArgumentException if the weight is negative or not finite.
+         */
+        public Builder weight(String countryCode, double weight) {
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight " + weight + " for " + countryCode);
+            }
+            weights.put(countryCode, weight);
+            return this;
+        }
+
+        /**
+         * Excludes the countries that don't participate in SEPA.
+         * @return this builder.
+         */
+        public Builder sepaOnly() {
+            this.sepaOnly = true;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of the output that is invalid in the given way.
+         * @param category one of {@code MALFORMED}, {@code UNKNOWN_COUNTRY_CODE}, {@code WRONG_LENGTH},
+         *                 {@code WRONG_STRUCTURE} and {@code WRONG_CHECKSUM}.
+         * @param fraction the fraction, from 0 to 1. The fractions of all categories add up to at most 1.
+         * @return this builder.
+         * @throws IllegalArgumentException if the category is not supported or the fraction is out of range.
+         */
+        public Builder invalid(IBANView.Result category, double fraction) {
+            if (!Arrays.asList(CATEGORIES).contains(category)) {
+                throw new IllegalArgumentException("Cannot generate " + category + " output.");
+            }
+            if (!(fraction >= 0.0 && fraction <= 1.0)) {
+                throw new IllegalArgumentException("Invalid fraction " + fraction);
+            }
+            invalid.put(category, fraction);
+            return this;
+        }
+
+        /**
+         * Creates the generator, for the countries of the registry in use.
+         * @return the generator.
+         * @throws IllegalArgumentException if a weight is set for an unknown country, if all countries have weight
+         *         zero, or if the invalid fractions add up to more than 1.
+         */
+        public IBANRandom build() {
+            final IBANRegistry registry = IBANRegistry.current();
+            for (String countryCode : weights.keySet()) {
+                if (registry.indexOf(countryCode) < 0) {
+                    throw new IllegalArgumentException("Unknown country code: " + countryCode);
+                }
+            }
+            final double[] countryWeights = new double[registry.countries.length];
+            double total = 0.0;
+            for (int i = 0; i < countryWeights.length; i++) {
+                final IBANCountry country = registry.countries[i];
+                double weight = weights.getOrDefault(country.getCountryCode(), 1.0);
+                if (sepaOnly && !country.isSEPA()) {
+                    weight = 0.0;
+                }
+                total += weight;
+                countryWeights[i] = total;
+            }
+            if (!(total > 0.0)) {
+                throw new IllegalArgumentException("At least one country must have a positive weight.");
+            }
+            double[] invalidWeights = null;
+            if (!invalid.isEmpty()) {
+                invalidWeights = new double[CATEGORIES.length + 1];
+                double sum = 0.0;
+                for (int i = 0; i < CATEGORIES.length; i++) {
+                    sum += invalid.getOrDefault(CATEGORIES[i], 0.0);
+                    invalidWeights[i] = sum;
+                }
+                if (sum > 1.0 + 1e-9) {
+                    throw new IllegalArgumentException("The invalid fractions add up to " + sum);
+                }
+                invalidWeights[CATEGORIES.length] = Math.max(1.0, sum);
+            }
+            return new IBANRandom(new Profile(registry, countryWeights, invalidWeights),
+                seed != null ? new SplittableRandom(seed) : new SplittableRandom());
+        }
+    }
+}
@@ -0,0 +1,480 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static nl.garvelink.iban.CountryCodesData.*;
+
+/**
+ * An immutable snapshot of the IBAN country data that the rest of this library validates against.
+ * <p>
+ * By default, the library uses the data compiled into it, which is the registry as of
+ * {@link CountryCodes#getLastUpdateDate()}. An application that can't wait for a library release to pick up a change in
+ * the SWIFT IBAN Registry can load a registry file at runtime and {@link #install(IBANRegistry) install} it:</p>
+ * <pre>
+ * IBANRegistry.reload(Paths.get("/etc/myapp/IBAN.yml"));
+ * </pre>
+ * <p>
+ * The file has the same layout as the {@code IBAN.yml} file in this library's source and JAR file. Only the YAML
+ * constructs used by that file are supported. Entries that omit the {@code bban} structure accept any alphanumeric
+ * character in their BBAN.</p>
+ * <p>
+ * The installed registry is published through a single volatile reference. Parsing an IBAN reads that reference once
+ * and works on the snapshot's pre-built tables from there on, so readers never lock and always see one consistent
+ * registry, even while another thread installs a new one. {@link IBAN} instances that were parsed against an earlier
+ * registry remain valid.</p>
+ * <p>
+ * {@link CountryCodes#SHORTEST_IBAN_LENGTH} and {@link CountryCodes#LONGEST_IBAN_LENGTH} are compile-time constants
+ * and always describe the default registry.</p>
+ * @since 1.18.0
+ */
+public final class IBANRegistry {
+
+    /**
+     * Size of {@link #lookup}, one slot per pair of letters {@code AA...ZZ}.
+     */
+    private static final int LOOKUP_SIZE = 26 * 26;
+
+    /**
+     * The longest IBAN that ISO 13616 allows, and so the longest that {@link #load(Reader)} accepts.
+     */
+    static final int LONGEST_POSSIBLE_IBAN = 34;
+
+    /**
+     * The registry compiled into the library.
+     */
+    private static final IBANRegistry DEFAULT = new IBANRegistry(LAST_UPDATE_REV, LAST_UPDATE_DATE,
+        COUNTRY_CODES.clone(), COUNTRY_IBAN_LENGTHS.clone(), BANK_CODE_BRANCH_CODE.clone(),
+        ACCOUNT_NUMBER_CHECK_DIGITS.clone(), ACCOUNT_TYPE.clone(), BBAN_STRUCTURES.clone());
+
+    /**
+     * The registry in use. Readers must read this field once per operation.
+     */
+    private static volatile IBANRegistry current = DEFAULT;
+
+    /** The revision of the SWIFT IBAN Registry that this data reflects. */
+    private final String revision;
+    /** The "yyyy-MM-dd" datestamp that this data was updated. */
+    private final String lastUpdate;
+    /** Known country codes, sorted. All other arrays use the same indices. */
+    final String[] countryCodes;
+    /** IBAN length per country, with the {@link CountryCodesData#SEPA} and {@link CountryCodesData#SWIFT} flags. */
+    final int[] countryData;
+    /** Bank and branch identifier offsets per country, as per {@link CountryCodesData#BANK_CODE_BRANCH_CODE}. */
+    final int[] bankCodeBranchCode;
+    /**
+     * Account number and national check digit offsets per country, as per
+     * {@link CountryCodesData#ACCOUNT_NUMBER_CHECK_DIGITS}.
+     */
+    final int[] accountNumberCheckDigits;
+    /** Account type offsets per country, as per {@link CountryCodesData#ACCOUNT_TYPE}. */
+    final int[] accountType;
+    /** BBAN structure per country, as per {@link CountryCodesData#BBAN_STRUCTURES}. */
+    final String[] bbanStructures;
+    /** Country descriptor per country. */
+    final IBANCountry[] countries;
+    /** Country index for each pair of upper case letters, or -1. */
+    private final short[] lookup;
+    /** Unmodifiable view of {@link #countryCodes}. */
+    private final List<String> knownCountryCodes;
+
+    private IBANRegistry(String revision, String lastUpdate, String[] countryCodes, int[] countryData,
+                         int[] bankCodeBranchCode, int[] accountNumberCheckDigits, int[] accountType,
+                         String[] bbanStructures) {
+        this.revision = revision;
+        this.lastUpdate = lastUpdate;
+        this.countryCodes = countryCodes;
+        this.countryData = countryData;
+        this.bankCodeBranchCode = bankCodeBranchCode;
+        this.accountNumberCheckDigits = accountNumberCheckDigits;
+        this.accountType = accountType;
+        this.bbanStructures = bbanStructures;
+        this.countries = new IBANCountry[countryCodes.length];
+        for (int i = 0; i < countryCodes.length; i++) {
+            countries[i] = new IBANCountry(i, countryCodes[i], countryData[i], bankCodeBranchCode[i],
+                accountNumberCheckDigits[i], accountType[i], bbanStructures[i]);
+        }
+        this.lookup = new short[LOOKUP_SIZE];
+        Arrays.fill(lookup, (short) -1);
+        for (int i = 0; i < countryCodes.length; i++) {
+            lookup[slot(countryCodes[i].charAt(0), countryCodes[i].charAt(1))] = (short) i;
+        }
+        this.knownCountryCodes = Collections.unmodifiableList(Arrays.asList(countryCodes));
+    }
+
+    /**
+     * Returns the registry compiled into the library.
+     * @return the default registry.
+     */
+    public static IBANRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the registry in use.
+     * @return the registry that {@link IBAN#parse(CharSequence)} and {@link CountryCodes} currently validate against.
+     */
+    public static IBANRegistry getCurrent() {
+        return current;
+    }
+
+    /**
+     * Package-private alias of {@link #getCurrent()} for the library's hot paths.
+     */
+    static IBANRegistry current() {
+        return current;
+    }
+
+    /**
+     * Makes the given registry the one in use.
+     * @param registry the registry to install. Cannot be null.
+     * @return the registry that was in use before.
+     * @throws NullPointerException if the input is null.
+     */
+    public static synchronized IBANRegistry install(IBANRegistry registry) {
+        if (registry == null) {
+            throw new NullPointerException("registry");
+        }
+        IBANRegistry previous = current;
+        current = registry;
+        return previous;
+    }
+
+    /**
+     * Loads a registry file and installs it. If the file can't be loaded, the registry in use stays in place.
+     * @param file the registry file, in the format of {@code IBAN.yml}.
+     * @return the newly installed registry.
+     * @throws IOException if the file can't be read or is invalid.
+     */
+    public static IBANRegistry reload(Path file) throws IOException {
+        IBANRegistry registry = load(file);
+        install(registry);
+        return registry;
+    }
+
+    /**
+     * Re-installs the registry compiled into the library.
+     * @return the registry that was in use before.
+     */
+    public static IBANRegistry reset() {
+        return install(DEFAULT);
+    }
+
+    /**
+     * Loads a registry file without installing it.
+     * @param file the registry file, in the format of {@code IBAN.yml}, in UTF-8.
+     * @return the loaded registry.
+     * @throws IOException if the file can't be read or is invalid.
+     */
+    public static IBANRegistry load(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(reader);
+        }
+    }
+
+    /**
+     * Loads a registry file without installing it.
+     * @param reader the registry file, in the format of {@code IBAN.yml}. Not closed by this method.
+     * @return the loaded registry.
+     * @throws IOException if the file can't be read or is invalid.
+     */
+    public static IBANRegistry load(Reader reader) throws IOException {
+        Map<String, Object> document = RegistryFileParser.parse(reader);
+        Map<String, Object> meta = mapping(document, "meta", "document");
+        String revision = scalar(meta, "iban_registry_version", "meta");
+        String lastUpdate = scalar(meta, "last_update", "meta");
+        try {
+            LocalDate.parse(lastUpdate);
+        } catch (DateTimeParseException e) {
+            throw new IOException("meta.last_update must be a yyyy-MM-dd date: " + lastUpdate, e);
+        }
+        Object ibans = document.get("ibans");
+        if (!(ibans instanceof List) || ((List<?>) ibans).isEmpty()) {
+            throw new IOException("The registry file must contain a non-empty 'ibans' list.");
+        }
+
+        TreeMap<String, Map<String, Object>> entries = new TreeMap<>();
+        for (Object item : (List<?>) ibans) {
+            if (!(item instanceof Map)) {
+                throw new IOException("Every entry in 'ibans' must be a mapping.");
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> entry = (Map<String, Object>) item;
+            String countryCode = scalar(entry, "country_code", "ibans entry");
+            if (countryCode.length() != 2 || !isUpperCaseLetter(countryCode.charAt(0))
+                    || !isUpperCaseLetter(countryCode.charAt(1))) {
+                throw new IOException("Invalid country code: " + countryCode);
+            }
+            if (entries.put(countryCode, entry) != null) {
+                throw new IOException("Duplicate country code: " + countryCode);
+            }
+        }
+
+        final int size = entries.size();
+        String[] countryCodes = new String[size];
+        int[] countryData = new int[size];
+        int[] bankCodeBranchCode = new int[size];
+        int[] accountNumberCheckDigits = new int[size];
+        int[] accountType = new int[size];
+        String[] bbanStructures = new String[size];
+        int i = 0;
+        for (Map.Entry<String, Map<String, Object>> e : entries.entrySet()) {
+            String countryCode = e.getKey();
+            Map<String, Object> entry = e.getValue();
+            int length = integer(entry, "length", countryCode);
+            if (length < IBAN.SHORTEST_POSSIBLE_IBAN || length > LONGEST_POSSIBLE_IBAN) {
+                throw new IOException(countryCode + ": invalid length " + length);
+            }
+            Map<String, Object> flags = mapping(entry, "flags", countryCode);
+            countryData[i] = length
+                | (bool(flags, "in_swift_registry", countryCode) ? SWIFT : 0)
+                | (bool(flags, "sepa_country", countryCode) ? SEPA : 0);
+            countryCodes[i] = countryCode;
+            bbanStructures[i] = entry.containsKey("bban")
+                ? expandBban(scalar(entry, "bban", countryCode), length, countryCode)
+                : repeat('c', length - 4);
+            Object embeds = entry.get("embeds");
+            if (embeds instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> fields = (Map<String, Object>) embeds;
+                bankCodeBranchCode[i] = field(fields, "bank_code", length, countryCode)
+                    | field(fields, "branch_code", length, countryCode) << BRANCH_IDENTIFIER_BEGIN_SHIFT;
+                accountNumberCheckDigits[i] = field(fields, "account_number", length, countryCode)
+                    | field(fields, "national_check_digits", length, countryCode) << BRANCH_IDENTIFIER_BEGIN_SHIFT;
+                accountType[i] = field(fields, "account_type", length, countryCode);
+            } else if (embeds != null) {
+                throw new IOException(countryCode + ": 'embeds' must be a mapping.");
+            }
+            i++;
+        }
+        return new IBANRegistry(revision, lastUpdate, countryCodes, countryData, bankCodeBranchCode,
+            accountNumberCheckDigits, accountType, bbanStructures);
+    }
+
+    /**
+     * Returns the revision of the SWIFT IBAN Registry that this data reflects.
+     * @return revision information of the SWIFT IBAN Registry.
+     */
+    public String getRevision() {
+        return revision;
+    }
+
+    /**
+     * Returns the date that this data was last updated.
+     * @return last update date of the reference data.
+     */
+    public LocalDate getLastUpdateDate() {
+        return LocalDate.parse(lastUpdate);
+    }
+
+    /**
+     * Returns the known country codes.
+     * @return the collection of known country codes, upper case, in alphabetical order.
+     */
+    public Collection<String> getKnownCountryCodes() {
+        return knownCountryCodes;
+    }
+
+    /**
+     * Returns whether the given string is a known country code.
+     * @param countryCode the string to evaluate.
+     * @return {@code true} if {@code countryCode} is a two-letter, uppercase String present in
+     *         {@link #getKnownCountryCodes()}.
+     */
+    public boolean isKnownCountryCode(CharSequence countryCode) {
+        return countryCode != null && countryCode.length() == 2 && indexOf(countryCode) > -1;
+    }
+
+    /**
+     * Returns the IBAN length for a given country code.
+     * @param countryCode a non-null, uppercase, two-character country code.
+     * @return the IBAN length for the given country, or -1 if the input is not a known, two-character country code.
+     * @throws NullPointerException if the input is null.
+     */
+    public int getLengthForCountryCode(CharSequence countryCode) {
+        int index = indexOf(countryCode);
+        return index > -1 ? countryData[index] & REMOVE_METADATA_MASK : -1;
+    }
+
+    /**
+     * Returns the descriptor of the given country.
+     * @param countryCode a two-letter, uppercase country code.
+     * @return the country, or {@code EMPTY} if the input is not a known, two-character country code.
+     * @throws NullPointerException if the input is null.
+     */
+    public Optional<IBANCountry> getCountry(CharSequence countryCode) {
+        int index = indexOf(countryCode);
+        return index > -1 ? Optional.of(countries[index]) : Optional.empty();
+    }
+
+    /**
+     * Returns the index of the given country code.
+     * @param countryCode a country code.
+     * @return the array index, or -1 if the input is not a known, two-character country code.
+     * @throws NullPointerException if the input is null.
+     */
+    int indexOf(CharSequence countryCode) {
+        if (countryCode.length() != 2) {
+            return -1;
+        }
+        return indexOf(countryCode.charAt(0), countryCode.charAt(1));
+    }
+
+    /**
+     * Returns the index of the given country, which may come from another registry.
+     * @param country a country descriptor.
+     * @return the array index, or -1 if this registry doesn't know the country code.
+     */
+    int indexOf(IBANCountry country) {
+        final int index = country.index;
+        if (index < countries.length && countries[index] == country) {
+            return index;
+        }
+        return indexOf(country.getCountryCode());
+    }
+
+    /**
+     * Returns the index of the country code made up of the given characters.
+     * @param first the first character of the country code.
+     * @param second the second character of the country code.
+     * @return the array index, or -1 if the characters are not a known, uppercase country code.
+     */
+    int indexOf(char first, char second) {
+        if (!isUpperCaseLetter(first) || !isUpperCaseLetter(second)) {
+            return -1;
+        }
+        return lookup[slot(first, second)];
+    }
+
+    private static int slot(char first, char second) {
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * Expands a registry BBAN format like {@code "4!a10!n"} into one character class per position, like
+     * {@code "aaaannnnnnnnnn"}. This is the runtime counterpart of the {@code expand_bban} filter in the code generator.
+     */
+    private static String expandBban(String format, int length, String countryCode) throws IOException {
+        StringBuilder sb = new StringBuilder(length);
+        int count = 0;
+        int i = 0;
+        while (i < format.length()) {
+            char c = format.charAt(i);
+            if (c >= '0' && c <= '9') {
+                count = count * 10 + (c - '0');
+                i++;
+            } else if (c == '!' && count > 0 && i + 1 < format.length()
+                    && "nac".indexOf(format.charAt(i + 1)) >= 0 && sb.length() + count <= length) {
+                sb.append(repeat(format.charAt(i + 1), count));
+                count = 0;
+                i += 2;
+            } else {
+                throw new IOException(countryCode + ": unsupported BBAN format " + format);
+            }
+        }
+        if (count != 0 || sb.length() != length - 4) {
+            throw new IOException(countryCode + ": BBAN format " + format + " does not match length " + length);
+        }
+        return sb.toString();
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    /**
+     * Reads the {@code position} and {@code length} of an embedded field into the begin and end offset encoding of
+     * {@link CountryCodesData#BANK_CODE_BRANCH_CODE} (unshifted), or 0 if the field is absent.
+     */
+    private static int field(Map<String, Object> embeds, String key, int length, String countryCode)
+            throws IOException {
+        if (embeds.get(key) == null) {
+            return 0;
+        }
+        Map<String, Object> field = mapping(embeds, key, countryCode);
+        int position = integer(field, "position", countryCode + "." + key);
+        int fieldLength = integer(field, "length", countryCode + "." + key);
+        if (position < 4 || fieldLength < 1 || position + fieldLength > length) {
+            throw new IOException(countryCode + ": " + key + " out of range");
+        }
+        return position | (position + fieldLength) << BANK_IDENTIFIER_END_SHIFT;
+    }
+
+    private static Map<String, Object> mapping(Map<String, Object> map, String key, String context)
+            throws IOException {
+        Object value = map.get(key);
+        if (!(value instanceof Map)) {
+            throw new IOException(context + ": '" + key + "' must be a mapping.");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) value;
+        return result;
+    }
+
+    private static String scalar(Map<String, Object> map, String key, String context) throws IOException {
+        Object value = map.get(key);
+        if (!(value instanceof String)) {
+            throw new IOException(context + ": '" + key + "' is required.");
+        }
+        return (String) value;
+    }
+
+    private static int integer(Map<String, Object> map, String key, String context) throws IOException {
+        String value = scalar(map, key, context);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IOException(context + ": '" + key + "' must be a number: " + value, e);
+        }
+    }
+
+    private static boolean bool(Map<String, Object> map, String key, String context) throws IOException {
+        String value = scalar(map, key, context);
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "yes":
+            case "true":
+            case "on":
+                return true;
+            case "no":
+            case "false":
+            case "off":
+                return false;
+            default:
+                throw new IOException(context + ": '" + key + "' must be yes or no: " + value);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable table that routes IBANs to values, such as clearing channels, by the longest matching prefix of their
+ * bank and branch identifiers.
+ * <p>
+ * A rule consists of a country code and a prefix of the routing key: the bank identifier followed by the branch
+ * identifier, as laid out in {@link IBANCountry}. An empty prefix matches every IBAN of the country. The builder
+ * compiles the rules into a trie of arrays, one per country, so that a lookup walks the IBAN's own characters in
+ * O(length) time without allocating.</p>
+ * <pre>
+ * IBANRoutingTable&lt;String&gt; table = IBANRoutingTable.&lt;String&gt;builder()
+ *     .route("DE", "1001", "A")          // DE, bank code 1001xxxx
+ *     .route("DE", "", "B")              // other German banks
+ *     .defaultValue("C")                 // other countries
+ *     .build();
+ * String channel = table.route(iban);
+ * </pre>
+ * <p>
+ * Instances are immutable and thread safe. To replace the rules at runtime, build a new table and publish it through
+ * a {@code volatile} field or an {@link java.util.concurrent.atomic.AtomicReference}; lookups in flight finish on
+ * the table they started with.</p>
+ * @param <V> the type of routed values.
+ * @since 1.18.0
+ */
+public final class IBANRoutingTable<V> {
+
+    /** The number of two-letter country codes, see {@link #countryIndex(char, char)}. */
+    private static final int COUNTRIES = 26 * 26;
+
+    /** The root node per country index, or -1 if the country has no rules. */
+    private final int[] roots;
+    /** Node {@code n}'s children are edges {@code firstEdge[n]} up to {@code firstEdge[n + 1]}. */
+    private final int[] firstEdge;
+    /** The character of each edge, sorted per node. */
+    private final char[] edgeSymbols;
+    private final int[] edgeTargets;
+    /** The index in {@link #values} of the value of each node, or -1 if no rule ends there. */
+    private final int[] nodeValues;
+    private final Object[] values;
+    private final V defaultValue;
+    private final int ruleCount;
+
+    private IBANRoutingTable(int[] roots, int[] firstEdge, char[] edgeSymbols, int[] edgeTargets, int[] nodeValues,
+                             Object[] values, V defaultValue, int ruleCount) {
+        this.roots = roots;
+        this.firstEdge = firstEdge;
+        this.edgeSymbols = edgeSymbols;
+        this.edgeTargets = edgeTargets;
+        this.nodeValues = nodeValues;
+        this.values = values;
+        this.defaultValue = defaultValue;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * Returns a new builder.
+     * @param <V> the type of routed values.
+     * @return an empty builder.
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the value of the rule with the longest prefix that matches the IBAN.
+     * @param iban the IBAN. Cannot be null.
+     * @return the value, or the default value if no rule matches.
+     */
+    public V route(IBAN iban) {
+        return route(iban.toPlainString(), iban.getCountry());
+    }
+
+    /**
+     * Returns the value of the rule with the longest prefix that matches a plain IBAN, without allocating. The IBAN
+     * is not validated.
+     * @param plainIban an IBAN without spaces, such as a value checked by {@link IBANView}. Cannot be null.
+     * @return the value, or the default value if no rule matches or the country is unknown.
+     */
+    public V route(CharSequence plainIban) {
+        if (plainIban.length() < IBAN.SHORTEST_POSSIBLE_IBAN) {
+            return defaultValue;
+        }
+        final IBANRegistry registry = IBANRegistry.current();
+        final int index = registry.indexOf(plainIban.charAt(0), plainIban.charAt(1));
+        return index < 0 ? defaultValue : route(plainIban, registry.countries[index]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V route(CharSequence value, IBANCountry country) {
+        final int countryIndex = countryIndex(value.charAt(0), value.charAt(1));
+        if (countryIndex < 0) {
+            return defaultValue;
+        }
+        int node = roots[countryIndex];
+        if (node < 0) {
+            return defaultValue;
+        }
+        int best = nodeValues[node];
+        final int bankBegin = country.getBankIdentifierBegin();
+        final int bankLength = length(bankBegin, country.getBankIdentifierEnd());
+        final int branchBegin = country.getBranchIdentifierBegin();
+        final int keyLength = bankLength + length(branchBegin, country.getBranchIdentifierEnd());
+        for (int i = 0; i < keyLength; i++) {
+            final int position = i < bankLength ? bankBegin + i : branchBegin + i - bankLength;
+            if (position >= value.length()) {
+                break;
+            }
+            node = child(node, value.charAt(position));
+            if (node < 0) {
+                break;
+            }
+            if (nodeValues[node] >= 0) {
+                best = nodeValues[node];
+            }
+        }
+        return best < 0 ? defaultValue : (V) values[best];
+    }
+
+    /**
+     * Returns the child of the node along the given symbol, or -1. Rule prefixes are upper case, and
+     * {@link IBAN#parse(CharSequence)} keeps lowercase letters in the BBAN, so the symbol is folded to upper case.
+     */
+    private int child(int node, char symbol) {
+        if (symbol >= 'a' && symbol <= 'z') {
+            symbol -= 'a' - 'A';
+        }
+        int low = firstEdge[node];
+        int high = firstEdge[node + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char c = edgeSymbols[mid];
+            if (c < symbol) {
+                low = mid + 1;
+            } else if (c > symbol) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value for IBANs that no rule matches.
+     * @return the default value, possibly null.
+     */
+    public V getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the number of rules in this table.
+     * @return the number of rules.
+     */
+    public int size() {
+        return ruleCount;
+    }
+
+    private static int length(int begin, int end) {
+        return begin < 0 ? 0 : end - begin;
+    }
+
+    private static int countryIndex(char first, char second) {
+        if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') {
+            return -1;
+        }
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    /**
+     * Collects routing rules and compiles them into an {@link IBANRoutingTable}. Instances are not thread safe.
+     * @param <V> the type of routed values.
+     */
+    public static final class Builder<V> {
+        private final Node[] roots = new Node[COUNTRIES];
+        private final List<Object> values = new ArrayList<>();
+        private V defaultValue;
+
+        Builder() {
+            super();
+        }
+
+        /**
+         * Adds a rule.
+         * @param countryCode a two-letter, uppercase country code. Cannot be null.
+         * @param prefix a prefix of the bank identifier followed by the branch identifier, in uppercase; empty to
+         *               match the whole country. Cannot be null.
+         * @param value the value to route to. Cannot be null.
+         * @return this builder.
+         * @throws IllegalArgumentException if the country code or the prefix is malformed, if the prefix is longer
+         *         than the country's bank and branch identifiers, or if the same rule was already added.
+         */
+        public Builder<V> route(String countryCode, String prefix, V value) {
+            if (value == null) {
+                throw new NullPointerException("value");
+            }
+            final int countryIndex =
+                countryCode.length() == 2 ? countryIndex(countryCode.charAt(0), countryCode.charAt(1)) : -1;
+            if (countryIndex < 0) {
+                throw new IllegalArgumentException("Invalid country code: " + countryCode);
+            }
+            final IBANCountry country = IBANRegistry.current().getCountry(countryCode).orElse(null);
+            if (country != null) {
+                final int keyLength = length(country.getBankIdentifierBegin(), country.getBankIdentifierEnd())
+                    + length(country.getBranchIdentifierBegin(), country.getBranchIdentifierEnd());
+                if (prefix.length() > keyLength) {
+                    throw new IllegalArgumentException("Prefix " + prefix + " is longer than the " + keyLength
+                        + " bank and branch characters of " + countryCode + ".");
+                }
+            }
+            if (roots[countryIndex] == null) {
+                roots[countryIndex] = new Node();
+            }
+            Node node = roots[countryIndex];
+            for (int i = 0; i < prefix.length(); i++) {
+                final char c = prefix.charAt(i);
+                if (!((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                    throw new IllegalArgumentException("Invalid character '" + c + "' in prefix " + prefix + ".");
+                }
+                node = node.children.computeIfAbsent(c, k -> new Node());
+            }
+            if (node.value >= 0) {
+                throw new IllegalArgumentException("Duplicate rule for " + countryCode + " " + prefix + ".");
+            }
+            node.value = values.size();
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * Sets the value for IBANs that no rule matches.
+         * @param defaultValue the default value, possibly null.
+         * @return this builder.
+         */
+        public Builder<V> defaultValue(V defaultValue) {
+            this.defaultValue = defaultValue;
+            return this;
+        }
+
+        /**
+         * Compiles the rules into a table. The builder can be used further without affecting it.
+         * @return the table.
+         */
+        public IBANRoutingTable<V> build() {
+            // Number the nodes breadth-first, so that each node's edges are contiguous and sorted.
+            final List<Node> nodes = new ArrayList<>();
+            final ArrayDeque<Node> queue = new ArrayDeque<>();
+            final int[] rootIds = new int[COUNTRIES];
+            Arrays.fill(rootIds, -1);
+            for (int i = 0; i < COUNTRIES; i++) {
+                if (roots[i] != null) {
+                    rootIds[i] = nodes.size();
+                    nodes.add(roots[i]);
+                    queue.add(roots[i]);
+                }
+            }
+            final Map<Node, Integer> ids = new IdentityHashMap<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                ids.put(nodes.get(i), i);
+            }
+            while (!queue.isEmpty()) {
+                for (Node child : queue.poll().children.values()) {
+                    ids.put(child, nodes.size());
+                    nodes.add(child);
+                    queue.add(child);
+                }
+            }
+            final int[] firstEdge = new int[nodes.size() + 1];
+            final char[] edgeSymbols = new char[Math.max(0, nodes.size() - countRoots())];
+            final int[] edgeTargets = new int[edgeSymbols.length];
+            final int[] nodeValues = new int[nodes.size()];
+            int edge = 0;
+            for (int n = 0; n < nodes.size(); n++) {
+                final Node node = nodes.get(n);
+                firstEdge[n] = edge;
+                nodeValues[n] = node.value;
+                for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                    edgeSymbols[edge] = entry.getKey();
+                    edgeTargets[edge] = ids.get(entry.getValue());
+                    edge++;
+                }
+            }
+            firstEdge[nodes.size()] = edge;
+            return new IBANRoutingTable<>(rootIds, firstEdge, edgeSymbols, edgeTargets, nodeValues, values.toArray(),
+                defaultValue, values.size());
+        }
+
+        private int countRoots() {
+            int count = 0;
+            for (Node root : roots) {
+                if (root != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * A trie node while building.
+     */
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        int value = -1;
+    }
+}
@@ -0,0 +1,509 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * A read-only set of IBANs, backed by a memory-mapped file.
+ * <p>
+ * The file holds the IBANs in sorted order as fixed-width records, packed at six bits per character. Opening a file
+ * reads only a sparse index of every 1024th record into memory; {@link #contains(IBAN)} narrows the search down with
+ * that index and then binary-searches the mapped records, without allocating. Processes on the same host that open
+ * the same file share its pages in the operating system's page cache, and a restarted process can serve lookups as
+ * soon as the file is mapped.</p>
+ * <p>
+ * Files are written by a {@link Builder}, which accepts IBANs in any order and sorts them on disk if they don't fit
+ * in memory. Instances are thread safe.</p>
+ * @since 1.18.0
+ */
+public final class IBANSetFile {
+
+    /** File signature, "IBSF". */
+    private static final int MAGIC = 0x49425346;
+
+    /** File format version. */
+    private static final int VERSION = 1;
+
+    /** Magic, version, record width, longest IBAN, record count, reserved. */
+    private static final int HEADER_SIZE = 32;
+
+    /** Width of a packed record holding the longest possible IBAN. */
+    private static final int MAX_WIDTH = (IBANRegistry.LONGEST_POSSIBLE_IBAN * 6 + 7) / 8;
+
+    /** Number of records between entries of the sparse index. */
+    private static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final ByteBuffer[] segments;
+    private final int recordsPerSegment;
+    private final int width;
+    private final int maxLength;
+    private final long size;
+    private final long[] sparseIndex;
+    private final int blockSize;
+
+    private IBANSetFile(FileChannel channel, int recordsPerSegment, int blockSize) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Keep reading until the header is complete or the file ends.
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+            throw new IOException("Not an IBAN set file.");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException("Unsupported IBAN set file version " + header.getInt(4) + ".");
+        }
+        this.width = header.getInt(8);
+        this.maxLength = header.getInt(12);
+        this.size = header.getLong(16);
+        if (width < 8 || width > MAX_WIDTH || maxLength > IBANRegistry.LONGEST_POSSIBLE_IBAN || size < 0
+                || channel.size() != HEADER_SIZE + size * width) {
+            throw new IOException("IBAN set file is corrupt.");
+        }
+        this.recordsPerSegment = Math.min(recordsPerSegment, Integer.MAX_VALUE / width);
+        this.segments = new ByteBuffer[(int) ((size + this.recordsPerSegment - 1) / this.recordsPerSegment)];
+        for (int i = 0; i < segments.length; i++) {
+            long first = (long) i * this.recordsPerSegment;
+            long count = Math.min(this.recordsPerSegment, size - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * width, count * width);
+        }
+        this.blockSize = blockSize;
+        this.sparseIndex = new long[(int) ((size + blockSize - 1) / blockSize)];
+        for (int i = 0; i < sparseIndex.length; i++) {
+            long record = (long) i * blockSize;
+            sparseIndex[i] = segment(record).getLong(offset(record));
+        }
+    }
+
+    /**
+     * Opens an IBAN set file.
+     * @param file a file written by {@link Builder#write(Path)}.
+     * @return the set.
+     * @throws IOException if the file cannot be read or is not an IBAN set file.
+     */
+    public static IBANSetFile open(Path file) throws IOException {
+        return open(file, Integer.MAX_VALUE, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Opens an IBAN set file with the given segment and block sizes. Exposed for testing.
+     */
+    static IBANSetFile open(Path file, int recordsPerSegment, int blockSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new IBANSetFile(channel, recordsPerSegment, blockSize);
+        }
+    }
+
+    /**
+     * Returns a new builder.
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder(Builder.DEFAULT_RUN_SIZE);
+    }
+
+    /**
+     * Returns the number of IBANs in this set.
+     * @return the number of IBANs.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this set contains the given IBAN. This method does not allocate.
+     * @param iban the IBAN to look up. Cannot be null.
+     * @return true if the IBAN is in this set.
+     */
+    public boolean contains(IBAN iban) {
+        return contains(iban.toPlainString());
+    }
+
+    /**
+     * Returns whether this set contains the given IBAN. This method does not allocate.
+     * @param iban an IBAN in plain format, such as returned by {@link IBAN#toPlainString()}. Cannot be null.
+     * @return true if the IBAN is in this set, false if not or if the input is not in plain format. Letters in the
+     *         BBAN may be in either case; the country code must be upper case.
+     */
+    public boolean contains(CharSequence iban) {
+        final int length = iban.length();
+        if (length < 2 || length > maxLength || iban.charAt(0) > 'Z' || iban.charAt(1) > 'Z') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (symbol(iban.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        final long k0 = word(iban, 0);
+        final long k1 = word(iban, 1);
+        final long k2 = word(iban, 2);
+        final long k3 = word(iban, 3);
+
+        // The sparse index bounds the range of records whose first eight bytes equal those of the key.
+        int firstBlock = lowerBound(k0) - 1;
+        int endBlock = upperBound(k0);
+        long low = Math.max(0, firstBlock) * (long) blockSize;
+        long high = Math.min(size, endBlock * (long) blockSize) - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int cmp = compare(mid, k0, k1, k2, k3);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first sparse index entry that is not less than the key.
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = sparseIndex.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(sparseIndex[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first sparse index entry that is greater than the key.
+     */
+    private int upperBound(long key) {
+        int low = 0;
+        int high = sparseIndex.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(sparseIndex[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(long record, long k0, long k1, long k2, long k3) {
+        final ByteBuffer segment = segment(record);
+        final int offset = offset(record);
+        for (int i = 0; i < width; i++) {
+            long word = i < 8 ? k0 : i < 16 ? k1 : i < 24 ? k2 : k3;
+            int wanted = (int) (word >>> (56 - 8 * (i & 7))) & 0xFF;
+            int stored = segment.get(offset + i) & 0xFF;
+            if (stored != wanted) {
+                return stored - wanted;
+            }
+        }
+        return 0;
+    }
+
+    private ByteBuffer segment(long record) {
+        return segments[(int) (record / recordsPerSegment)];
+    }
+
+    private int offset(long record) {
+        return (int) (record % recordsPerSegment) * width;
+    }
+
+    /**
+     * Maps an IBAN character to a six-bit symbol that sorts in the same order, leaving zero for padding. Lowercase
+     * letters, which {@link IBAN#parse(CharSequence)} keeps in the BBAN, map to the symbol of their upper case.
+     * @return the symbol, or zero if the character cannot occur in a plain format IBAN.
+     */
+    private static int symbol(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 11;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the {@code index}th big-endian 64-bit word of the packed representation of the given IBAN.
+     */
+    private static long word(CharSequence iban, int index) {
+        final int firstBit = index * 64;
+        final int end = Math.min(iban.length(), (firstBit + 64 + 5) / 6);
+        long word = 0L;
+        for (int i = Math.max(0, firstBit / 6); i < end; i++) {
+            int shift = 58 - (i * 6 - firstBit);
+            long symbol = symbol(iban.charAt(i));
+            word |= shift >= 0 ? symbol << shift : symbol >>> -shift;
+        }
+        return word;
+    }
+
+    /**
+     * Packs the given IBAN into a record of {@link #MAX_WIDTH} bytes.
+     */
+    private static byte[] pack(CharSequence iban) {
+        byte[] record = new byte[MAX_WIDTH];
+        for (int i = 0; i < MAX_WIDTH; i++) {
+            record[i] = (byte) (word(iban, i / 8) >>> (56 - 8 * (i & 7)));
+        }
+        return record;
+    }
+
+    private static int compareRecords(byte[] a, byte[] b) {
+        for (int i = 0; i < a.length; i++) {
+            int cmp = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Collects IBANs in any order and writes them to an {@link IBANSetFile}. Duplicates are written once. When more
+     * IBANs are added than fit in one in-memory run, the sorted run is spilled to a file in a new directory under the
+     * system's default temporary-file directory ({@code java.io.tmpdir}), and the runs are merged when the file is
+     * written. Instances are not thread safe.
+     */
+    public static final class Builder {
+
+        /** Number of IBANs sorted in memory before spilling to a temporary file. */
+        private static final int DEFAULT_RUN_SIZE = 1 << 20;
+
+        private final int runSize;
+        private final List<String> run = new ArrayList<>();
+        private final List<Path> runFiles = new ArrayList<>();
+        private Path tempDirectory;
+        private int maxLength = 0;
+
+        Builder(int runSize) {
+            this.runSize = runSize;
+        }
+
+        /**
+         * Adds an IBAN.
+         * @param iban the IBAN. Cannot be null.
+         * @return this builder.
+         * @throws IOException if spilling a run to disk fails.
+         */
+        public Builder add(IBAN iban) throws IOException {
+            // In upper case, so that the sort order of the run matches that of the packed records.
+            String value = iban.toPlainString().toUpperCase(Locale.ROOT);
+            maxLength = Math.max(maxLength, value.length());
+            run.add(value);
+            if (run.size() >= runSize) {
+                spill();
+            }
+            return this;
+        }
+
+        /**
+         * Parses and adds an IBAN.
+         * @param iban the IBAN, in plain or pretty format. Cannot be null.
+         * @return this builder.
+         * @throws IOException if spilling a run to disk fails.
+         * @throws IBANException if the input is not a valid IBAN.
+         */
+        public Builder add(CharSequence iban) throws IOException {
+            return add(IBAN.valueOf(iban));
+        }
+
+        /**
+         * Adds all IBANs from the given stream.
+         * @param ibans the IBANs. Cannot be null.
+         * @return this builder.
+         * @throws IOException if spilling a run to disk fails.
+         */
+        public Builder addAll(Stream<IBAN> ibans) throws IOException {
+            for (IBAN iban : (Iterable<IBAN>) ibans::iterator) {
+                add(iban);
+            }
+            return this;
+        }
+
+        /**
+         * Sorts the collected IBANs and writes them to the target file. The file is written next to the target and
+         * then moved into place, so that processes that have the old file open are not affected. The builder can't
+         * be used after this method is called.
+         * @param target the file to write. Replaced if it exists.
+         * @throws IOException if writing fails.
+         */
+        public void write(Path target) throws IOException {
+            Path absolute = target.toAbsolutePath();
+            Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+            try {
+                int width = Math.max(8, (maxLength * 6 + 7) / 8);
+                long count;
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.write(new byte[HEADER_SIZE]);
+                    if (runFiles.isEmpty()) {
+                        count = writeRun(out, width);
+                    } else {
+                        spill();
+                        count = merge(out, width);
+                    }
+                }
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(maxLength).putLong(count).flip();
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    while (header.hasRemaining()) {
+                        channel.write(header, header.position());
+                    }
+                }
+                try {
+                    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+                deleteRuns();
+            }
+        }
+
+        /**
+         * Sorts the in-memory run and writes it to the output, skipping duplicates.
+         * @return the number of records written.
+         */
+        private long writeRun(OutputStream out, int width) throws IOException {
+            Collections.sort(run);
+            long count = 0;
+            String previous = null;
+            for (String value : run) {
+                if (!value.equals(previous)) {
+                    out.write(pack(value), 0, width);
+                    count++;
+                    previous = value;
+                }
+            }
+            run.clear();
+            return count;
+        }
+
+        private void spill() throws IOException {
+            if (run.isEmpty()) {
+                return;
+            }
+            if (tempDirectory == null) {
+                tempDirectory = Files.createTempDirectory("ibanset");
+            }
+            Path file = Files.createTempFile(tempDirectory, "run", ".bin");
+            runFiles.add(file);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                writeRun(out, MAX_WIDTH);
+            }
+        }
+
+        /**
+         * Merges the spilled runs into the output, skipping duplicates.
+         * @return the number of records written.
+         */
+        private long merge(OutputStream out, int width) throws IOException {
+            PriorityQueue<RunReader> queue = new PriorityQueue<>(
+                (a, b) -> compareRecords(a.current, b.current));
+            List<RunReader> readers = new ArrayList<>();
+            try {
+                for (Path file : runFiles) {
+                    RunReader reader = new RunReader(file);
+                    readers.add(reader);
+                    if (reader.advance()) {
+                        queue.add(reader);
+                    }
+                }
+                long count = 0;
+                byte[] previous = null;
+                while (!queue.isEmpty()) {
+                    RunReader reader = queue.poll();
+                    if (previous == null || compareRecords(previous, reader.current) != 0) {
+                        out.write(reader.current, 0, width);
+                        count++;
+                        previous = reader.current.clone();
+                    }
+                    if (reader.advance()) {
+                        queue.add(reader);
+                    }
+                }
+                return count;
+            } finally {
+                for (RunReader reader : readers) {
+                    reader.in.close();
+                }
+            }
+        }
+
+        private void deleteRuns() throws IOException {
+            for (Path file : runFiles) {
+                Files.deleteIfExists(file);
+            }
+            runFiles.clear();
+            if (tempDirectory != null) {
+                Files.deleteIfExists(tempDirectory);
+                tempDirectory = null;
+            }
+        }
+    }
+
+    /**
+     * Reads the records of one spilled run in order.
+     */
+    private static final class RunReader {
+        private final DataInputStream in;
+        private final byte[] current = new byte[MAX_WIDTH];
+
+        RunReader(Path file) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        }
+
+        boolean advance() throws IOException {
+            try {
+                in.readFully(current);
+                return true;
+            } catch (EOFException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * A read-only view of a range of characters of a string, without copying them.
+ */
+final class IBANSlice implements CharSequence {
+
+    private final String value;
+    private final int begin;
+    private final int end;
+
+    IBANSlice(String value, int begin, int end) {
+        this.value = value;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - begin;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - begin) {
+            throw new IndexOutOfBoundsException("Index " + index + ", length " + (end - begin));
+        }
+        return value.charAt(begin + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int stop) {
+        if (start < 0 || stop > end - begin || start > stop) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + stop + "), length " + (end - begin));
+        }
+        return new IBANSlice(value, begin + start, begin + stop);
+    }
+
+    @Override
+    public String toString() {
+        return value.substring(begin, end);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+/**
+ * Validates batches of IBANs for other processes, over a compact binary protocol.
+ * <p>
+ * The server runs a single selector loop over a bound {@link ServerSocketChannel}. On Java 8 that is a TCP channel,
+ * typically bound to the loopback address; on Java 16 and later it can be a Unix domain socket channel:</p>
+ * <pre>
+ * ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+ *     .bind(UnixDomainSocketAddress.of("/run/iban.sock"));
+ * IBANValidationServer server = IBANValidationServer.start(channel, ValidationLevel.STRUCTURE);
+ * </pre>
+ * <p>
+ * A connection carries any number of request frames, each answered by one response frame, in order. All integers
+ * are big-endian.</p>
+ * <ul>
+ *     <li>Request frame: {@code int32} payload length, {@code uint16} count, then for each IBAN a {@code uint8}
+ *     length and that many US-ASCII bytes, plain or formatted with spaces.</li>
+ *     <li>Response frame: {@code int32} payload length, {@code uint16} count, then for each IBAN a {@code uint8}
+ *     status, the ordinal of {@link IBANView.Result} ({@code 0} is valid), a {@code uint8} length and the plain
+ *     IBAN in that many bytes; the length is zero unless the IBAN is valid.</li>
+ * </ul>
+ * <p>
+ * A connection that sends a malformed frame, or a payload larger than {@link #MAX_PAYLOAD}, is closed.</p>
+ * @since 1.18.0
+ */
+public final class IBANValidationServer implements Closeable {
+
+    /** The largest request payload, in bytes. */
+    public static final int MAX_PAYLOAD = 1 << 20;
+
+    private final ServerSocketChannel channel;
+    private final ValidationLevel validationLevel;
+    private final Selector selector;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private final IBANView view = new IBANView();
+    private final byte[] scratch = new byte[255];
+
+    private IBANValidationServer(ServerSocketChannel channel, ValidationLevel validationLevel) throws IOException {
+        this.channel = channel;
+        this.validationLevel = validationLevel;
+        this.selector = Selector.open();
+        channel.configureBlocking(false);
+        channel.register(selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::run, "IBANValidationServer");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts serving the given channel on a new daemon thread.
+     * @param channel a bound server channel. Cannot be null. It is closed when the server is.
+     * @param validationLevel the validation to perform. Cannot be null.
+     * @return the running server.
+     * @throws IOException if the channel cannot be registered.
+     */
+    public static IBANValidationServer start(ServerSocketChannel channel, ValidationLevel validationLevel)
+            throws IOException {
+        if (validationLevel == null) {
+            throw new NullPointerException("validationLevel");
+        }
+        final IBANValidationServer server = new IBANValidationServer(channel, validationLevel);
+        server.thread.start();
+        return server;
+    }
+
+    /**
+     * Stops the server and closes the channel and all connections.
+     * @throws IOException if closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        try {
+                            serve(key);
+                        } catch (IOException | RuntimeException e) {
+                            key.cancel();
+                            closeQuietly(key.channel());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // The selector failed; stop serving.
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key.channel());
+            }
+            closeQuietly(selector);
+            closeQuietly(channel);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing left to do.
+        }
+    }
+
+    /**
+     * Accepts a pending connection. A failure, such as running out of file descriptors, drops that connection but
+     * keeps the server channel open, so that the server recovers once the condition clears.
+     */
+    private void accept() {
+        final SocketChannel client;
+        try {
+            client = channel.accept();
+        } catch (IOException e) {
+            return;
+        }
+        if (client != null) {
+            try {
+                client.configureBlocking(false);
+                client.register(selector, SelectionKey.OP_READ, new Connection());
+            } catch (IOException e) {
+                closeQuietly(client);
+            }
+        }
+    }
+
+    private void serve(SelectionKey key) throws IOException {
+        final SocketChannel client = (SocketChannel) key.channel();
+        final Connection connection = (Connection) key.attachment();
+        if (key.isReadable() && client.read(connection.in) < 0) {
+            key.cancel();
+            client.close();
+            return;
+        }
+        if (key.isWritable() || connection.out.position() > 0) {
+            connection.out.flip();
+            client.write(connection.out);
+            connection.out.compact();
+        }
+        // Don't read more requests while responses are waiting to be written.
+        if (connection.out.position() == 0) {
+            connection.processFrames();
+            connection.out.flip();
+            client.write(connection.out);
+            connection.out.compact();
+        }
+        key.interestOps(connection.out.position() > 0 ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    /**
+     * Answers one request payload.
+     * @param request the payload, positioned after the frame length; consumed entirely.
+     * @param response receives the response frame, including its length.
+     * @throws IllegalArgumentException if the payload is malformed.
+     */
+    void process(ByteBuffer request, ByteBuffer response) {
+        if (request.remaining() < 2) {
+            throw new IllegalArgumentException("Missing count.");
+        }
+        final int count = request.getShort() & 0xFFFF;
+        final int lengthPosition = response.position();
+        response.putInt(0).putShort((short) count);
+        for (int i = 0; i < count; i++) {
+            if (!request.hasRemaining()) {
+                throw new IllegalArgumentException("Missing IBAN " + i + " of " + count + ".");
+            }
+            final int length = request.get() & 0xFF;
+            if (request.remaining() < length) {
+                throw new IllegalArgumentException("Truncated IBAN " + i + " of " + count + ".");
+            }
+            int plainLength = 0;
+            for (int j = 0; j < length; j++) {
+                final byte b = request.get();
+                if (b != ' ') {
+                    scratch[plainLength++] = b;
+                }
+            }
+            view.reset(scratch, 0, plainLength, validationLevel);
+            final IBANView.Result result = view.getResult();
+            response.put((byte) result.ordinal());
+            if (result == IBANView.Result.VALID) {
+                response.put((byte) plainLength).put(scratch, 0, plainLength);
+            } else {
+                response.put((byte) 0);
+            }
+        }
+        if (request.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing bytes after " + count + " IBANs.");
+        }
+        response.putInt(lengthPosition, response.position() - lengthPosition - 4);
+    }
+
+    /**
+     * The buffers of one client connection.
+     */
+    private final class Connection {
+        private ByteBuffer in = ByteBuffer.allocate(4096);
+        private ByteBuffer out = ByteBuffer.allocate(4096);
+
+        /**
+         * Answers all complete frames in {@link #in} and grows it if a frame doesn't fit.
+         */
+        void processFrames() {
+            in.flip();
+            while (in.remaining() >= 4) {
+                final int length = in.getInt(in.position());
+                if (length < 2 || length > MAX_PAYLOAD) {
+                    throw new IllegalArgumentException("Invalid payload length " + length + ".");
+                }
+                if (in.remaining() < 4 + length) {
+                    break;
+                }
+                // A response item is at most one byte longer than its request item.
+                final int count = in.getShort(in.position() + 4) & 0xFFFF;
+                if (out.remaining() < 4 + length + count) {
+                    out = grow(out, 4 + length + count);
+                }
+                final ByteBuffer payload = in.duplicate();
+                payload.position(in.position() + 4).limit(in.position() + 4 + length);
+                process(payload, out);
+                in.position(in.position() + 4 + length);
+            }
+            in.compact();
+            if (in.position() >= 4) {
+                final int needed = 4 + in.getInt(0);
+                if (needed > in.capacity()) {
+                    in = grow(in, needed - in.position());
+                }
+            }
+        }
+
+        private ByteBuffer grow(ByteBuffer buffer, int extra) {
+            final ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + extra));
+            buffer.flip();
+            return larger.put(buffer);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * A reusable, mutable view that validates an IBAN in place.
+ * <p>
+ * Where {@link IBAN#parse(CharSequence)} creates an {@link IBAN} and its {@link String} for every input, an
+ * {@code IBANView} is {@linkplain #reset(CharSequence) reset} onto each input in turn, validates it without copying
+ * it, and answers the same questions as an {@code IBAN} does. Validation failures are reported through
+ * {@link #getResult()} instead of exceptions. A pipeline that keeps one view per thread allocates nothing per record;
+ * call {@link #toIBAN()} for the records that must be kept.</p>
+ * <pre>
+ * IBANView view = new IBANView();
+ * for (byte[] record : records) {
+ *     if (view.reset(record, 10, 18) &amp;&amp; view.isSEPA()) {
+ *         route(view.getCountry(), view);
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The input must be in plain format, see {@link IBANNormalizer} for other input. The view reads the input in place,
+ * so the input must not change until the next reset. Instances are not thread safe.</p>
+ * @since 1.18.0
+ */
+public final class IBANView implements CharSequence {
+
+    /**
+     * The outcome of validating the input.
+     */
+    public enum Result {
+        /** The input passed validation. */
+        VALID,
+        /** The input is too short, has non-numeric check digits or contains a character outside
+         * {@code [A-Za-z0-9]}. */
+        MALFORMED,
+        /** The country code is unknown. */
+        UNKNOWN_COUNTRY_CODE,
+        /** The length is wrong for the country code. */
+        WRONG_LENGTH,
+        /** A BBAN character doesn't match the country's structure. */
+        WRONG_STRUCTURE,
+        /** The check digits are wrong. */
+        WRONG_CHECKSUM,
+        /** The national check digits are wrong. */
+        WRONG_NATIONAL_CHECK_DIGITS
+    }
+
+    private CharSequence input = "";
+    private AsciiSequence bytes;
+    private IBANCountry country;
+    private ValidationLevel validationLevel = ValidationLevel.LENGTH;
+    private Result result = Result.MALFORMED;
+
+    /**
+     * Creates a view that isn't reset onto any input yet.
+     */
+    public IBANView() {
+        super();
+    }
+
+    /**
+     * Resets this view onto the given input and validates it at the {@link ValidationLevel#LENGTH} level.
+     * @param input a plain IBAN. Cannot be null.
+     * @return true if the input is valid.
+     */
+    public boolean reset(CharSequence input) {
+        return reset(input, ValidationLevel.LENGTH);
+    }
+
+    /**
+     * Resets this view onto the given input and validates it.
+     * @param input a plain IBAN. Cannot be null.
+     * @param validationLevel the validation to perform. Cannot be null.
+     * @return true if the input is valid.
+     */
+    public boolean reset(CharSequence input, ValidationLevel validationLevel) {
+        if (input == null || validationLevel == null) {
+            throw new NullPointerException(input == null ? "input" : "validationLevel");
+        }
+        this.input = input;
+        this.validationLevel = validationLevel;
+        this.result = validate();
+        return result == Result.VALID;
+    }
+
+    /**
+     * Resets this view onto the given range of US-ASCII bytes and validates it at the {@link ValidationLevel#LENGTH}
+     * level.
+     * @param source the bytes. Cannot be null.
+     * @param offset the index of the first byte of the IBAN.
+     * @param length the number of bytes.
+     * @return true if the input is valid.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public boolean reset(byte[] source, int offset, int length) {
+        return reset(source, offset, length, ValidationLevel.LENGTH);
+    }
+
+    /**
+     * Resets this view onto the given range of US-ASCII bytes and validates it.
+     * @param source the bytes. Cannot be null.
+     * @param offset the index of the first byte of the IBAN.
+     * @param length the number of bytes.
+     * @param validationLevel the validation to perform. Cannot be null.
+     * @return true if the input is valid.
+     * @throws IndexOutOfBoundsException if the range is outside {@code source}.
+     */
+    public boolean reset(byte[] source, int offset, int length, ValidationLevel validationLevel) {
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Offset " + offset + ", length " + length + ", array " + source.length);
+        }
+        if (bytes == null) {
+            bytes = new AsciiSequence();
+        }
+        bytes.reset(source, offset, length);
+        return reset(bytes, validationLevel);
+    }
+
+    private Result validate() {
+        country = null;
+        final CharSequence value = input;
+        final int length = value.length();
+        if (length < IBAN.SHORTEST_POSSIBLE_IBAN
+                || value.charAt(2) < '0' || value.charAt(2) > '9' || value.charAt(3) < '0' || value.charAt(3) > '9') {
+            return Result.MALFORMED;
+        }
+        final IBANRegistry registry = IBANRegistry.current();
+        final int countryIndex = registry.indexOf(value.charAt(0), value.charAt(1));
+        if (countryIndex < 0) {
+            return Result.UNKNOWN_COUNTRY_CODE;
+        }
+        final IBANCountry candidate = registry.countries[countryIndex];
+        final Result outcome = validate(value, candidate, validationLevel);
+        if (outcome == Result.VALID) {
+            country = candidate;
+        }
+        return outcome;
+    }
+
+    /**
+     * Validates a plain IBAN of a known country, without allocating.
+     * @param value the IBAN, at least five characters long with numeric check digits.
+     * @param country the country of the IBAN.
+     * @param validationLevel the validation to perform.
+     * @return the outcome.
+     */
+    static Result validate(CharSequence value, IBANCountry country, ValidationLevel validationLevel) {
+        if (validationLevel.includes(ValidationLevel.LENGTH) && country.getLength() != value.length()) {
+            return Result.WRONG_LENGTH;
+        }
+        final String structure = validationLevel.includes(ValidationLevel.STRUCTURE) ? country.bbanStructure : null;
+        final int checksum = IBAN.checksum(value, structure);
+        if ((checksum & IBAN.INVALID_CHARACTER) != 0) {
+            return Result.MALFORMED;
+        }
+        if ((checksum & IBAN.INVALID_STRUCTURE) != 0) {
+            return Result.WRONG_STRUCTURE;
+        }
+        if (checksum != 1) {
+            return Result.WRONG_CHECKSUM;
+        }
+        if (validationLevel.includes(ValidationLevel.NATIONAL) && !NationalCheckDigits.verify(country, value)) {
+            return Result.WRONG_NATIONAL_CHECK_DIGITS;
+        }
+        return Result.VALID;
+    }
+
+    /**
+     * Returns whether the current input passed validation.
+     * @return true if valid.
+     */
+    public boolean isValid() {
+        return result == Result.VALID;
+    }
+
+    /**
+     * Returns the outcome of validating the current input.
+     * @return the result, never null.
+     */
+    public Result getResult() {
+        return result;
+    }
+
+    /**
+     * Returns the level the current input was validated at.
+     * @return the validation level.
+     */
+    public ValidationLevel getValidationLevel() {
+        return validationLevel;
+    }
+
+    /**
+     * Returns the country of the current input. The field offsets of the country can be used with
+     * {@link #charAt(int)} to read the bank and branch identifiers in place.
+     * @return the country, never null.
+     * @throws IllegalStateException if the current input is not valid.
+     */
+    public IBANCountry getCountry() {
+        checkValid();
+        return country;
+    }
+
+    /**
+     * Returns whether the IBAN's country participates in SEPA.
+     * @return true if SEPA, false if non-SEPA.
+     * @throws IllegalStateException if the current input is not valid.
+     */
+    public boolean isSEPA() {
+        return getCountry().isSEPA();
+    }
+
+    /**
+     * Returns whether the source for this IBAN's format and data is the SWIFT IBAN Registry.
+     * @return true if from SWIFT IBAN Registry, false if from Experimental IBANs list.
+     * @throws IllegalStateException if the current input is not valid.
+     */
+    public boolean isInSwiftRegistry() {
+        return getCountry().isInSwiftRegistry();
+    }
+
+    /**
+     * Returns whether the current input is valid and has the same characters as the given IBAN.
+     * @param iban the IBAN to compare with. Cannot be null.
+     * @return true if equal.
+     */
+    public boolean matches(IBAN iban) {
+        return isValid() && contentEquals(iban.toPlainString());
+    }
+
+    /**
+     * Returns whether both views are valid and have the same characters.
+     * @param other the view to compare with. Cannot be null.
+     * @return true if equal.
+     */
+    public boolean matches(IBANView other) {
+        return isValid() && other.isValid() && contentEquals(other);
+    }
+
+    private boolean contentEquals(CharSequence other) {
+        final int length = input.length();
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (input.charAt(i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates an immutable {@link IBAN} with the value of the current input, without validating it again.
+     * @return the IBAN.
+     * @throws IllegalStateException if the current input is not valid.
+     */
+    public IBAN toIBAN() {
+        checkValid();
+        return IBAN.validated(input.toString(), country, validationLevel);
+    }
+
+    private void checkValid() {
+        if (result != Result.VALID) {
+            throw new IllegalStateException("The current input is not a valid IBAN: " + result);
+        }
+    }
+
+    /**
+     * Returns the length of the current input.
+     * @return the number of characters.
+     */
+    @Override
+    public int length() {
+        return input.length();
+    }
+
+    /**
+     * Returns a character of the current input.
+     * @param index the index of the character.
+     * @return the character.
+     */
+    @Override
+    public char charAt(int index) {
+        return input.charAt(index);
+    }
+
+    /**
+     * Returns a range of the current input. The result is only valid until the next reset.
+     * @param start the start index (inclusive).
+     * @param end the end index (exclusive).
+     * @return the range.
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return input.subSequence(start, end);
+    }
+
+    /**
+     * Returns the current input as a string.
+     * @return the current input.
+     */
+    @Override
+    public String toString() {
+        return input.toString();
+    }
+}
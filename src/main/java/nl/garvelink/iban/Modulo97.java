@@ -15,24 +15,26 @@
  */
 package nl.garvelink.iban;
 
-import java.math.BigInteger;
+import java.util.stream.IntStream;
 
 /**
- * Calculates the modulo 97 checksum used in IBAN numbers (and some other entities).
+ * Calculates the ISO 7064 MOD 97-10 checksum used in IBAN numbers, and in {@link CreditorReference} and
+ * {@link CreditorIdentifier} values.
+ * <p>
+ * Digits count as themselves and letters, in either case, as the two digits {@code 10} to {@code 35}. The checksum
+ * is computed in a single pass on {@code int} arithmetic, without allocating, so that it costs the same per character
+ * for all three kinds of value. The {@code remainder} methods expose that engine for other MOD 97-10 schemes.</p>
  */
 public abstract class Modulo97 {
 
-    /**
-     * The BigInteger '97', used in the MOD97 division.
-     */
-    private static final BigInteger NINETY_SEVEN = new BigInteger("97");
+    /** The number of rows per parallel task in {@link #verifyAll(byte[], int[], int, boolean[], Check)}. */
+    private static final int CHUNK_SIZE = 4096;
 
     /**
      * Calculates the raw MOD97 checksum for a given input.
      * <p>
      * The input is allowed to contain space characters. Any character outside the range {@code [A-Za-z0-9 ]} will cause
-     * an {@link IBANParseException} to be thrown. This method allocates a temporary buffer of twice the input
-     * length, so it will fail for unreasonably large inputs.</p>
+     * an {@link IBANParseException} to be thrown.</p>
      * <p>
      * It is expected, but not enforced, that the characters at index 2 and 3 are numeric. If the existing check digits
      * are {@code 00} then this method will return the value that, after subtracting it from 98, gives you the check
@@ -53,12 +55,8 @@ public abstract class Modulo97 {
             throw new IBANParseException(
                 "The input must be non-null and contain at least five non-space characters.", input);
         }
-        final char[] buffer = new char[input.length() * 2];
-        int offset = transform(input, 4, input.length(), buffer, 0);
-        offset = transform(input, 0, 4, buffer, offset);
-        final BigInteger sum = new BigInteger(new String(buffer, 0, offset));
-        final BigInteger remainder = sum.remainder(NINETY_SEVEN);
-        return remainder.intValue();
+        final int remainder = accumulate(input, 4, input.length(), 0);
+        return accumulate(input, 0, 4, remainder);
     }
 
     /**
@@ -115,35 +113,125 @@ public abstract class Modulo97 {
     }
 
     /**
-     * Copies {@code src[srcPos...srcLen)} into {@code dest[destPos)} while applying character to numeric transformation and skipping over space (ASCII 0x20) characters.
-     * @param src the data to begin copying, must contain only characters {@code [A-Za-z0-9 ]}.
-     * @param srcPos the index in {@code src} to begin transforming (inclusive).
-     * @param srcLen the number of characters starting from {@code srcPos} to transform.
-     * @param dest the buffer to write transformed characters into.
-     * @param destPos the index in {@code dest} to begin writing.
-     * @return the value of {@code destPos} incremented by the number of characters that were added, i.e. the next unused index in {@code dest}.
-     * @throws IBANParseException if {@code src} contains an unsupported character.
-     * @throws ArrayIndexOutOfBoundsException if {@code dest} does not have enough capacity to store the transformed result (keep in mind that a single character from {@code src} can expand to two characters in {@code dest}).
+     * Continues a MOD 97-10 computation over a range of characters, without allocating.
+     * @param input the characters. Cannot be null.
+     * @param begin the index of the first character.
+     * @param end the index after the last character.
+     * @param remainder the remainder of the characters before the range, or {@code 0} to start.
+     * @return the remainder of all characters so far, from {@code 0} to {@code 96}; or {@code -1} if the range holds a
+     *         character that is not a letter or digit, or if {@code remainder} is {@code -1}.
+     * @since 1.18.0
+     */
+    public static int remainder(CharSequence input, int begin, int end, int remainder) {
+        for (int i = begin; i < end && remainder >= 0; i++) {
+            remainder = step(remainder, input.charAt(i));
+        }
+        return remainder;
+    }
+
+    /**
+     * Continues a MOD 97-10 computation over a range of US-ASCII bytes, without allocating.
+     * @param source the characters. Cannot be null.
+     * @param begin the index of the first character.
+     * @param end the index after the last character.
+     * @param remainder the remainder of the characters before the range, or {@code 0} to start.
+     * @return the remainder of all characters so far, from {@code 0} to {@code 96}; or {@code -1} if the range holds a
+     *         character that is not a letter or digit, or if {@code remainder} is {@code -1}.
+     * @since 1.18.0
+     */
+    public static int remainder(byte[] source, int begin, int end, int remainder) {
+        for (int i = begin; i < end && remainder >= 0; i++) {
+            remainder = step(remainder, source[i] & 0xFF);
+        }
+        return remainder;
+    }
+
+    /**
+     * Returns the remainder after appending one character, or -1 if it is not a letter or digit.
+     */
+    static int step(int remainder, int c) {
+        if (c >= '0' && c <= '9') {
+            return (remainder * 10 + (c - '0')) % 97;
+        } else if (c >= 'A' && c <= 'Z') {
+            return (remainder * 100 + (c - 'A' + 10)) % 97;
+        } else if (c >= 'a' && c <= 'z') {
+            return (remainder * 100 + (c - 'a' + 10)) % 97;
+        }
+        return -1;
+    }
+
+    /**
+     * Verifies the check digits of many plain IBANs, or other values with MOD97 check digits at indices 2 and 3, in
+     * parallel. This checks only the check digits, like {@link #verifyCheckDigits(CharSequence)}.
+     * @param data the values as US-ASCII, one after the other, without spaces. Cannot be null.
+     * @param ends the index in {@code data} after each value. Cannot be null.
+     * @param rows the number of values.
+     * @param rejected receives true for each value that is shorter than five characters, holds a character that is
+     *                 not a letter or digit, or fails the checksum; false otherwise.
+     * @return the number of values that pass.
+     * @throws IndexOutOfBoundsException if an array is too small for the number of rows.
+     * @since 1.18.0
      */
-    private static int transform(final CharSequence src, final int srcPos, final int srcLen, final char[] dest, final int destPos) {
-        int offset = destPos;
-        for (int i = srcPos; i < srcLen; i++) {
-            char c = src.charAt(i);
-            if (c >= '0' && c <= '9') {
-                dest[offset++] = c;
-            } else if (c >= 'A' && c <= 'Z') {
-                int tmp = 10 + (c - 'A');
-                dest[offset++] = (char)('0' + tmp / 10);
-                dest[offset++] = (char)('0' + tmp % 10);
-            } else if (c >= 'a' && c <= 'z') {
-                int tmp = 10 + (c - 'a');
-                dest[offset++] = (char)('0' + tmp / 10);
-                dest[offset++] = (char)('0' + tmp % 10);
-            } else if (c != ' ') {
-                throw new IBANParseException("Invalid character '" + c + "'.", src.subSequence(srcPos, srcLen));
+    public static int verifyAll(byte[] data, int[] ends, int rows, boolean[] rejected) {
+        return verifyAll(data, ends, rows, rejected,
+            value -> value.length() >= 5 && remainder(value, 0, 4, remainder(value, 4, value.length(), 0)) == 1);
+    }
+
+    /**
+     * The validation of a single value in {@link #verifyAll(byte[], int[], int, boolean[], Check)}.
+     */
+    interface Check {
+        /**
+         * Returns whether the value is valid.
+         */
+        boolean test(CharSequence value);
+    }
+
+    /**
+     * Runs a check over many values, in parallel chunks, reusing one {@link AsciiSequence} per chunk.
+     */
+    static int verifyAll(byte[] data, int[] ends, int rows, boolean[] rejected, Check check) {
+        if (ends.length < rows || rejected.length < rows || (rows > 0 && ends[rows - 1] > data.length)) {
+            throw new IndexOutOfBoundsException("Rows " + rows + ", ends " + ends.length + ", rejected "
+                + rejected.length + ", data " + data.length);
+        }
+        final int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream stream = IntStream.range(0, chunks);
+        if (chunks > 1) {
+            stream = stream.parallel();
+        }
+        return stream.map(chunk -> {
+            final AsciiSequence value = new AsciiSequence();
+            final int last = Math.min(rows, (chunk + 1) * CHUNK_SIZE);
+            int valid = 0;
+            for (int row = chunk * CHUNK_SIZE; row < last; row++) {
+                final int begin = row == 0 ? 0 : ends[row - 1];
+                final boolean success = begin <= ends[row] && check.test(value.reset(data, begin, ends[row] - begin));
+                rejected[row] = !success;
+                if (success) {
+                    valid++;
+                }
+            }
+            return valid;
+        }).sum();
+    }
+
+    /**
+     * Continues the checksum over {@code input[begin, end)}, skipping spaces.
+     * @throws IBANParseException if the range holds a character other than a letter, digit or space.
+     */
+    private static int accumulate(CharSequence input, int begin, int end, int remainder) {
+        for (int i = begin; i < end; i++) {
+            final char c = input.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            remainder = step(remainder, c);
+            if (remainder < 0) {
+                throw new IBANParseException("Invalid character '" + c + "'.", input.subSequence(begin, end));
             }
         }
-        return offset;
+        return remainder;
     }
 
     private static boolean atLeastFiveNonSpaceCharacters(CharSequence input) {
@@ -0,0 +1,313 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Converts account numbers in a national format to IBANs.
+ * <p>
+ * A converter takes the national components of an account, such as a German bank code (BLZ) and account number
+ * (Kontonummer), in a fixed order. Each component is laid out at its offsets in the BBAN, as given by the registry,
+ * and numeric components that are shorter than their field are padded with leading zeroes. Spaces and hyphens in the
+ * input are skipped, and lowercase letters are converted to uppercase. The check digits are computed while the
+ * characters are written.</p>
+ * <pre>
+ * NationalAccountConverter converter = NationalAccountConverter.germany();
+ * IBAN iban = converter.toIBAN("37040044", "532013000");  // DE89370400440532013000
+ * </pre>
+ * <p>
+ * For bulk migrations, {@link #convertAll(byte[][], int[][], int, byte[], boolean[])} converts columns of US-ASCII
+ * records into a buffer of IBANs, on all cores. The IBANs are valid at the {@link ValidationLevel#STRUCTURE} level;
+ * national check digits are taken from the input and not verified. Instances are immutable and thread safe.</p>
+ * @since 1.18.0
+ */
+public final class NationalAccountConverter {
+
+    /** The number of rows that {@link #convertAll(byte[][], int[][], int, byte[], boolean[])} converts per task. */
+    private static final int CHUNK_SIZE = 4096;
+
+    private final IBANCountry country;
+    private final BbanComponent[] components;
+    /** The declared component indexes, in order of position in the BBAN. */
+    private final int[] layoutOrder;
+    /** The begin and end of each declared component in the plain IBAN. */
+    private final int[] begins;
+    private final int[] ends;
+
+    private NationalAccountConverter(IBANCountry country, BbanComponent[] components, int[] layoutOrder,
+                                     int[] begins, int[] ends) {
+        this.country = country;
+        this.components = components;
+        this.layoutOrder = layoutOrder;
+        this.begins = begins;
+        this.ends = ends;
+    }
+
+    /**
+     * Returns a converter that takes the given components, which together must make up the whole BBAN.
+     * @param countryCode a two-letter, uppercase country code. Cannot be null.
+     * @param components the components in the order they are passed to the converter. If none are given, the
+     *                   converter takes the whole BBAN as a single value.
+     * @return the converter.
+     * @throws IllegalArgumentException if the country is unknown, if it doesn't have one of the components, or if
+     *         the components overlap or leave part of the BBAN uncovered.
+     */
+    public static NationalAccountConverter of(String countryCode, BbanComponent... components) {
+        final IBANCountry country = IBANRegistry.current().getCountry(countryCode)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown country code: " + countryCode));
+        final int count = Math.max(1, components.length);
+        final int[] begins = new int[count];
+        final int[] ends = new int[count];
+        if (components.length == 0) {
+            begins[0] = 4;
+            ends[0] = country.getLength();
+        }
+        for (int i = 0; i < components.length; i++) {
+            if (!country.has(components[i])) {
+                throw new IllegalArgumentException(countryCode + " has no " + components[i] + ".");
+            }
+            begins[i] = country.getBegin(components[i]);
+            ends[i] = country.getEnd(components[i]);
+        }
+        final int[] layoutOrder = IntStream.range(0, count).boxed()
+            .sorted(Comparator.comparingInt(i -> begins[i]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        int position = 4;
+        for (int index : layoutOrder) {
+            if (begins[index] != position) {
+                throw new IllegalArgumentException("The components " + Arrays.toString(components)
+                    + " don't cover the BBAN of " + countryCode + " at position " + position + ".");
+            }
+            position = ends[index];
+        }
+        if (position != country.getLength()) {
+            throw new IllegalArgumentException("The components " + Arrays.toString(components)
+                + " don't cover the BBAN of " + countryCode + " at position " + position + ".");
+        }
+        return new NationalAccountConverter(country, components.clone(), layoutOrder, begins, ends);
+    }
+
+    /**
+     * Returns a converter for German accounts.
+     * @return a converter taking the bank code (BLZ) and the account number (Kontonummer).
+     */
+    public static NationalAccountConverter germany() {
+        return of("DE", BbanComponent.BANK_IDENTIFIER, BbanComponent.ACCOUNT_NUMBER);
+    }
+
+    /**
+     * Returns a converter for Dutch accounts.
+     * @return a converter taking the bank code, such as {@code "ABNA"}, and the account number.
+     */
+    public static NationalAccountConverter netherlands() {
+        return of("NL", BbanComponent.BANK_IDENTIFIER, BbanComponent.ACCOUNT_NUMBER);
+    }
+
+    /**
+     * Returns a converter for Belgian accounts.
+     * @return a converter taking the twelve-digit national account number, such as {@code "539-0075470-34"}.
+     */
+    public static NationalAccountConverter belgium() {
+        return of("BE");
+    }
+
+    /**
+     * Returns a converter for French accounts.
+     * @return a converter taking the four fields of the RIB: code banque, code guichet, numéro de compte and clé.
+     */
+    public static NationalAccountConverter france() {
+        return of("FR", BbanComponent.BANK_IDENTIFIER, BbanComponent.BRANCH_IDENTIFIER, BbanComponent.ACCOUNT_NUMBER,
+            BbanComponent.NATIONAL_CHECK_DIGITS);
+    }
+
+    /**
+     * Returns a converter for British accounts.
+     * @return a converter taking the four-letter bank code, the sort code and the account number.
+     */
+    public static NationalAccountConverter unitedKingdom() {
+        return of("GB", BbanComponent.BANK_IDENTIFIER, BbanComponent.BRANCH_IDENTIFIER, BbanComponent.ACCOUNT_NUMBER);
+    }
+
+    /**
+     * Returns the country of this converter.
+     * @return the country.
+     */
+    public IBANCountry getCountry() {
+        return country;
+    }
+
+    /**
+     * Returns the components this converter takes, in order.
+     * @return a copy of the components; empty if it takes the whole BBAN.
+     */
+    public BbanComponent[] getComponents() {
+        return components.clone();
+    }
+
+    /**
+     * Converts one account.
+     * @param parts the national components, in the order of {@link #getComponents()}. Cannot be null.
+     * @return the IBAN, in plain format.
+     * @throws IllegalArgumentException if the number of parts is wrong or a part doesn't fit its field.
+     */
+    public String convert(CharSequence... parts) {
+        final byte[] buffer = new byte[country.getLength()];
+        final int failed = convert(parts, buffer, 0);
+        if (failed >= 0) {
+            throw new IllegalArgumentException("Invalid " + (components.length == 0 ? "BBAN" : components[failed])
+                + " for " + country.getCountryCode() + ": " + parts[failed]);
+        }
+        return new String(buffer, 0, buffer.length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Converts one account to an {@link IBAN} object.
+     * @param parts the national components, in the order of {@link #getComponents()}. Cannot be null.
+     * @return the IBAN.
+     * @throws IllegalArgumentException if the number of parts is wrong or a part doesn't fit its field.
+     */
+    public IBAN toIBAN(CharSequence... parts) {
+        return IBAN.validated(convert(parts), country, ValidationLevel.STRUCTURE);
+    }
+
+    /**
+     * Converts columns of records in bulk. Column {@code c} holds component {@code c} of every record as US-ASCII;
+     * its row {@code r} runs from {@code rowEnds[c][r - 1]} (or zero) to {@code rowEnds[c][r]}, the layout written by
+     * {@link IBANFields#extractAll(java.util.List, BbanComponent, byte[], int[])}. Large inputs are converted in
+     * parallel.
+     * @param columns the data of each component, in the order of {@link #getComponents()}. Cannot be null.
+     * @param rowEnds the end offset of each row in each column. Cannot be null.
+     * @param rows the number of records.
+     * @param destination receives the IBAN of row {@code r} at offset {@code r * getCountry().getLength()}. The
+     *                    bytes of rejected rows are undefined.
+     * @param rejected receives true for each row that couldn't be converted, false otherwise.
+     * @return the number of rows converted.
+     * @throws IllegalArgumentException if the number of columns is wrong.
+     * @throws IndexOutOfBoundsException if an array is too small for the number of rows.
+     */
+    public int convertAll(byte[][] columns, int[][] rowEnds, int rows, byte[] destination, boolean[] rejected) {
+        final int parts = begins.length;
+        if (columns.length != parts || rowEnds.length != parts) {
+            throw new IllegalArgumentException("Expected " + parts + " columns, got " + columns.length);
+        }
+        final int length = country.getLength();
+        for (int[] columnEnds : rowEnds) {
+            if (columnEnds.length < rows) {
+                throw new IndexOutOfBoundsException("Rows " + rows + ", ends " + columnEnds.length);
+            }
+        }
+        if ((long) rows * length > destination.length || rejected.length < rows) {
+            throw new IndexOutOfBoundsException("Rows " + rows + ", destination " + destination.length
+                + ", rejected " + rejected.length);
+        }
+        final int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream stream = IntStream.range(0, chunks);
+        if (chunks > 1) {
+            stream = stream.parallel();
+        }
+        return stream.map(chunk -> {
+            final AsciiSequence[] values = new AsciiSequence[parts];
+            for (int c = 0; c < parts; c++) {
+                values[c] = new AsciiSequence();
+            }
+            final int last = Math.min(rows, (chunk + 1) * CHUNK_SIZE);
+            int converted = 0;
+            for (int row = chunk * CHUNK_SIZE; row < last; row++) {
+                for (int c = 0; c < parts; c++) {
+                    final int begin = row == 0 ? 0 : rowEnds[c][row - 1];
+                    values[c].reset(columns[c], begin, rowEnds[c][row] - begin);
+                }
+                final boolean failed = convert(values, destination, row * length) >= 0;
+                rejected[row] = failed;
+                if (!failed) {
+                    converted++;
+                }
+            }
+            return converted;
+        }).sum();
+    }
+
+    /**
+     * Writes the IBAN of one account at the given offset.
+     * @return -1 on success, otherwise the index of the part that doesn't fit.
+     */
+    private int convert(CharSequence[] parts, byte[] destination, int offset) {
+        if (parts.length != begins.length) {
+            throw new IllegalArgumentException("Expected " + begins.length + " parts, got " + parts.length);
+        }
+        final String structure = country.bbanStructure;
+        int remainder = 0;
+        for (int index : layoutOrder) {
+            final CharSequence part = parts[index];
+            int significant = 0;
+            for (int i = 0; i < part.length(); i++) {
+                if (!isSeparator(part.charAt(i))) {
+                    significant++;
+                }
+            }
+            final int width = ends[index] - begins[index];
+            if (significant > width) {
+                return index;
+            }
+            int source = 0;
+            for (int position = begins[index]; position < ends[index]; position++) {
+                char c;
+                if (position - begins[index] < width - significant) {
+                    c = '0';
+                } else {
+                    do {
+                        c = part.charAt(source++);
+                    } while (isSeparator(c));
+                    if (c >= 'a' && c <= 'z') {
+                        c -= 'a' - 'A';
+                    }
+                }
+                final boolean digit = c >= '0' && c <= '9';
+                final boolean letter = c >= 'A' && c <= 'Z';
+                final char characterClass = structure.charAt(position - 4);
+                if (characterClass == 'n' ? !digit : characterClass == 'a' ? !letter : !(digit || letter)) {
+                    return index;
+                }
+                destination[offset + position] = (byte) c;
+                remainder = digit ? (remainder * 10 + c - '0') % 97 : (remainder * 100 + c - 'A' + 10) % 97;
+            }
+        }
+        final String countryCode = country.getCountryCode();
+        for (int i = 0; i < 2; i++) {
+            final char c = countryCode.charAt(i);
+            destination[offset + i] = (byte) c;
+            remainder = (remainder * 100 + c - 'A' + 10) % 97;
+        }
+        final int checkDigits = 98 - remainder * 100 % 97;
+        destination[offset + 2] = (byte) ('0' + checkDigits / 10);
+        destination[offset + 3] = (byte) ('0' + checkDigits % 10);
+        return -1;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '-';
+    }
+
+    @Override
+    public String toString() {
+        return "NationalAccountConverter(" + country.getCountryCode() + " " + Arrays.toString(components) + ")";
+    }
+}
@@ -0,0 +1,441 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * Verifies the national check digits that some countries embed in their BBAN.
+ * <p>
+ * The IBAN check digits protect the whole number against typing errors, but they are calculated over whatever account
+ * number was entered. An IBAN can pass MOD-97 validation and still contain a national account number that its own
+ * country's banks would reject. This class verifies the national check digits for the following countries:</p>
+ * <ul>
+ *     <li>Belgium (BE): account number MOD 97.</li>
+ *     <li>France (FR), Monaco (MC): RIB key.</li>
+ *     <li>Spain (ES): both "d&iacute;gitos de control".</li>
+ *     <li>Italy (IT), San Marino (SM): CIN.</li>
+ *     <li>Norway (NO): MOD 11.</li>
+ *     <li>Finland (FI): Luhn over the BBAN.</li>
+ *     <li>Estonia (EE): 7-3-1 weighted check digit over the account number.</li>
+ *     <li>Croatia (HR): ISO 7064 MOD 11,10 over the bank code and over the account number.</li>
+ *     <li>Czech Republic (CZ), Slovakia (SK): MOD 11 over the account prefix and over the account number.</li>
+ *     <li>Poland (PL), Albania (AL): weighted check digit over the bank and branch code.</li>
+ *     <li>Angola (AO), Bosnia and Herzegovina (BA), Cape Verde (CV), Montenegro (ME), Macedonia (MK), Mozambique (MZ),
+ *     Portugal (PT), Serbia (RS), Slovenia (SI), Sao Tome e Principe (ST), Timor-Leste (TL), Kosovo (XK): ISO 7064
+ *     MOD 97-10 over the BBAN.</li>
+ * </ul>
+ * <p>
+ * Other countries either don't have national check digits, or use schemes that can't be verified without
+ * bank-specific reference data (for example Germany, the Netherlands and the United Kingdom). IBANs of those countries
+ * always pass.</p>
+ * @since 1.18.0
+ */
+public abstract class NationalCheckDigits {
+
+    /**
+     * The index of the first BBAN character in a plain IBAN.
+     */
+    private static final int BBAN = 4;
+
+    /** CIN conversion table for characters in odd positions, indexed by digit value or letter offset. */
+    private static final int[] CIN_ODD =
+        { 1, 0, 5, 7, 9, 13, 15, 17, 19, 21, 2, 4, 18, 20, 11, 3, 6, 8, 12, 14, 16, 10, 22, 25, 24, 23 };
+    private static final int[] SPAIN_WEIGHTS = { 1, 2, 4, 8, 5, 10, 9, 7, 3, 6 };
+    private static final int[] NORWAY_WEIGHTS = { 5, 4, 3, 2, 7, 6, 5, 4, 3, 2 };
+    private static final int[] ESTONIA_WEIGHTS = { 7, 3, 1 };
+    private static final int[] CZECHOSLOVAKIA_PREFIX_WEIGHTS = { 10, 5, 8, 4, 2, 1 };
+    private static final int[] CZECHOSLOVAKIA_ACCOUNT_WEIGHTS = { 6, 3, 7, 9, 10, 5, 8, 4, 2, 1 };
+    private static final int[] POLAND_WEIGHTS = { 3, 9, 7, 1, 3, 9, 7 };
+    private static final int[] ALBANIA_WEIGHTS = { 9, 7, 3, 1, 9, 7, 3 };
+
+    /**
+     * Returns the national check digit algorithm for the given country. The algorithms read fixed positions, so a
+     * country whose length differs from the one in the SWIFT registry, as in a loaded {@link IBANRegistry}, gets none.
+     * @param countryCode a two-letter, uppercase country code.
+     * @param length the IBAN length of the country.
+     * @return the algorithm, or null if there is none.
+     */
+    static Kernel kernelFor(String countryCode, int length) {
+        switch (countryCode) {
+            case "BE":
+                return length == 16 ? Kernel.BELGIUM : null;
+            case "FR":
+            case "MC":
+                return length == 27 ? Kernel.RIB : null;
+            case "ES":
+                return length == 24 ? Kernel.SPAIN : null;
+            case "IT":
+            case "SM":
+                return length == 27 ? Kernel.CIN : null;
+            case "NO":
+                return length == 15 ? Kernel.NORWAY : null;
+            case "FI":
+                return length == 18 ? Kernel.LUHN : null;
+            case "EE":
+                return length == 20 ? Kernel.ESTONIA : null;
+            case "HR":
+                return length == 21 ? Kernel.CROATIA : null;
+            case "CZ":
+            case "SK":
+                return length == 24 ? Kernel.CZECHOSLOVAKIA : null;
+            case "PL":
+                return length == 28 ? Kernel.POLAND : null;
+            case "AL":
+                return length == 28 ? Kernel.ALBANIA : null;
+            case "MK":
+            case "SI":
+                return length == 19 ? Kernel.MOD97_BBAN : null;
+            case "BA":
+            case "XK":
+                return length == 20 ? Kernel.MOD97_BBAN : null;
+            case "ME":
+            case "RS":
+                return length == 22 ? Kernel.MOD97_BBAN : null;
+            case "TL":
+                return length == 23 ? Kernel.MOD97_BBAN : null;
+            case "AO":
+            case "CV":
+            case "MZ":
+            case "PT":
+            case "ST":
+                return length == 25 ? Kernel.MOD97_BBAN : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns whether this class knows a national check digit algorithm for the given country.
+     * @param countryCode a non-null, uppercase, two-character country code.
+     * @return true if national check digits are verified for this country, false if not.
+     * @throws NullPointerException if the input is null.
+     */
+    public static boolean isSupported(CharSequence countryCode) {
+        IBANRegistry registry = IBANRegistry.current();
+        int index = registry.indexOf(countryCode);
+        return index > -1 && registry.countries[index].nationalCheck != null;
+    }
+
+    /**
+     * Verifies the national check digits embedded in the given IBAN.
+     * @param iban the IBAN to verify. Cannot be null.
+     * @return false if the IBAN's country has national check digits and they are wrong (or the IBAN is too short or too
+     *         long to hold them), true otherwise.
+     */
+    public static boolean verify(IBAN iban) {
+        IBANCountry country = iban.getCountry();
+        String value = iban.toPlainString();
+        if (country.getLength() != value.length()) {
+            // The national check digits can't be located in an IBAN of the wrong length.
+            return country.nationalCheck == null;
+        }
+        return verify(country, value);
+    }
+
+    /**
+     * Verifies the national check digits embedded in the given IBAN.
+     * @param country the country of the IBAN.
+     * @param iban a plain IBAN with the correct length for its country. The IBAN check digits are not inspected.
+     * @return false if the country has national check digits and they are wrong, true otherwise.
+     */
+    static boolean verify(IBANCountry country, CharSequence iban) {
+        Kernel kernel = country.nationalCheck;
+        return kernel == null || kernel.verify(iban);
+    }
+
+    /**
+     * The national check digit algorithms. Every kernel reads the characters of a plain IBAN in place, assumes that
+     * the IBAN has the correct length for its country, and returns false if a position that should hold a digit
+     * does not.
+     */
+    enum Kernel {
+        /** Account number (first ten digits) MOD 97, where a remainder of zero is written as 97. */
+        BELGIUM {
+            @Override
+            boolean verify(CharSequence s) {
+                long account = digits(s, BBAN, BBAN + 10);
+                long check = digits(s, BBAN + 10, BBAN + 12);
+                if (account < 0 || check < 0) {
+                    return false;
+                }
+                long expected = account % 97;
+                return (expected == 0 ? 97 : expected) == check;
+            }
+        },
+        /** Cl&eacute; RIB: 97 - ((89 * bank + 15 * branch + 3 * account) MOD 97), letters mapped to digits. */
+        RIB {
+            @Override
+            boolean verify(CharSequence s) {
+                long bank = ribDigits(s, BBAN, BBAN + 5);
+                long branch = ribDigits(s, BBAN + 5, BBAN + 10);
+                long account = ribDigits(s, BBAN + 10, BBAN + 21);
+                long key = digits(s, BBAN + 21, BBAN + 23);
+                if (bank < 0 || branch < 0 || account < 0 || key < 0) {
+                    return false;
+                }
+                return 97 - ((89 * bank + 15 * branch + 3 * account) % 97) == key;
+            }
+        },
+        /** Two MOD 11 digits: one over "00" + bank + branch, one over the account number. */
+        SPAIN {
+            @Override
+            boolean verify(CharSequence s) {
+                return spanishCheckDigit(s, BBAN, BBAN + 8, 2) == digit(s.charAt(BBAN + 8))
+                    && spanishCheckDigit(s, BBAN + 10, BBAN + 20, 0) == digit(s.charAt(BBAN + 9));
+            }
+        },
+        /** Control Internal Number: a letter computed from the 22 characters following it. */
+        CIN {
+            @Override
+            boolean verify(CharSequence s) {
+                int sum = 0;
+                for (int i = 0; i < 22; i++) {
+                    int value = alphanumeric(s.charAt(BBAN + 1 + i));
+                    if (value < 0) {
+                        return false;
+                    }
+                    if (value >= 10) {
+                        value -= 10;
+                    }
+                    sum += (i & 1) == 0 ? CIN_ODD[value] : value;
+                }
+                return alphanumeric(s.charAt(BBAN)) == 10 + sum % 26;
+            }
+        },
+        /** MOD 11 over the first ten digits; a check digit of 10 is never issued. */
+        NORWAY {
+            @Override
+            boolean verify(CharSequence s) {
+                int sum = weightedSum(s, BBAN, NORWAY_WEIGHTS);
+                int check = digit(s.charAt(BBAN + 10));
+                if (sum < 0 || check < 0) {
+                    return false;
+                }
+                int remainder = sum % 11;
+                return (remainder == 0 ? 0 : 11 - remainder) == check;
+            }
+        },
+        /** Luhn over the full BBAN. */
+        LUHN {
+            @Override
+            boolean verify(CharSequence s) {
+                int sum = 0;
+                boolean doubled = false;
+                for (int i = s.length() - 1; i >= BBAN; i--) {
+                    int value = digit(s.charAt(i));
+                    if (value < 0) {
+                        return false;
+                    }
+                    if (doubled) {
+                        value *= 2;
+                        if (value > 9) {
+                            value -= 9;
+                        }
+                    }
+                    sum += value;
+                    doubled = !doubled;
+                }
+                return sum % 10 == 0;
+            }
+        },
+        /** Weights 7, 3, 1 (repeating, from the right) over the account number that follows the bank code. */
+        ESTONIA {
+            @Override
+            boolean verify(CharSequence s) {
+                final int last = s.length() - 1;
+                int sum = 0;
+                for (int i = last - 1, w = 0; i >= BBAN + 2; i--, w++) {
+                    int value = digit(s.charAt(i));
+                    if (value < 0) {
+                        return false;
+                    }
+                    sum += value * ESTONIA_WEIGHTS[w % 3];
+                }
+                return (10 - sum % 10) % 10 == digit(s.charAt(last));
+            }
+        },
+        /** ISO 7064 MOD 11,10 over the bank code and over the account number. */
+        CROATIA {
+            @Override
+            boolean verify(CharSequence s) {
+                return mod1110(s, BBAN, BBAN + 6) == digit(s.charAt(BBAN + 6))
+                    && mod1110(s, BBAN + 7, BBAN + 16) == digit(s.charAt(BBAN + 16));
+            }
+        },
+        /** Weighted MOD 11 over the six digit account prefix and over the ten digit account number. */
+        CZECHOSLOVAKIA {
+            @Override
+            boolean verify(CharSequence s) {
+                int prefix = weightedSum(s, BBAN + 4, CZECHOSLOVAKIA_PREFIX_WEIGHTS);
+                int account = weightedSum(s, BBAN + 10, CZECHOSLOVAKIA_ACCOUNT_WEIGHTS);
+                return prefix >= 0 && account >= 0 && prefix % 11 == 0 && account % 11 == 0;
+            }
+        },
+        /** Weights 3, 9, 7, 1 over the first seven digits of the bank and branch code. */
+        POLAND {
+            @Override
+            boolean verify(CharSequence s) {
+                return weightedCheckDigit(s, POLAND_WEIGHTS);
+            }
+        },
+        /** Weights 9, 7, 3, 1 over the first seven digits of the bank and branch code. */
+        ALBANIA {
+            @Override
+            boolean verify(CharSequence s) {
+                return weightedCheckDigit(s, ALBANIA_WEIGHTS);
+            }
+        },
+        /** ISO 7064 MOD 97-10 over the full (numeric) BBAN. */
+        MOD97_BBAN {
+            @Override
+            boolean verify(CharSequence s) {
+                int remainder = 0;
+                for (int i = BBAN, max = s.length(); i < max; i++) {
+                    int value = digit(s.charAt(i));
+                    if (value < 0) {
+                        return false;
+                    }
+                    remainder = (remainder * 10 + value) % 97;
+                }
+                return remainder == 1;
+            }
+        };
+
+        abstract boolean verify(CharSequence iban);
+    }
+
+    /**
+     * Returns the numeric value of an ASCII digit.
+     * @return the value {@code 0-9}, or {@code -1} if the character is not a digit.
+     */
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    /**
+     * Returns the value of a character in the IBAN alphabet: {@code 0-9} for digits, {@code 10-35} for letters.
+     * @return the value, or {@code -1} if the character is not in {@code [0-9A-Za-z]}.
+     */
+    private static int alphanumeric(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'A' && c <= 'Z') {
+            return 10 + c - 'A';
+        } else if (c >= 'a' && c <= 'z') {
+            return 10 + c - 'a';
+        }
+        return -1;
+    }
+
+    /**
+     * Reads {@code s[from...to)} as a decimal number. At most 18 characters can be read.
+     * @return the number, or {@code -1} if the range contains a non-digit.
+     */
+    private static long digits(CharSequence s, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            int value = digit(s.charAt(i));
+            if (value < 0) {
+                return -1;
+            }
+            result = result * 10 + value;
+        }
+        return result;
+    }
+
+    /**
+     * Reads {@code s[from...to)} as a decimal number, converting letters into digits as the RIB key requires
+     * ({@code A,J=1; B,K,S=2; ... I,R,Z=9}).
+     * @return the number, or {@code -1} if the range contains a character outside {@code [0-9A-Za-z]}.
+     */
+    private static long ribDigits(CharSequence s, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            int value = alphanumeric(s.charAt(i));
+            if (value < 0) {
+                return -1;
+            }
+            if (value >= 10) {
+                int letter = value - 10;
+                value = letter < 18 ? letter % 9 + 1 : letter - 16;
+            }
+            result = result * 10 + value;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sum of the digits starting at {@code from}, each multiplied by the corresponding weight.
+     * @return the weighted sum, or {@code -1} if a non-digit is encountered.
+     */
+    private static int weightedSum(CharSequence s, int from, int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            int value = digit(s.charAt(from + i));
+            if (value < 0) {
+                return -1;
+            }
+            sum += value * weights[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Verifies a check digit that follows the weighted digits at the start of the BBAN, as {@code (10 - sum MOD 10)
+     * MOD 10}.
+     */
+    private static boolean weightedCheckDigit(CharSequence s, int[] weights) {
+        int sum = weightedSum(s, BBAN, weights);
+        return sum >= 0 && (10 - sum % 10) % 10 == digit(s.charAt(BBAN + weights.length));
+    }
+
+    /**
+     * Computes a Spanish "d&iacute;gito de control" over {@code s[from...to)}, which is left-padded with zeroes to ten
+     * digits by skipping the first {@code skip} weights.
+     * @return the check digit, or {@code -2} if the range contains a non-digit (so it never matches {@link #digit}).
+     */
+    private static int spanishCheckDigit(CharSequence s, int from, int to, int skip) {
+        int sum = 0;
+        for (int i = from, w = skip; i < to; i++, w++) {
+            int value = digit(s.charAt(i));
+            if (value < 0) {
+                return -2;
+            }
+            sum += value * SPAIN_WEIGHTS[w];
+        }
+        int check = 11 - sum % 11;
+        return check == 11 ? 0 : check == 10 ? 1 : check;
+    }
+
+    /**
+     * Computes the ISO 7064 MOD 11,10 check digit over {@code s[from...to)}.
+     * @return the check digit, or {@code -2} if the range contains a non-digit (so it never matches {@link #digit}).
+     */
+    private static int mod1110(CharSequence s, int from, int to) {
+        int product = 10;
+        for (int i = from; i < to; i++) {
+            int value = digit(s.charAt(i));
+            if (value < 0) {
+                return -2;
+            }
+            int sum = (product + value) % 10;
+            product = (sum == 0 ? 10 : sum) * 2 % 11;
+        }
+        return (11 - product) % 10;
+    }
+
+    /** Prevent instantiation of static utility class. */
+    private NationalCheckDigits() { }
+}
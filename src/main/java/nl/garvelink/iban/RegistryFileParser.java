@@ -0,0 +1,214 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the YAML subset used by {@code IBAN.yml} into nested {@link Map}s, {@link List}s and {@link String}s.
+ * <p>
+ * Supported are block mappings, block sequences (including {@code "- key: value"} items), plain, single- and
+ * double-quoted scalars, comments and a leading document marker. Flow collections, anchors, tags and multi-line
+ * scalars are not. This is enough to read the registry file without adding a YAML library to the runtime classpath.</p>
+ */
+final class RegistryFileParser {
+
+    /** Indentation of each significant line. */
+    private final List<Integer> indents = new ArrayList<>();
+    /** Content of each significant line, without indentation and comments. */
+    private final List<String> contents = new ArrayList<>();
+    /** Source line number of each significant line, for error messages. */
+    private final List<Integer> lineNumbers = new ArrayList<>();
+    /** Index of the next line to consume. */
+    private int position;
+
+    private RegistryFileParser() { }
+
+    /**
+     * Parses the given YAML document.
+     * @param reader the document. Not closed by this method.
+     * @return the top-level mapping.
+     * @throws IOException if reading fails or the document isn't in the supported subset.
+     */
+    static Map<String, Object> parse(Reader reader) throws IOException {
+        RegistryFileParser parser = new RegistryFileParser();
+        parser.readLines(reader);
+        if (parser.contents.isEmpty()) {
+            throw new IOException("Registry file is empty.");
+        }
+        Object root = parser.parseNode();
+        if (parser.position < parser.contents.size()) {
+            throw parser.error("Unexpected content");
+        }
+        if (!(root instanceof Map)) {
+            throw new IOException("Registry file does not contain a mapping at the top level.");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) root;
+        return result;
+    }
+
+    private void readLines(Reader reader) throws IOException {
+        BufferedReader in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            int indent = 0;
+            while (indent < line.length() && line.charAt(indent) == ' ') {
+                indent++;
+            }
+            String content = stripComment(line.substring(indent)).trim();
+            if (content.isEmpty() || (indents.isEmpty() && content.equals("---"))) {
+                continue;
+            }
+            if (line.charAt(indent) == '\t') {
+                throw new IOException("Line " + lineNumber + ": tabs are not allowed for indentation.");
+            }
+            indents.add(indent);
+            contents.add(content);
+            lineNumbers.add(lineNumber);
+        }
+    }
+
+    /**
+     * Removes a trailing comment, which starts at a {@code #} at the start of the content or after a space, outside
+     * of quotes.
+     */
+    private static String stripComment(String content) {
+        char quote = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '#' && (i == 0 || content.charAt(i - 1) == ' ')) {
+                return content.substring(0, i);
+            }
+        }
+        return content;
+    }
+
+    private Object parseNode() throws IOException {
+        if (isListItem(contents.get(position))) {
+            return parseList(indents.get(position));
+        }
+        return parseMap(indents.get(position));
+    }
+
+    private Map<String, Object> parseMap(int indent) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (position < contents.size() && indents.get(position) == indent && !isListItem(contents.get(position))) {
+            String content = contents.get(position);
+            int colon = keySeparator(content);
+            if (colon < 0) {
+                throw error("Expected 'key: value'");
+            }
+            String key = unquote(content.substring(0, colon).trim());
+            String rest = content.substring(colon + 1).trim();
+            position++;
+            Object value;
+            if (!rest.isEmpty()) {
+                value = unquote(rest);
+            } else if (position < contents.size() && (indents.get(position) > indent
+                    || (indents.get(position) == indent && isListItem(contents.get(position))))) {
+                value = parseNode();
+            } else {
+                value = null;
+            }
+            if (map.containsKey(key)) {
+                throw new IOException("Duplicate key '" + key + "'.");
+            }
+            map.put(key, value);
+        }
+        if (position < contents.size() && indents.get(position) > indent) {
+            throw error("Unexpected indentation");
+        }
+        return map;
+    }
+
+    private List<Object> parseList(int indent) throws IOException {
+        List<Object> list = new ArrayList<>();
+        while (position < contents.size() && indents.get(position) == indent && isListItem(contents.get(position))) {
+            String rest = contents.get(position).substring(1).trim();
+            if (rest.isEmpty()) {
+                position++;
+                if (position < contents.size() && indents.get(position) > indent) {
+                    list.add(parseNode());
+                } else {
+                    list.add(null);
+                }
+            } else if (keySeparator(rest) >= 0) {
+                // "- key: value" starts a mapping whose keys are aligned with "key".
+                int itemIndent = indent + contents.get(position).indexOf(rest);
+                indents.set(position, itemIndent);
+                contents.set(position, rest);
+                list.add(parseMap(itemIndent));
+            } else {
+                list.add(unquote(rest));
+                position++;
+            }
+        }
+        return list;
+    }
+
+    private static boolean isListItem(String content) {
+        return content.equals("-") || content.startsWith("- ");
+    }
+
+    /**
+     * Returns the index of the colon that separates key and value, or -1.
+     */
+    private static int keySeparator(String content) {
+        char quote = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == ':' && (i + 1 == content.length() || content.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unquote(String scalar) {
+        if (scalar.length() >= 2) {
+            char first = scalar.charAt(0);
+            if ((first == '"' || first == '\'') && scalar.charAt(scalar.length() - 1) == first) {
+                return scalar.substring(1, scalar.length() - 1);
+            }
+        }
+        return scalar;
+    }
+
+    private IOException error(String message) {
+        return new IOException("Line " + lineNumbers.get(position) + ": " + message + ": " + contents.get(position));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * The validation performed by {@link IBAN#parse(CharSequence, ValidationLevel)}. Every level includes the checks of
+ * the levels before it.
+ * @since 1.18.0
+ */
+public enum ValidationLevel {
+    /**
+     * The country code is known and the check digits are correct. The length is not checked, so the country-specific
+     * fields of an IBAN validated at this level may be missing or misplaced.
+     */
+    CHECKSUM,
+    /**
+     * The length is correct for the country code. This is what {@link IBAN#parse(CharSequence)} validates.
+     */
+    LENGTH,
+    /**
+     * Every BBAN character is of the type (digit, upper case letter or alphanumeric) that the IBAN registry specifies
+     * for its position.
+     */
+    STRUCTURE,
+    /**
+     * The national check digits embedded in the BBAN are correct, if the country has any.
+     * @see NationalCheckDigits
+     */
+    NATIONAL;
+
+    /**
+     * Returns whether this level includes all checks of the given level.
+     * @param other the level to compare with.
+     * @return true if validating at this level implies validation at {@code other}.
+     */
+    public boolean includes(ValidationLevel other) {
+        return compareTo(other) >= 0;
+    }
+}
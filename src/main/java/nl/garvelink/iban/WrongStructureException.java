@@ -0,0 +1,40 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+/**
+ * Indicates that a candidate IBAN failed validation because a character doesn't match the BBAN structure of its country.
+ * @since 1.18.0
+ */
+public class WrongStructureException extends IBANException {
+    private static final long serialVersionUID = 1L;
+    /** Index of the offending character. */
+    private final int index;
+
+    WrongStructureException(String failedInput, int index) {
+        super("Input failed structure validation: unexpected character '" + failedInput.charAt(index)
+                + "' at index " + index + ".", failedInput);
+        this.index = index;
+    }
+
+    /**
+     * The index of the first character that doesn't match the BBAN structure.
+     * @return an index into {@link #getFailedInput()}.
+     */
+    public int getIndex() {
+        return index;
+    }
+}
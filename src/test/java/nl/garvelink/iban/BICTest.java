@@ -0,0 +1,127 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link BIC}.
+ */
+public class BICTest {
+
+    @Test
+    public void elevenCharacterBicShouldExposeItsParts() {
+        BIC bic = BIC.parse("DEUTDEFF500");
+        assertThat(bic.getInstitutionCode(), is("DEUT"));
+        assertThat(bic.getCountryCode(), is("DE"));
+        assertThat(bic.getLocationCode(), is("FF"));
+        assertThat(bic.hasBranchCode(), is(true));
+        assertThat(bic.getBranchCode(), is("500"));
+        assertThat(bic.toString(), is("DEUTDEFF500"));
+        assertThat(bic.isTestBIC(), is(false));
+    }
+
+    @Test
+    public void eightCharacterBicShouldDenotePrimaryOffice() {
+        BIC bic = BIC.parse("abnanl2a");
+        assertThat(bic.toString(), is("ABNANL2A"));
+        assertThat(bic.hasBranchCode(), is(false));
+        assertThat(bic.getBranchCode(), is("XXX"));
+        assertThat(bic, is(not(equalTo(BIC.parse("ABNANL2AXXX")))));
+        assertThat(BIC.parse("NEDSZAJ0").isTestBIC(), is(true));
+    }
+
+    @Test
+    public void equalBicsShouldBeEqual() {
+        BIC bic = BIC.parse("INGBNL2A");
+        assertThat(BIC.parse("ingbnl2a"), is(equalTo(bic)));
+        assertThat(BIC.parse("ingbnl2a").hashCode(), is(bic.hashCode()));
+        assertThat(BIC.valueOf(null), is((BIC) null));
+    }
+
+    @Test
+    public void invalidBicsShouldBeRejected() {
+        for (String input : Arrays.asList("", "DEUTDEF", "DEUTDEFF5", "DEUTDEFF50", "DEUTDEFF5000", "DEUTD3FF",
+                "DEUT DEFF", "DEUTDEF-", "DEUTDEFF50!")) {
+            assertThat(input, BIC.isValid(input), is(false));
+            byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+            assertThat(input, BIC.isValid(bytes, 0, bytes.length), is(false));
+            try {
+                BIC.parse(input);
+                throw new AssertionError("Expected BICParseException for " + input);
+            } catch (BICParseException e) {
+                assertThat(e.getFailedInput().toString(), is(input));
+            }
+        }
+        assertThat(BIC.isValid((CharSequence) null), is(false));
+    }
+
+    @Test
+    public void byteEntryPointsShouldMatchCharSequence() {
+        byte[] bytes = "xxRABONL2UXXXyy".getBytes(StandardCharsets.US_ASCII);
+        assertThat(BIC.isValid(bytes, 2, 11), is(true));
+        assertThat(BIC.parse(bytes, 2, 11), is(BIC.parse("RABONL2UXXX")));
+        assertThat(BIC.parse(bytes, 2, 8), is(BIC.parse("RABONL2U")));
+    }
+
+    @Test
+    public void lexicalOrderShouldMatchStrings() {
+        List<String> values = Arrays.asList("ZZZZZZZZ", "ABNANL2A", "ABNANL2AXXX", "ABNANL2A0AB", "A1NANL2A",
+            "RABONL2U", "RABONL2UAAA");
+        List<String> sorted = values.stream().sorted().collect(Collectors.toList());
+        List<String> sortedBics = values.stream().map(BIC::parse).sorted(BIC.LEXICAL_ORDER).map(BIC::toString)
+            .collect(Collectors.toList());
+        assertThat(sortedBics, is(sorted));
+    }
+
+    @Test
+    public void consistencyShouldCompareCountries() {
+        IBAN dutch = IBAN.valueOf("NL91ABNA0417164300");
+        IBAN british = IBAN.valueOf("GB29NWBK60161331926819");
+        assertThat(BIC.parse("ABNANL2A").isConsistentWith(dutch), is(true));
+        assertThat(BIC.parse("NWBKGB2L").isConsistentWith(dutch), is(false));
+        assertThat(BIC.parse("NWBKGB2L").isConsistentWith(british), is(true));
+        assertThat(BIC.parse("RBOSJESH").isConsistentWith(british), is(true));
+        assertThat(BIC.parse("ABNANL2A").isConsistentWith(british), is(false));
+    }
+
+    @Test
+    public void serializationShouldRoundTrip() throws IOException, ClassNotFoundException {
+        BIC bic = BIC.parse("DEUTDEFF500");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(bic);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject(), is(equalTo((Object) bic)));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link BankDirectory}.
+ */
+public class BankDirectoryTest {
+
+    private static final String CSV = String.join("\n",
+        "# country,bank,bic,name",
+        "NL,RABO,RABONL2U,Coöperatieve Rabobank U.A.",
+        "NL,ABNA,ABNANL2A,ABN AMRO Bank N.V.",
+        "DE,37040044,COBADEFFXXX,Commerzbank",
+        "",
+        "GB,NWBK,,\"National Westminster Bank, plc \"\"NatWest\"\"\"",
+        "NL,INGB,INGBNL2A,ING Bank N.V.",
+        "");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path file;
+
+    @Before
+    public void buildDirectory() throws IOException {
+        file = folder.getRoot().toPath().resolve("banks.bin");
+        BankDirectory.build(new StringReader(CSV), file);
+    }
+
+    @Test
+    public void lookupShouldFindBankOfIban() throws IOException {
+        BankDirectory directory = BankDirectory.open(file);
+        assertThat(directory.size(), is(5));
+        BankDirectory.Entry entry = directory.lookup(IBAN.parse("NL91ABNA0417164300")).get();
+        assertThat(entry.getCountryCode(), is("NL"));
+        assertThat(entry.getBankIdentifier(), is("ABNA"));
+        assertThat(entry.getBic(), is(Optional.of("ABNANL2A")));
+        assertThat(entry.getBankName(), is("ABN AMRO Bank N.V."));
+        assertThat(directory.lookup(IBAN.parse("DE89370400440532013000")).get().getBankName(), is("Commerzbank"));
+    }
+
+    @Test
+    public void lookupShouldFindBankOfIbanWithLowercaseBankCode() throws IOException {
+        BankDirectory directory = BankDirectory.open(file);
+        IBAN iban = IBAN.parse("NL91abna0417164300");
+        assertThat(directory.indexOf(iban), is(directory.indexOf("NL", "ABNA")));
+        assertThat(directory.lookup(iban).get().getBankIdentifier(), is("ABNA"));
+        assertThat(directory.lookup("NL", "rabo").get().getBankIdentifier(), is("RABO"));
+    }
+
+    @Test
+    public void lookupShouldDecodeQuotedFieldsAndUtf8() throws IOException {
+        BankDirectory directory = BankDirectory.open(file);
+        BankDirectory.Entry natwest = directory.lookup("GB", "NWBK").get();
+        assertThat(natwest.getBic(), is(Optional.empty()));
+        assertThat(natwest.getBankName(), is("National Westminster Bank, plc \"NatWest\""));
+        assertThat(directory.lookup("NL", "RABO").get().getBankName(), is("Coöperatieve Rabobank U.A."));
+    }
+
+    @Test
+    public void lookupShouldReturnEmptyForUnknownBank() throws IOException {
+        BankDirectory directory = BankDirectory.open(file);
+        assertThat(directory.indexOf(IBAN.compose("NL", "KNAB0255694021")), is(-1));
+        assertThat(directory.indexOf("NL", "ABN"), is(-1));
+        assertThat(directory.indexOf("NL", "ABNAX"), is(-1));
+        assertThat(directory.indexOf("FR", "ABNA"), is(-1));
+        assertThat(directory.indexOf("nl", "ABNA"), is(-1));
+        assertThat(directory.lookup("BE", "RABO").isPresent(), is(false));
+        assertThat(directory.lookup(IBAN.parse("FI2112345600000785")).isPresent(), is(false));
+    }
+
+    @Test
+    public void lookupShouldCacheEntries() throws IOException {
+        BankDirectory directory = BankDirectory.open(file, 4);
+        Optional<BankDirectory.Entry> first = directory.lookup("NL", "INGB");
+        assertThat(directory.lookup("NL", "INGB"), is(sameInstance(first)));
+        assertThat(directory.get(directory.indexOf("NL", "INGB")), is(equalTo(first.get())));
+    }
+
+    @Test
+    public void buildShouldReplaceExistingFile() throws IOException {
+        BankDirectory.build(new StringReader("BE,539,,Crelan\n"), file);
+        BankDirectory directory = BankDirectory.open(file);
+        assertThat(directory.size(), is(1));
+        assertThat(directory.lookup(IBAN.parse("BE68539007547034")).get().getBankName(), is("Crelan"));
+    }
+
+    @Test
+    public void buildShouldStoreBankIdentifierAndBicInUpperCase() throws IOException {
+        BankDirectory.build(new StringReader("NL,abna,abnanl2a,ABN AMRO\n"), file);
+        BankDirectory directory = BankDirectory.open(file);
+        BankDirectory.Entry entry = directory.lookup(IBAN.parse("NL91ABNA0417164300")).get();
+        assertThat(entry.getBankIdentifier(), is("ABNA"));
+        assertThat(entry.getBic(), is(Optional.of("ABNANL2A")));
+    }
+
+    @Test(expected = IOException.class)
+    public void buildShouldRejectDuplicates() throws IOException {
+        BankDirectory.build(new StringReader(CSV + "NL,ABNA,ABNANL2A,Duplicate\n"), file);
+    }
+
+    @Test(expected = IOException.class)
+    public void buildShouldRejectInvalidBic() throws IOException {
+        BankDirectory.build(new StringReader("NL,ABNA,ABNANL,ABN AMRO\n"), file);
+    }
+
+    @Test(expected = IOException.class)
+    public void openShouldRejectOtherFiles() throws IOException {
+        Path other = folder.newFile().toPath();
+        Files.write(other, CSV.getBytes(StandardCharsets.UTF_8));
+        BankDirectory.open(other);
+    }
+}
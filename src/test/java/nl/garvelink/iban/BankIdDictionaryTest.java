@@ -0,0 +1,134 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link BankIdDictionary} and the by-bank {@link IBANCollectors}.
+ */
+public class BankIdDictionaryTest {
+
+    private static final List<IBAN> IBANS = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < 20000; i++) {
+            String bank = "B" + (char) ('A' + i % 7) + (char) ('A' + i % 11) + (char) ('A' + i % 13);
+            IBANS.add(IBAN.compose("NL", bank + String.format("%010d", i)));
+            if (i % 4 == 0) {
+                IBANS.add(IBAN.compose("GB", "NWBK" + String.format("%06d%08d", i % 5, i)));
+            }
+        }
+        IBANS.add(IBAN.valueOf("NO9386011117947"));
+    }
+
+    @Test
+    public void internShouldAssignDenseIds() {
+        BankIdDictionary banks = BankIdDictionary.banks();
+        IBAN abn = IBAN.valueOf("NL91ABNA0417164300");
+        IBAN abn2 = IBAN.valueOf("NL02ABNA0123456789");
+        IBAN gb = IBAN.valueOf("GB29NWBK60161331926819");
+        assertThat(banks.intern(abn), is(0));
+        assertThat(banks.intern(gb), is(1));
+        assertThat(banks.intern(abn2), is(0));
+        assertThat(banks.find(IBAN.valueOf("NL39RABO0300065264")), is(-1));
+        assertThat(banks.size(), is(2));
+        assertThat(banks.getCountryCode(1), is("GB"));
+        assertThat(banks.getBankIdentifier(1), is("NWBK"));
+        assertThat(banks.getBranchIdentifier(1), is(Optional.empty()));
+        IBANView view = new IBANView();
+        view.reset("GB29NWBK60161331926819");
+        assertThat(banks.intern(view), is(1));
+    }
+
+    @Test
+    public void branchesShouldIncludeBranchIdentifier() {
+        BankIdDictionary branches = BankIdDictionary.branches();
+        int first = branches.intern(IBAN.valueOf("GB29NWBK60161331926819"));
+        int second = branches.intern(IBAN.compose("GB", "NWBK60161431926819"));
+        int nl = branches.intern(IBAN.valueOf("NL91ABNA0417164300"));
+        assertThat(first == second, is(false));
+        assertThat(branches.getBranchIdentifier(first), is(Optional.of("601613")));
+        assertThat(branches.getBranchIdentifier(second), is(Optional.of("601614")));
+        assertThat(branches.getBranchIdentifier(nl), is(Optional.empty()));
+    }
+
+    @Test
+    public void countingByBankShouldMatchGroupingByIdentifier() {
+        BankIdDictionary banks = BankIdDictionary.banks();
+        long[] counts = IBANS.parallelStream().collect(IBANCollectors.countingByBank(banks));
+        Map<String, Long> expected = IBANS.stream()
+            .filter(iban -> IBANFields.getBankIdentifier(iban).isPresent())
+            .collect(Collectors.groupingBy(
+                iban -> iban.getCountryCode() + IBANFields.getBankIdentifier(iban).get(), Collectors.counting()));
+        assertThat(counts.length, is(expected.size()));
+        for (int id = 0; id < counts.length; id++) {
+            assertThat(counts[id], is(expected.get(banks.getCountryCode(id) + banks.getBankIdentifier(id))));
+        }
+    }
+
+    @Test
+    public void groupingByBankShouldCollectDownstream() {
+        BankIdDictionary banks = BankIdDictionary.banks();
+        IBAN known = IBAN.valueOf("NL91ABNA0417164300");
+        banks.intern(known);
+        List<List<IBAN>> groups = IBANS.parallelStream()
+            .collect(IBANCollectors.groupingByBank(banks, iban -> iban, Collectors.toList()));
+        assertThat(groups.size(), is(banks.size()));
+        assertThat(groups.get(0), is(nullValue()));
+        int total = 0;
+        for (int id = 1; id < groups.size(); id++) {
+            for (IBAN iban : groups.get(id)) {
+                assertThat(banks.find(iban), is(id));
+            }
+            total += groups.get(id).size();
+        }
+        assertThat(total, is(IBANS.size()));
+    }
+
+    @Test
+    public void concurrentInternShouldAgree() throws InterruptedException {
+        BankIdDictionary banks = BankIdDictionary.banks();
+        int[][] ids = new int[4][IBANS.size()];
+        Thread[] threads = new Thread[ids.length];
+        for (int t = 0; t < threads.length; t++) {
+            final int[] mine = ids[t];
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] = banks.intern(IBANS.get(i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int t = 1; t < ids.length; t++) {
+            assertThat(ids[t], is(equalTo(ids[0])));
+        }
+    }
+}
@@ -184,6 +184,30 @@ public class CountryCodesParameterizedTest {
         assertThat(td.plain.length(), is(equalTo(CountryCodes.getLengthForCountryCode(td.plain.substring(0, 2)))));
     }
 
+    @Test
+    public void nationalCheckDigitsShouldBeValid() {
+        assertThat(NationalCheckDigits.verify(IBAN.parse(td.plain)), is(true));
+    }
+
+    @Test
+    public void shouldParseAtStrictestValidationLevel() {
+        assertThat(IBAN.parse(td.plain, ValidationLevel.NATIONAL).toPlainString(), is(equalTo(td.plain)));
+    }
+
+    @Test
+    public void countryAndViewsShouldMatchTestData() {
+        IBAN iban = IBAN.parse(td.plain);
+        IBANCountry country = iban.getCountry();
+        assertThat(country.getCountryCode(), is(equalTo(td.plain.substring(0, 2))));
+        assertThat(country.getLength(), is(equalTo(td.plain.length())));
+        assertThat(country.isSEPA(), is(equalTo(td.sepa)));
+        assertThat(country.isInSwiftRegistry(), is(equalTo(td.swift)));
+        assertThat(country.getBbanStructure().length(), is(equalTo(td.plain.length() - 4)));
+        assertThat(iban.getBbanView().toString(), is(equalTo(td.plain.substring(4))));
+        assertThat(iban.getBankIdentifierView().toString(), is(equalTo(td.bank == null ? "" : td.bank)));
+        assertThat(iban.getBranchIdentifierView().toString(), is(equalTo(td.branch == null ? "" : td.branch)));
+    }
+
     @Test
     public void isKnownCountryCodeShouldReturnTrue() {
         assertThat(CountryCodes.isKnownCountryCode(td.plain.substring(0, 2)), is(true));
@@ -0,0 +1,138 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link CreditorIdentifier}.
+ */
+public class CreditorIdentifierTest {
+
+    @Test
+    public void identifierShouldExposeItsParts() {
+        CreditorIdentifier identifier = CreditorIdentifier.parse("DE98ZZZ09999999999");
+        assertThat(identifier.getCountryCode(), is("DE"));
+        assertThat(identifier.getCheckDigits(), is("98"));
+        assertThat(identifier.getBusinessCode(), is("ZZZ"));
+        assertThat(identifier.getNationalIdentifier(), is("09999999999"));
+        assertThat(identifier.toString(), is("DE98ZZZ09999999999"));
+    }
+
+    @Test
+    public void businessCodeShouldNotAffectCheckDigits() {
+        CreditorIdentifier identifier = CreditorIdentifier.parse("NL69 ZZZ 123456780000");
+        CreditorIdentifier other = CreditorIdentifier.parse("nl69abc123456780000");
+        assertThat(other.getBusinessCode(), is("ABC"));
+        assertThat(other, is(not(equalTo(identifier))));
+        assertThat(other.isSameCreditor(identifier), is(true));
+        assertThat(CreditorIdentifier.parse("FR72ZZZ123456").isSameCreditor(identifier), is(false));
+    }
+
+    @Test
+    public void equalIdentifiersShouldBeEqual() {
+        CreditorIdentifier identifier = CreditorIdentifier.parse("IT58ZZZ0000012345678901");
+        assertThat(CreditorIdentifier.parse("it58zzz0000012345678901"), is(equalTo(identifier)));
+        assertThat(CreditorIdentifier.parse("it58zzz0000012345678901").hashCode(), is(identifier.hashCode()));
+        assertThat(CreditorIdentifier.valueOf(null), is((CreditorIdentifier) null));
+    }
+
+    @Test
+    public void composeShouldCalculateCheckDigits() {
+        assertThat(CreditorIdentifier.compose("DE", "ZZZ", "09999999999").toString(), is("DE98ZZZ09999999999"));
+        assertThat(CreditorIdentifier.compose("FR", "A1B", "123 456").toString(), is("FR72A1B123456"));
+    }
+
+    @Test(expected = CreditorIdentifierParseException.class)
+    public void composeShouldRejectShortBusinessCode() {
+        CreditorIdentifier.compose("DE", "ZZ", "09999999999");
+    }
+
+    @Test(expected = CreditorIdentifierParseException.class)
+    public void composeShouldRejectInvalidCharacter() {
+        CreditorIdentifier.compose("DE", "ZZZ", "0999-999");
+    }
+
+    @Test(expected = CreditorIdentifierParseException.class)
+    public void composeShouldRejectNumericCountryCode() {
+        CreditorIdentifier.compose("12", "ZZZ", "09999999999");
+    }
+
+    @Test
+    public void invalidIdentifiersShouldBeRejected() {
+        for (String input : Arrays.asList("", "DE98ZZZ", "DE97ZZZ09999999999", "D198ZZZ09999999999",
+                "DEX8ZZZ09999999999", "DE98Z-Z09999999999", "DE98ZZZ0999999999!",
+                "DE98ZZZ" + new String(new char[29]).replace('\0', '0'))) {
+            assertThat(input, CreditorIdentifier.isValid(input), is(false));
+            byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+            assertThat(input, CreditorIdentifier.isValid(bytes, 0, bytes.length), is(false));
+            try {
+                CreditorIdentifier.parse(input);
+                throw new AssertionError("Expected CreditorIdentifierParseException for " + input);
+            } catch (CreditorIdentifierParseException e) {
+                assertThat(e.getFailedInput().toString(), is(input));
+            }
+        }
+        assertThat(CreditorIdentifier.isValid((CharSequence) null), is(false));
+    }
+
+    @Test
+    public void byteEntryPointsShouldMatchCharSequence() {
+        byte[] bytes = "xxFR72ZZZ123456yy".getBytes(StandardCharsets.US_ASCII);
+        assertThat(CreditorIdentifier.isValid(bytes, 2, 13), is(true));
+        assertThat(CreditorIdentifier.parse(bytes, 2, 13), is(CreditorIdentifier.parse("FR72ZZZ123456")));
+    }
+
+    @Test
+    public void verifyAllShouldMatchIsValid() {
+        String[] values = { "DE98ZZZ09999999999", "DE97ZZZ09999999999", "FR72ZZZ123456", "", "NL69ABC123456780000" };
+        StringBuilder data = new StringBuilder();
+        int[] ends = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ends[i] = data.append(values[i]).length();
+        }
+        boolean[] rejected = new boolean[values.length];
+        int valid = CreditorIdentifier.verifyAll(data.toString().getBytes(StandardCharsets.US_ASCII), ends,
+            values.length, rejected);
+        assertThat(valid, is(3));
+        assertThat(rejected, is(new boolean[] { false, true, false, true, false }));
+    }
+
+    @Test
+    public void serializationShouldRoundTrip() throws IOException, ClassNotFoundException {
+        CreditorIdentifier identifier = CreditorIdentifier.parse("DE98ZZZ09999999999");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(identifier);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject(), is(equalTo((Object) identifier)));
+        }
+    }
+}
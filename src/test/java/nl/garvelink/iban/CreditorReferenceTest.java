@@ -0,0 +1,138 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link CreditorReference}.
+ */
+public class CreditorReferenceTest {
+
+    @Test
+    public void referenceShouldExposeItsParts() {
+        CreditorReference reference = CreditorReference.parse("RF18 5390 0754 7034");
+        assertThat(reference.getCheckDigits(), is("18"));
+        assertThat(reference.getReference(), is("539007547034"));
+        assertThat(reference.toPlainString(), is("RF18539007547034"));
+        assertThat(reference.toString(), is("RF18 5390 0754 7034"));
+        assertThat(CreditorReference.parse("rf712348231").toString(), is("RF71 2348 231"));
+    }
+
+    @Test
+    public void equalReferencesShouldBeEqual() {
+        CreditorReference reference = CreditorReference.parse("RF712348231");
+        assertThat(CreditorReference.parse("rf71 2348 231"), is(equalTo(reference)));
+        assertThat(CreditorReference.parse("rf71 2348 231").hashCode(), is(reference.hashCode()));
+        assertThat(CreditorReference.valueOf(null), is((CreditorReference) null));
+    }
+
+    @Test
+    public void composeShouldCalculateCheckDigits() {
+        assertThat(CreditorReference.compose("5390 0754 7034").toPlainString(), is("RF18539007547034"));
+        assertThat(CreditorReference.compose("A").toPlainString(), is("RF25A"));
+        assertThat(CreditorReference.compose("abcdefghijklmnopqrstu").toPlainString(),
+            is("RF95ABCDEFGHIJKLMNOPQRSTU"));
+    }
+
+    @Test(expected = CreditorReferenceParseException.class)
+    public void composeShouldRejectLongReference() {
+        CreditorReference.compose("ABCDEFGHIJKLMNOPQRSTUV");
+    }
+
+    @Test(expected = CreditorReferenceParseException.class)
+    public void composeShouldRejectInvalidCharacter() {
+        CreditorReference.compose("12-34");
+    }
+
+    @Test
+    public void invalidReferencesShouldBeRejected() {
+        for (String input : Arrays.asList("", "RF18", "RF19539007547034", "XX18539007547034", "RFAB539007547034",
+                "RF18539007547-34", "RF95ABCDEFGHIJKLMNOPQRSTUV")) {
+            assertThat(input, CreditorReference.isValid(input), is(false));
+            byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+            assertThat(input, CreditorReference.isValid(bytes, 0, bytes.length), is(false));
+            try {
+                CreditorReference.parse(input);
+                throw new AssertionError("Expected CreditorReferenceParseException for " + input);
+            } catch (CreditorReferenceParseException e) {
+                assertThat(e.getFailedInput().toString(), is(input));
+            }
+        }
+        assertThat(CreditorReference.isValid((CharSequence) null), is(false));
+    }
+
+    @Test
+    public void everySingleDigitErrorShouldBeDetected() {
+        String valid = "RF18539007547034";
+        for (int i = 2; i < valid.length(); i++) {
+            for (char c = '0'; c <= '9'; c++) {
+                if (c != valid.charAt(i)) {
+                    String changed = valid.substring(0, i) + c + valid.substring(i + 1);
+                    assertThat(changed, CreditorReference.isValid(changed), is(false));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void byteEntryPointsShouldMatchCharSequence() {
+        byte[] bytes = "xxRF712348231yy".getBytes(StandardCharsets.US_ASCII);
+        assertThat(CreditorReference.isValid(bytes, 2, 11), is(true));
+        assertThat(CreditorReference.parse(bytes, 2, 11), is(CreditorReference.parse("RF712348231")));
+    }
+
+    @Test
+    public void verifyAllShouldMatchIsValid() {
+        String[] values = { "RF18539007547034", "RF19539007547034", "RF25A", "", "RF71 2348 231", "RF712348231X" };
+        StringBuilder data = new StringBuilder();
+        int[] ends = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ends[i] = data.append(values[i]).length();
+        }
+        boolean[] rejected = new boolean[values.length];
+        int valid = CreditorReference.verifyAll(data.toString().getBytes(StandardCharsets.US_ASCII), ends,
+            values.length, rejected);
+        assertThat(valid, is(3));
+        for (int i = 0; i < values.length; i++) {
+            assertThat(values[i], rejected[i], is(!CreditorReference.isValid(values[i])));
+        }
+    }
+
+    @Test
+    public void serializationShouldRoundTrip() throws IOException, ClassNotFoundException {
+        CreditorReference reference = CreditorReference.parse("RF18539007547034");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(reference);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject(), is(equalTo((Object) reference)));
+        }
+    }
+}
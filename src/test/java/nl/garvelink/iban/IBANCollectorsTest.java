@@ -0,0 +1,118 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANCollectors}, {@link IBANCountryMap} and {@link CountryCounter}.
+ */
+public class IBANCollectorsTest {
+
+    private static final List<IBAN> IBANS = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < 3000; i++) {
+            IBANS.add(IBAN.compose("NL", String.format("ABNA%010d", i)));
+            if (i % 3 == 0) {
+                IBANS.add(IBAN.compose("GB", String.format("NWBK%014d", i)));
+            }
+            if (i % 10 == 0) {
+                IBANS.add(IBAN.valueOf("BR1800360305000010009795493C1"));
+            }
+        }
+    }
+
+    @Test
+    public void countingShouldMatchGroupingByCountryCode() {
+        Map<String, Long> expected = IBANS.stream()
+            .collect(Collectors.groupingBy(IBAN::getCountryCode, Collectors.counting()));
+        CountryCounter sequential = IBANS.stream().collect(IBANCollectors.counting());
+        CountryCounter parallel = IBANS.parallelStream().collect(IBANCollectors.counting());
+        assertThat(sequential.toMap(), is(equalTo(expected)));
+        assertThat(parallel.toMap(), is(equalTo(expected)));
+        assertThat(parallel.get("NL"), is(3000L));
+        assertThat(parallel.get(IBAN.valueOf("GB29NWBK60161331926819").getCountry()), is(1000L));
+        assertThat(parallel.get("XX"), is(0L));
+        assertThat(parallel.getTotal(), is(4300L));
+        assertThat(parallel.getSEPATotal(), is(4000L));
+        assertThat(new ArrayList<>(parallel.toMap().keySet()), is(Arrays.asList("BR", "GB", "NL")));
+    }
+
+    @Test
+    public void groupingByShouldCollectDownstream() {
+        IBANCountryMap<List<IBAN>> lists = IBANS.parallelStream().collect(IBANCollectors.groupingBy());
+        assertThat(lists.size(), is(3));
+        assertThat(lists.getByCountryCode("NL").size(), is(3000));
+        assertThat(lists.getByCountryCode("NL").get(1), is(IBAN.compose("NL", "ABNA0000000001")));
+        IBANCountryMap<Long> counts = IBANS.parallelStream()
+            .collect(IBANCollectors.groupingBy(Collectors.counting()));
+        assertThat(counts.get(IBAN.valueOf("BR1800360305000010009795493C1")), is(300L));
+        Map<String, Long> byCode = new HashMap<>();
+        counts.forEach((country, count) -> byCode.put(country.getCountryCode(), count));
+        assertThat(byCode, is(equalTo(IBANS.stream()
+            .collect(Collectors.groupingBy(IBAN::getCountryCode, Collectors.counting())))));
+    }
+
+    @Test
+    public void partitioningBySEPAShouldSplitOnFlag() {
+        Map<Boolean, Long> counts = IBANS.parallelStream()
+            .collect(IBANCollectors.partitioningBySEPA(Collectors.counting()));
+        assertThat(counts.get(true), is(4000L));
+        assertThat(counts.get(false), is(300L));
+    }
+
+    @Test
+    public void countryMapShouldBehaveAsMap() {
+        IBANCountryMap<String> map = new IBANCountryMap<>();
+        IBANCountry nl = IBAN.valueOf("NL91ABNA0417164300").getCountry();
+        IBANCountry be = IBANRegistry.getCurrent().getCountry("BE").get();
+        assertThat(map.put(nl, "one"), is(nullValue()));
+        assertThat(map.put(be, "two"), is(nullValue()));
+        assertThat(map.put(nl, "three"), is("one"));
+        assertThat(map.size(), is(2));
+        assertThat(map.toString(), is("{BE=two, NL=three}"));
+        Map<IBANCountry, String> copy = new HashMap<>(map);
+        assertThat(map, is(equalTo(copy)));
+        assertThat(map.get("NL"), is(nullValue()));
+        assertThat(map.remove(be), is("two"));
+        assertThat(map.containsKey(be), is(false));
+        map.entrySet().iterator().next().setValue("four");
+        assertThat(map.getByCountryCode("NL"), is("four"));
+        map.clear();
+        assertThat(map.isEmpty(), is(true));
+    }
+
+    @Test
+    public void countryMapShouldMatchCountriesOfOtherRegistry() {
+        IBANRegistry other = IBANRegistry.getDefault();
+        IBANCountryMap<String> map = new IBANCountryMap<>(other);
+        map.put(IBANRegistry.getCurrent().getCountry("NL").get(), "x");
+        assertThat(map.getByCountryCode("NL"), is("x"));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANColumn}.
+ */
+public class IBANColumnTest {
+
+    private final IBANColumn column = IBANColumn.builder()
+            .addAll(Arrays.asList(
+                "NL91 ABNA 0417 1643 00",
+                "GB29NWBK60161331926819",
+                "NL91ABNA0417164301",
+                "XX91ABNA0417164300",
+                "NL02ABNA0123456789",
+                "GB82WEST12345698765432"))
+            .build();
+
+    @Test
+    public void builderShouldStoreRowsWithoutSpaces() {
+        assertThat(column.size(), is(6));
+        assertThat(column.get(0), is("NL91ABNA0417164300"));
+        assertThat(column.length(0), is(18));
+        assertThat(column.getCountry(1).getCountryCode(), is("GB"));
+        assertThat(column.getCountry(3), is(nullValue()));
+        assertThat(column.matches(0, IBAN.valueOf("NL91ABNA0417164300")), is(true));
+        assertThat(column.matches(2, IBAN.valueOf("NL91ABNA0417164300")), is(false));
+        assertThat(column.toIBAN(1), is(IBAN.valueOf("GB29NWBK60161331926819")));
+    }
+
+    @Test
+    public void builderShouldSplitLines() {
+        ByteBuffer lines = ByteBuffer.wrap("NL91ABNA0417164300\r\n\nGB29 NWBK 6016 1331 9268 19\nBE"
+                .getBytes(StandardCharsets.US_ASCII));
+        IBANColumn fromLines = IBANColumn.builder().addLines(lines).build();
+        assertThat(lines.hasRemaining(), is(false));
+        assertThat(fromLines.size(), is(3));
+        assertThat(fromLines.get(1), is("GB29NWBK60161331926819"));
+        assertThat(fromLines.get(2), is("BE"));
+        assertThat(fromLines.validate(ValidationLevel.LENGTH), is(bits(0, 1)));
+    }
+
+    @Test
+    public void validateShouldMatchParse() {
+        for (ValidationLevel level : ValidationLevel.values()) {
+            BitSet expected = new BitSet();
+            for (int row = 0; row < column.size(); row++) {
+                try {
+                    IBAN.parse(column.get(row), level);
+                    expected.set(row);
+                } catch (IllegalArgumentException e) {
+                    // not expected to be valid
+                }
+            }
+            assertThat(level.name(), column.validate(level), is(expected));
+        }
+    }
+
+    @Test
+    public void filtersShouldSelectRows() {
+        assertThat(column.filterCountry("NL"), is(bits(0, 2, 4)));
+        assertThat(column.filterCountry("XX"), is(new BitSet()));
+        assertThat(column.filterSEPA(), is(bits(0, 1, 2, 4, 5)));
+        IBANColumn selected = column.select(column.filterCountry("GB"));
+        assertThat(selected.size(), is(2));
+        assertThat(selected.get(1), is("GB82WEST12345698765432"));
+    }
+
+    @Test
+    public void countPerCountryShouldFollowRegistryOrder() {
+        int[] counts = column.countPerCountry();
+        List<String> codes = new ArrayList<>(column.getRegistry().getKnownCountryCodes());
+        assertThat(counts.length, is(codes.size()));
+        assertThat(counts[codes.indexOf("NL")], is(3));
+        assertThat(counts[codes.indexOf("GB")], is(2));
+        assertThat(Arrays.stream(counts).sum(), is(5));
+    }
+
+    @Test
+    public void bankIdentifiersShouldBeDictionaryEncoded() {
+        IBANColumn.BankIdentifiers banks = column.bankIdentifiers();
+        assertThat(banks.getDictionarySize(), is(3));
+        assertThat(banks.getCode(0), is(banks.getCode(2)));
+        assertThat(banks.getCode(0), is(banks.getCode(4)));
+        assertThat(banks.getCode(3), is(-1));
+        assertThat(banks.getBankIdentifier(banks.getCode(1)), is("NWBK"));
+        assertThat(banks.getCountryCode(banks.getCode(0)), is("NL"));
+        assertThat(banks.getBankIdentifier(banks.getCode(5)), is("WEST"));
+    }
+
+    @Test
+    public void bankIdentifiersShouldSurviveRehash() {
+        IBANColumn.Builder builder = IBANColumn.builder();
+        for (int i = 0; i < 1000; i++) {
+            String bank = "B" + (char) ('A' + i / 100) + (char) ('A' + i / 10 % 10) + (char) ('A' + i % 10);
+            builder.add(IBAN.compose("NL", bank + "0417164300").toPlainString());
+        }
+        IBANColumn many = builder.build();
+        IBANColumn.BankIdentifiers banks = many.bankIdentifiers();
+        assertThat(banks.getDictionarySize(), is(1000));
+        for (int row = 0; row < many.size(); row++) {
+            assertThat(banks.getBankIdentifier(banks.getCode(row)), is(many.get(row).substring(4, 8)));
+        }
+    }
+
+    @Test
+    public void sortedShouldUseLexicalOrder() {
+        IBANColumn sorted = column.sorted();
+        List<String> expected = new ArrayList<>();
+        for (int row = 0; row < column.size(); row++) {
+            expected.add(column.get(row));
+        }
+        expected.sort(null);
+        List<String> actual = new ArrayList<>();
+        for (int row = 0; row < sorted.size(); row++) {
+            actual.add(sorted.get(row));
+        }
+        assertThat(actual, is(equalTo(expected)));
+    }
+
+    private static BitSet bits(int... rows) {
+        BitSet bits = new BitSet();
+        for (int row : rows) {
+            bits.set(row);
+        }
+        return bits;
+    }
+}
@@ -72,4 +72,26 @@ public class IBANFieldsTest {
             assertThat(IBANFieldsCompat.getBranchIdentifier(iban), is(nullValue()));
         }
     }
+
+    @Test
+    public void componentsShouldFitInsideBban() {
+        IBAN iban = IBAN.parse(td.plain);
+        IBANCountry country = iban.getCountry();
+        for (BbanComponent component : BbanComponent.values()) {
+            if (country.has(component)) {
+                assertThat(component.name(), country.getBegin(component) >= 4, is(true));
+                assertThat(component.name(), country.getEnd(component) <= iban.toPlainString().length(), is(true));
+                String expected = td.plain.substring(country.getBegin(component), country.getEnd(component));
+                assertThat(IBANFields.get(iban, component).get(), is(equalTo(expected)));
+                assertThat(IBANFieldsCompat.get(iban, component), is(equalTo(expected)));
+                assertThat(IBANFields.getView(iban, component).toString(), is(equalTo(expected)));
+            } else {
+                assertThat(IBANFields.get(iban, component).isPresent(), is(false));
+                assertThat(IBANFieldsCompat.get(iban, component), is(nullValue()));
+                assertThat(IBANFields.getView(iban, component).length(), is(0));
+            }
+        }
+        assertThat(country.has(BbanComponent.ACCOUNT_NUMBER),
+            is(country.hasBankIdentifier() || country.hasBranchIdentifier()));
+    }
 }
@@ -0,0 +1,116 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANGenerator}.
+ */
+public class IBANGeneratorTest {
+
+    @Test
+    public void streamShouldMatchCompose() {
+        IBANGenerator range = IBANGenerator.range("NL", "ABNA", 417_163_990L, 417_164_310L);
+        List<IBAN> generated = range.stream().collect(Collectors.toList());
+        assertThat(generated.size(), is(321));
+        for (int i = 0; i < generated.size(); i++) {
+            IBAN expected = IBAN.compose("NL", String.format("ABNA%010d", 417_163_990L + i));
+            assertThat(generated.get(i), is(equalTo(expected)));
+            assertThat(generated.get(i).getCountry(), is(expected.getCountry()));
+        }
+        assertThat(generated.contains(IBAN.valueOf("NL91ABNA0417164300")), is(true));
+    }
+
+    @Test
+    public void generatedIbansShouldPassStructureValidation() {
+        IBANGenerator range = IBANGenerator.range("GB", "NWBK601613", 31_926_800L, 31_927_000L);
+        range.stream().forEach(iban -> {
+            assertThat(IBAN.parse(iban.toPlainString(), ValidationLevel.STRUCTURE), is(equalTo(iban)));
+            assertThat(iban.getValidationLevel(), is(ValidationLevel.STRUCTURE));
+        });
+        assertThat(range.get(31_926_819L), is(IBAN.valueOf("GB29NWBK60161331926819")));
+    }
+
+    @Test
+    public void parallelStreamShouldMatchSequential() {
+        IBANGenerator range = IBANGenerator.range("DE", "37040044", 0L, 99_999L);
+        List<IBAN> sequential = range.stream().collect(Collectors.toList());
+        List<IBAN> parallel = range.stream().parallel().collect(Collectors.toList());
+        assertThat(parallel, is(equalTo(sequential)));
+        assertThat(sequential.get(99_999), is(IBAN.compose("DE", "370400440000099999")));
+    }
+
+    @Test
+    public void splitShouldCoverRange() {
+        IBANGenerator range = IBANGenerator.range("NL", "ABNA", 10L, 20L);
+        List<IBANGenerator> parts = range.split(3);
+        assertThat(parts.size(), is(3));
+        assertThat(parts.stream().mapToLong(IBANGenerator::size).sum(), is(11L));
+        assertThat(parts.stream().flatMap(IBANGenerator::stream).collect(Collectors.toList()),
+            is(equalTo(range.stream().collect(Collectors.toList()))));
+        assertThat(IBANGenerator.range("NL", "ABNA", 1L, 2L).split(5).size(), is(2));
+    }
+
+    @Test
+    public void writeToShouldWriteLines() throws IOException {
+        IBANGenerator range = IBANGenerator.range("BE", "539", 7_547_034L, 7_647_034L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        range.writeTo(out);
+        String[] lines = new String(out.toByteArray(), StandardCharsets.US_ASCII).split("\n");
+        assertThat((long) lines.length, is(range.size()));
+        assertThat(lines[0], is("BE68539007547034"));
+        assertThat(lines[lines.length - 1], is(range.get(7_647_034L).toPlainString()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeShouldRejectPrefixNotMatchingStructure() {
+        IBANGenerator.range("NL", "AB12", 0L, 10L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeShouldRejectAccountThatDoesNotFit() {
+        IBANGenerator.range("NL", "ABNA", 0L, 10_000_000_000L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeShouldRejectLongMaxValueAsLastAccount() {
+        IBANGenerator.range("HU", "117", Long.MAX_VALUE - 2, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void rangeAtTheTopOfLongShouldStreamEveryAccount() {
+        IBANGenerator range = IBANGenerator.range("HU", "117", Long.MAX_VALUE - 3, Long.MAX_VALUE - 1);
+        assertThat(range.size(), is(3L));
+        assertThat(range.stream().collect(Collectors.toList()).size(), is(3));
+        assertThat(IBANGenerator.range("HU", "117", 0L, Long.MAX_VALUE - 1).size(), is(Long.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeShouldRejectNonNumericAccount() {
+        IBANGenerator.range("AD", "00012030", 0L, 10L);
+    }
+}
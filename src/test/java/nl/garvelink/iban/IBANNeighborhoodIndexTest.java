@@ -0,0 +1,177 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANNeighborhoodIndex}.
+ */
+public class IBANNeighborhoodIndexTest {
+
+    private static final List<IBAN> IBANS = new ArrayList<>();
+
+    static {
+        IBANS.addAll(IBANRandom.builder().seed(11L).build().ibans(5_000).collect(Collectors.toList()));
+        IBANS.addAll(IBANGenerator.range("NL", "ABNA", 417_160_000L, 417_164_999L).stream()
+            .collect(Collectors.toList()));
+    }
+
+    private final IBANNeighborhoodIndex index = IBANNeighborhoodIndex.of(IBANS);
+
+    private static final String KNOWN = "NL91ABNA0417164300";
+
+    @Test
+    public void shouldFindSubstitution() {
+        assertThat(index.findNeighbors("NL91ABNA0417164301").contains(KNOWN), is(true));
+        assertThat(index.findNeighbors("XL91ABNA0417164300"), is(Collections.singletonList(KNOWN)));
+    }
+
+    @Test
+    public void shouldFindTransposition() {
+        assertThat(index.findNeighbors("NL91ABNA0471164300").contains(KNOWN), is(true));
+        assertThat(index.findNeighbors("LN91ABNA0417164300"), is(Collections.singletonList(KNOWN)));
+    }
+
+    @Test
+    public void shouldFindInsertionAndDeletion() {
+        assertThat(index.findNeighbors("NL91ABNA04171643000").contains(KNOWN), is(true));
+        assertThat(index.findNeighbors("NL91ABNA041716430"), is(Collections.singletonList(KNOWN)));
+        assertThat(index.findNeighbors("NL91ABNAA0417164300"), is(Collections.singletonList(KNOWN)));
+        assertThat(index.findNeighbors("N91ABNA0417164300"), is(Collections.singletonList(KNOWN)));
+    }
+
+    @Test
+    public void exactMatchShouldBeOptional() {
+        final int[] exact = index.find("nl91 abna 0417 1643 00", true);
+        final int[] neighbors = index.find(KNOWN, false);
+        assertThat(exact.length, is(neighbors.length + 1));
+        for (int row : neighbors) {
+            assertThat(index.get(row).equals(KNOWN), is(false));
+        }
+    }
+
+    @Test
+    public void shouldNotFindDistanceTwo() {
+        assertThat(index.findNeighbors("NL91ABNA0471164311").isEmpty(), is(true));
+        assertThat(index.findNeighbors("GB29NWBK60161331926819").isEmpty(), is(true));
+        assertThat(index.findNeighbors("").isEmpty(), is(true));
+    }
+
+    @Test
+    public void findShouldMatchBruteForce() {
+        final List<String> known = IBANS.stream().map(IBAN::toPlainString).collect(Collectors.toList());
+        final Random random = new Random(12L);
+        for (int i = 0; i < 200; i++) {
+            final String query = mutate(known.get(random.nextInt(known.size())), random);
+            final List<Integer> expected = new ArrayList<>();
+            for (int row = 0; row < known.size(); row++) {
+                final String value = known.get(row);
+                if (Math.abs(value.length() - query.length()) <= 1 && distance(value, query) <= 1) {
+                    expected.add(row);
+                }
+            }
+            final List<Integer> found = Arrays.stream(index.find(query, true)).boxed().collect(Collectors.toList());
+            assertThat(query, found, is(expected));
+        }
+    }
+
+    @Test
+    public void shouldIndexColumnRows() {
+        final IBANColumn.Builder builder = IBANColumn.builder();
+        builder.add("NL91ABNA0417164300").add("notAnIBAN").add("GB29NWBK60161331926819");
+        final IBANNeighborhoodIndex columnIndex = IBANNeighborhoodIndex.of(builder.build());
+        assertThat(columnIndex.size(), is(3));
+        assertThat(columnIndex.get(1), is("NOTANIBAN"));
+        assertThat(columnIndex.find("GB29NWBK6016133192681", false), is(new int[] { 2 }));
+    }
+
+    @Test
+    public void lowercaseIbansShouldBeIndexedInUpperCase() {
+        final IBANNeighborhoodIndex lowercase =
+            IBANNeighborhoodIndex.of(Collections.singletonList(IBAN.parse("NL91abna0417164300")));
+        assertThat(lowercase.get(0), is("NL91ABNA0417164300"));
+        assertThat(lowercase.find("NL91abna0417164300", true), is(new int[] { 0 }));
+        assertThat(lowercase.find("NL91ABNA0417164301", false), is(new int[] { 0 }));
+        final IBANColumn.Builder builder = IBANColumn.builder();
+        builder.add("NL91abna0417164300");
+        assertThat(IBANNeighborhoodIndex.of(builder.build()).find("NL91ABNA0417164301", false), is(new int[] { 0 }));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getShouldRejectRowOutOfRange() {
+        index.get(index.size());
+    }
+
+    /**
+     * Applies a random substitution, insertion, deletion or transposition, or sometimes two of them.
+     */
+    private static String mutate(String value, Random random) {
+        final StringBuilder sb = new StringBuilder(value);
+        final int edits = random.nextInt(4) == 0 ? 2 : 1;
+        for (int e = 0; e < edits; e++) {
+            final int at = random.nextInt(sb.length() - 1);
+            final char c = (char) ('0' + random.nextInt(10));
+            switch (random.nextInt(4)) {
+                case 0:
+                    sb.setCharAt(at, c);
+                    break;
+                case 1:
+                    sb.insert(at, c);
+                    break;
+                case 2:
+                    sb.deleteCharAt(at);
+                    break;
+                default:
+                    final char swapped = sb.charAt(at);
+                    sb.setCharAt(at, sb.charAt(at + 1));
+                    sb.setCharAt(at + 1, swapped);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The optimal string alignment distance, by dynamic programming.
+     */
+    private static int distance(String a, String b) {
+        final int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    d[i][j] = i + j;
+                    continue;
+                }
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1),
+                    d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1));
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
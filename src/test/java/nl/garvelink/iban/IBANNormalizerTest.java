@@ -0,0 +1,97 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.util.EnumSet;
+
+import static nl.garvelink.iban.IBANNormalizer.Rule.FULL_WIDTH;
+import static nl.garvelink.iban.IBANNormalizer.Rule.IBAN_PREFIX;
+import static nl.garvelink.iban.IBANNormalizer.Rule.LOWER_CASE;
+import static nl.garvelink.iban.IBANNormalizer.Rule.SEPARATORS;
+import static nl.garvelink.iban.IBANNormalizer.Rule.SPACE;
+import static nl.garvelink.iban.IBANNormalizer.Rule.WHITESPACE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANNormalizer}.
+ */
+public class IBANNormalizerTest {
+
+    private static final String PLAIN = "NL91ABNA0417164300";
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    @Test
+    public void plainInputShouldPassUnchanged() {
+        assertThat(IBANNormalizer.lenient().normalize(PLAIN, buffer), is(0));
+        assertThat(buffer.toString(), is(PLAIN));
+    }
+
+    @Test
+    public void lenientShouldCleanUpDirtyInput() {
+        int fired = IBANNormalizer.lenient().normalize("  IBAN: nl91-abna.0417\t1643 00", buffer);
+        assertThat(buffer.toString(), is(PLAIN));
+        assertThat(IBANNormalizer.rules(fired),
+            is(equalTo(EnumSet.of(SPACE, WHITESPACE, SEPARATORS, LOWER_CASE, IBAN_PREFIX))));
+    }
+
+    @Test
+    public void fullWidthCharactersShouldBeConverted() {
+        int fired = IBANNormalizer.lenient().normalize(
+            "Ｎｌ９１－ＡＢＮＡ　0417164300", buffer);
+        assertThat(buffer.toString(), is(PLAIN));
+        assertThat(IBANNormalizer.rules(fired), is(equalTo(EnumSet.of(FULL_WIDTH, SEPARATORS, LOWER_CASE, WHITESPACE))));
+    }
+
+    @Test
+    public void disabledRulesShouldLeaveCharactersInPlace() {
+        IBANNormalizer spacesOnly = IBANNormalizer.of(SPACE);
+        assertThat(spacesOnly.normalize("IBAN nl91-ABNA 0417 1643 00", buffer), is(SPACE.bit()));
+        assertThat(buffer.toString(), is("IBANnl91-ABNA0417164300"));
+        assertThat(buffer.toString(), is(equalTo(IBAN.toPlain("IBAN nl91-ABNA 0417 1643 00"))));
+    }
+
+    @Test
+    public void prefixShouldOnlyBeRemovedAtTheStart() {
+        assertThat(IBANNormalizer.lenient().normalize("NL91IBAN0417164300", buffer), is(0));
+        assertThat(buffer.toString(), is("NL91IBAN0417164300"));
+        assertThat(IBANNormalizer.lenient().normalize("iban", buffer), is(IBAN_PREFIX.bit()));
+        assertThat(buffer.length(), is(0));
+    }
+
+    @Test
+    public void bufferShouldBeReused() {
+        IBANNormalizer.lenient().normalize("GB29 NWBK 6016 1331 9268 19", buffer);
+        IBANNormalizer.lenient().normalize(PLAIN, buffer);
+        assertThat(buffer.toString(), is(PLAIN));
+    }
+
+    @Test
+    public void parseShouldNormalizeFirst() {
+        assertThat(IBANNormalizer.lenient().parse("IBAN: nl91 abna 0417 1643 00"), is(equalTo(IBAN.parse(PLAIN))));
+        assertThat(IBANNormalizer.lenient().parse("be68-5390-0754-7034", ValidationLevel.NATIONAL).toPlainString(),
+            is("BE68539007547034"));
+    }
+
+    @Test(expected = IBANParseException.class)
+    public void parseShouldRejectRemainingInvalidCharacters() {
+        IBANNormalizer.lenient().parse("NL91_BNA0417164300");
+    }
+}
@@ -0,0 +1,69 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANPartitioner}.
+ */
+public class IBANPartitionerTest {
+
+    @Test
+    public void jumpConsistentHashShouldMatchReferenceImplementation() {
+        assertThat(IBANPartitioner.jumpConsistentHash(1L, 1), is(0));
+        assertThat(IBANPartitioner.jumpConsistentHash(1L, 10), is(6));
+        assertThat(IBANPartitioner.jumpConsistentHash(1L, 100), is(55));
+        assertThat(IBANPartitioner.jumpConsistentHash(1L, 1000), is(549));
+    }
+
+    @Test
+    public void partitionShouldBeSameForAllInputForms() {
+        IBANPartitioner partitioner = IBANPartitioner.of(12);
+        IBAN iban = IBAN.parse("NL91ABNA0417164300");
+        assertThat(partitioner.partition(iban), is(9));
+        assertThat(partitioner.partition("NL91 ABNA 0417 1643 00"), is(9));
+        byte[] bytes = "NL91ABNA0417164300".getBytes(StandardCharsets.US_ASCII);
+        assertThat(partitioner.partition(bytes, 0, bytes.length), is(9));
+    }
+
+    @Test
+    public void growingShouldOnlyMoveKeysToNewPartition() {
+        IBANPartitioner before = IBANPartitioner.of(10);
+        IBANPartitioner after = IBANPartitioner.of(11);
+        int moved = 0;
+        for (int i = 0; i < 10000; i++) {
+            String iban = IBAN.compose("NL", String.format("ABNA%010d", i)).toPlainString();
+            int oldPartition = before.partition(iban);
+            int newPartition = after.partition(iban);
+            if (oldPartition != newPartition) {
+                assertThat(newPartition, is(10));
+                moved++;
+            }
+        }
+        assertThat(moved > 700 && moved < 1100, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofShouldRejectZeroPartitions() {
+        IBANPartitioner.of(0);
+    }
+}
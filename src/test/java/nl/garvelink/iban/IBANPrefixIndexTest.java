@@ -0,0 +1,109 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANPrefixIndex}.
+ */
+public class IBANPrefixIndexTest {
+
+    private static final List<IBAN> IBANS = new ArrayList<>();
+
+    static {
+        IBANS.addAll(IBANRandom.builder().seed(10L).build().ibans(5_000).collect(Collectors.toList()));
+        IBANS.addAll(IBANGenerator.range("NL", "ABNA", 417_160_000L, 417_169_999L).stream()
+            .collect(Collectors.toList()));
+    }
+
+    private final IBANPrefixIndex index = IBANPrefixIndex.of(IBANS);
+
+    @Test
+    public void findShouldMatchBruteForce() {
+        for (String prefix : Arrays.asList("", "N", "NL", "NL91", "NL91ABNA04171643", "DE", "GB29NWBK", "ZZ")) {
+            List<String> expected = IBANS.stream().map(IBAN::toPlainString).filter(s -> s.startsWith(prefix))
+                .sorted().distinct().collect(Collectors.toList());
+            assertThat(prefix, index.count(prefix), is(expected.size()));
+            List<String> found = index.find(prefix, 25).stream().map(IBAN::toPlainString)
+                .collect(Collectors.toList());
+            assertThat(prefix, found, is(expected.subList(0, Math.min(25, expected.size()))));
+        }
+    }
+
+    @Test
+    public void prefixShouldIgnoreSpacesAndCase() {
+        assertThat(index.find("nl91 abna 0417 1643 00", 5).stream().map(IBAN::toPlainString)
+            .collect(Collectors.toList()), is(Collections.singletonList("NL91ABNA0417164300")));
+        assertThat(index.count("nl91 abna 0417 1643"), is(index.count("NL91ABNA04171643")));
+        assertThat(index.count("NL91-"), is(0));
+        assertThat(index.find("NL91ABNA0417164300" + "0000000000000000000", 5).isEmpty(), is(true));
+    }
+
+    @Test
+    public void lowercaseIbansShouldBeFoundByEitherCase() {
+        IBAN lowercase = IBAN.parse("NL91abna0417164300");
+        IBANPrefixIndex small = IBANPrefixIndex.of(Collections.singletonList(lowercase));
+        assertThat(small.count("NL91ABNA"), is(1));
+        assertThat(small.count("nl91abna"), is(1));
+        assertThat(small.contains(lowercase), is(true));
+        assertThat(small.contains(IBAN.parse("NL91ABNA0417164300")), is(true));
+        assertThat(small.withRemoved(Collections.singletonList(lowercase)).size(), is(0));
+        assertThat(small.withAdded(Collections.singletonList(IBAN.parse("NL91ABNA0417164300"))).size(), is(1));
+    }
+
+    @Test
+    public void snapshotsShouldBeIndependent() {
+        IBAN added = IBAN.valueOf("GB29NWBK60161331926819");
+        IBAN removed = IBAN.valueOf("NL91ABNA0417164300");
+        IBANPrefixIndex updated = index.withAdded(Arrays.asList(added, added)).withRemoved(Collections.singleton(removed));
+
+        assertThat(updated.contains(added), is(true));
+        assertThat(updated.contains(removed), is(false));
+        assertThat(index.contains(removed), is(true));
+        assertThat(updated.size(), is(index.size() + (index.contains(added) ? 0 : 1) - 1));
+        assertThat(updated.count("NL91ABNA0417164300"), is(0));
+    }
+
+    @Test
+    public void duplicatesShouldBeStoredOnce() {
+        IBAN iban = IBAN.valueOf("NL91ABNA0417164300");
+        IBANPrefixIndex small = IBANPrefixIndex.of(Arrays.asList(iban, iban, iban));
+        assertThat(small.size(), is(1));
+        assertThat(small.find("NL", 10).get(0).getCountry(), is(iban.getCountry()));
+        assertThat(IBANPrefixIndex.empty().find("NL", 10).isEmpty(), is(true));
+    }
+
+    @Test
+    public void fullLengthPrefixOfLongestPossibleIbanShouldMatch() throws IOException {
+        IBANRegistryTest.withLongestPossibleCountry(() -> {
+            IBAN iban = IBAN.compose("ZZ", "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123");
+            IBANPrefixIndex longest = IBANPrefixIndex.of(Collections.singletonList(iban));
+            assertThat(longest.count(iban.toPlainString()), is(1));
+            assertThat(longest.count(iban.toPlainString() + "0"), is(0));
+        });
+    }
+}
@@ -0,0 +1,126 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANPseudonymizer}.
+ */
+public class IBANPseudonymizerTest {
+
+    private static final byte[] KEY = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final IBANPseudonymizer pseudonymizer = IBANPseudonymizer.builder(KEY).build();
+
+    @Test
+    public void pseudonymsShouldKeepFormatAndParse() {
+        IBANRandom.builder().seed(7L).build().ibans(5_000).forEach(iban -> {
+            IBAN pseudonym = pseudonymizer.pseudonymize(iban);
+            assertThat(pseudonym.getCountryCode(), is(iban.getCountryCode()));
+            assertThat(pseudonym.toPlainString().length(), is(iban.toPlainString().length()));
+            assertThat(IBAN.parse(pseudonym.toPlainString(), ValidationLevel.STRUCTURE), is(equalTo(pseudonym)));
+        });
+    }
+
+    @Test
+    public void pseudonymsShouldBeDeterministicAndRestorable() {
+        IBAN iban = IBAN.valueOf("NL91ABNA0417164300");
+        IBAN pseudonym = pseudonymizer.pseudonymize(iban);
+        assertThat(pseudonym, is(not(equalTo(iban))));
+        assertThat(IBANPseudonymizer.builder(KEY).build().pseudonymize(iban), is(equalTo(pseudonym)));
+        assertThat(pseudonymizer.restore(pseudonym), is(equalTo(iban)));
+        byte[] otherKey = KEY.clone();
+        otherKey[0]++;
+        assertThat(IBANPseudonymizer.builder(otherKey).build().pseudonymize(iban), is(not(equalTo(pseudonym))));
+    }
+
+    @Test
+    public void pseudonymsShouldBeDistinct() {
+        List<IBAN> range = IBANGenerator.range("DE", "37040044", 0L, 9_999L).stream().collect(Collectors.toList());
+        Set<IBAN> pseudonyms = new HashSet<>();
+        for (IBAN iban : range) {
+            pseudonyms.add(pseudonymizer.pseudonymize(iban));
+        }
+        assertThat(pseudonyms.size(), is(range.size()));
+    }
+
+    @Test
+    public void bankAndBranchShouldBeKeptOnRequest() {
+        IBANPseudonymizer keeping = IBANPseudonymizer.builder(KEY).keepBankIdentifier().keepBranchIdentifier().build();
+        IBAN iban = IBAN.valueOf("GB29NWBK60161331926819");
+        IBAN pseudonym = keeping.pseudonymize(iban);
+        assertThat(IBANFields.getBankIdentifier(pseudonym), is(Optional.of("NWBK")));
+        assertThat(IBANFields.getBranchIdentifier(pseudonym), is(Optional.of("601613")));
+        assertThat(pseudonym, is(not(equalTo(iban))));
+        assertThat(keeping.restore(pseudonym), is(equalTo(iban)));
+    }
+
+    @Test
+    public void pseudonymizeAllShouldMatchSingleCallsAndReportRejects() {
+        List<String> ibans = IBANRandom.builder().seed(8L).build().strings(10_000).collect(Collectors.toList());
+        ibans.set(17, "NL00ABNA0417164300");
+        StringBuilder sb = new StringBuilder();
+        int[] ends = new int[ibans.size()];
+        for (int i = 0; i < ibans.size(); i++) {
+            sb.append(ibans.get(i));
+            ends[i] = sb.length();
+        }
+        byte[] data = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        boolean[] rejected = new boolean[ibans.size()];
+
+        assertThat(pseudonymizer.pseudonymizeAll(data, ends, ibans.size(), rejected), is(ibans.size() - 1));
+
+        for (int i = 0; i < ibans.size(); i++) {
+            int begin = i == 0 ? 0 : ends[i - 1];
+            String actual = new String(data, begin, ends[i] - begin, StandardCharsets.US_ASCII);
+            assertThat(rejected[i], is(i == 17));
+            String expected = i == 17 ? ibans.get(i)
+                : pseudonymizer.pseudonymize(IBAN.parse(ibans.get(i), ValidationLevel.STRUCTURE)).toPlainString();
+            assertThat(actual, is(expected));
+        }
+    }
+
+    @Test
+    public void longestPossibleIbanShouldBeRestorable() throws IOException {
+        IBANRegistryTest.withLongestPossibleCountry(() -> {
+            IBANPseudonymizer longest = IBANPseudonymizer.builder(KEY).build();
+            IBANRandom.builder().seed(9L).build().ibans(1_000).forEach(iban -> {
+                IBAN pseudonym = longest.pseudonymize(iban);
+                assertThat(pseudonym.toPlainString().length(), is(34));
+                assertThat(longest.restore(pseudonym), is(equalTo(iban)));
+            });
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongKeyLengthShouldBeRejected() {
+        IBANPseudonymizer.builder(new byte[15]);
+    }
+}
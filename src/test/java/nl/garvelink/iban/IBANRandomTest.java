@@ -0,0 +1,164 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Tests for {@link IBANRandom}.
+ */
+public class IBANRandomTest {
+
+    @Test
+    public void sameSeedShouldGiveSameSequence() {
+        IBANRandom first = IBANRandom.builder().seed(42L).build();
+        IBANRandom second = IBANRandom.builder().seed(42L).build();
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.next(), is(equalTo(second.next())));
+        }
+        assertThat(IBANRandom.builder().seed(43L).build().next(), is(not(first.next())));
+    }
+
+    @Test
+    public void outputShouldPassStructureValidation() {
+        IBANRandom random = IBANRandom.builder().seed(1L).build();
+        IBANView view = new IBANView();
+        byte[] buffer = new byte[IBANRandom.MAX_LENGTH + 3];
+        for (int i = 0; i < 10_000; i++) {
+            int length = random.nextInto(buffer, 3);
+            assertThat(view.reset(buffer, 3, length, ValidationLevel.STRUCTURE), is(true));
+            assertThat(length, is(view.getCountry().getLength()));
+            assertThat(random.getLastResult(), is(IBANView.Result.VALID));
+        }
+    }
+
+    @Test
+    public void allCountriesShouldBeGenerated() {
+        Map<String, Long> counts = IBANRandom.builder().seed(2L).build().strings(50_000)
+            .collect(Collectors.groupingBy(s -> s.substring(0, 2), Collectors.counting()));
+        assertThat(counts.size(), is(CountryCodes.getKnownCountryCodes().size()));
+    }
+
+    @Test
+    public void sepaOnlyAndWeightsShouldBeRespected() {
+        List<String> generated = IBANRandom.builder().seed(3L).sepaOnly().weight("NL", 0.0).weight("DE", 1000.0)
+            .build().strings(10_000).collect(Collectors.toList());
+        long german = generated.stream().filter(s -> s.startsWith("DE")).count();
+        assertThat(german, is(greaterThan(9_000L)));
+        for (String iban : generated) {
+            assertThat(iban, IBAN.valueOf(iban).isSEPA(), is(true));
+            assertThat(iban.startsWith("NL"), is(false));
+        }
+    }
+
+    @Test
+    public void invalidFractionsShouldBeGeneratedAsReported() {
+        IBANRandom random = IBANRandom.builder().seed(4L)
+            .invalid(IBANView.Result.MALFORMED, 0.1)
+            .invalid(IBANView.Result.UNKNOWN_COUNTRY_CODE, 0.1)
+            .invalid(IBANView.Result.WRONG_LENGTH, 0.1)
+            .invalid(IBANView.Result.WRONG_STRUCTURE, 0.1)
+            .invalid(IBANView.Result.WRONG_CHECKSUM, 0.1)
+            .build();
+        IBANView view = new IBANView();
+        byte[] buffer = new byte[IBANRandom.MAX_LENGTH];
+        Map<IBANView.Result, Integer> counts = new EnumMap<>(IBANView.Result.class);
+        for (int i = 0; i < 20_000; i++) {
+            int length = random.nextInto(buffer, 0);
+            view.reset(buffer, 0, length, ValidationLevel.STRUCTURE);
+            assertThat(view.getResult(), is(random.getLastResult()));
+            counts.merge(view.getResult(), 1, Integer::sum);
+        }
+        assertThat(counts.get(IBANView.Result.VALID), is(greaterThan(9_000)));
+        assertThat(counts.get(IBANView.Result.VALID), is(lessThan(11_000)));
+        for (IBANView.Result category : new IBANView.Result[] { IBANView.Result.MALFORMED,
+                IBANView.Result.UNKNOWN_COUNTRY_CODE, IBANView.Result.WRONG_LENGTH, IBANView.Result.WRONG_STRUCTURE }) {
+            assertThat(category.name(), counts.get(category), is(greaterThan(1_600)));
+            assertThat(category.name(), counts.get(category), is(lessThan(2_400)));
+        }
+    }
+
+    @Test
+    public void outputForLongestPossibleIbanShouldFitMaxLength() throws IOException {
+        IBANRegistryTest.withLongestPossibleCountry(() -> {
+            IBANRandom random = IBANRandom.builder().seed(7L).invalid(IBANView.Result.WRONG_LENGTH, 1.0).build();
+            byte[] buffer = new byte[IBANRandom.MAX_LENGTH];
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(random.nextInto(buffer, 0), is(not(34)));
+            }
+        });
+    }
+
+    @Test
+    public void parallelStreamShouldProduceValidIbans() {
+        List<IBAN> generated = IBANRandom.builder().seed(5L).build().ibans(20_000).parallel()
+            .collect(Collectors.toList());
+        assertThat(generated.size(), is(20_000));
+        for (IBAN iban : generated) {
+            assertThat(IBAN.parse(iban.toPlainString(), ValidationLevel.STRUCTURE), is(equalTo(iban)));
+        }
+    }
+
+    @Test
+    public void writeToShouldWriteLines() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IBANRandom.builder().seed(6L).build().writeTo(out, 5_000);
+        String[] lines = new String(out.toByteArray(), StandardCharsets.US_ASCII).split("\n");
+        List<String> expected = IBANRandom.builder().seed(6L).build().strings(5_000).collect(Collectors.toList());
+        assertThat(lines.length, is(5_000));
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(lines[i], is(expected.get(i)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownCountryWeightShouldBeRejected() {
+        IBANRandom.builder().weight("ZZ", 1.0).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nationalCheckDigitCategoryShouldBeRejected() {
+        IBANRandom.builder().invalid(IBANView.Result.WRONG_NATIONAL_CHECK_DIGITS, 0.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fractionsAboveOneShouldBeRejected() {
+        IBANRandom.builder()
+            .invalid(IBANView.Result.MALFORMED, 0.6)
+            .invalid(IBANView.Result.WRONG_CHECKSUM, 0.6)
+            .build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void ibansShouldRejectInvalidOutput() {
+        IBANRandom.builder().invalid(IBANView.Result.WRONG_CHECKSUM, 0.1).build().ibans(1);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for {@link IBANRegistry}.
+ */
+public class IBANRegistryTest {
+
+    private static final String SMALL_REGISTRY = String.join("\n",
+        "---",
+        "# A registry with two countries.",
+        "meta:",
+        "  iban_registry_version: 100",
+        "  last_update: 2026-10-01",
+        "ibans:",
+        "  - name: Netherlands (The)",
+        "    country_code: NL",
+        "    length: 18",
+        "    bban: \"4!a10!n\"",
+        "    flags:",
+        "      sepa_country: yes",
+        "      in_swift_registry: yes",
+        "    embeds:",
+        "      bank_code:",
+        "        position: 4",
+        "        length: 4",
+        "  - name: Zedland",
+        "    country_code: \"ZZ\"  # not a real country",
+        "    length: 12",
+        "    flags:",
+        "      sepa_country: no",
+        "      in_swift_registry: no",
+        "");
+
+    /**
+     * Runs the given test with a registry of the single country {@code ZZ}, whose IBANs have the longest length that
+     * ISO 13616 allows, and a BBAN of 30 letters or digits. Restores the default registry afterwards.
+     */
+    static void withLongestPossibleCountry(Runnable test) throws IOException {
+        withRegistry(String.join("\n",
+            "meta:",
+            "  iban_registry_version: 1",
+            "  last_update: 2026-10-01",
+            "ibans:",
+            "  - country_code: ZZ",
+            "    length: " + IBANRegistry.LONGEST_POSSIBLE_IBAN,
+            "    flags:",
+            "      sepa_country: no",
+            "      in_swift_registry: no",
+            ""), test);
+    }
+
+    /**
+     * Runs the given test with the given registry installed, and restores the default registry afterwards.
+     */
+    static void withRegistry(String yaml, Runnable test) throws IOException {
+        IBANRegistry.install(IBANRegistry.load(new StringReader(yaml)));
+        try {
+            test.run();
+        } finally {
+            IBANRegistry.reset();
+        }
+    }
+
+    @After
+    public void resetRegistry() {
+        IBANRegistry.reset();
+    }
+
+    @Test
+    public void currentShouldDefaultToCompiledInData() {
+        assertThat(IBANRegistry.getCurrent(), is(sameInstance(IBANRegistry.getDefault())));
+        assertThat(IBANRegistry.getDefault().getRevision(), is(equalTo(CountryCodesData.LAST_UPDATE_REV)));
+    }
+
+    @Test
+    public void loadingTheBundledFileShouldReproduceTheCompiledInData() throws IOException {
+        IBANRegistry loaded;
+        try (Reader reader = new InputStreamReader(
+                IBANRegistryTest.class.getResourceAsStream("IBAN.yml"), StandardCharsets.UTF_8)) {
+            loaded = IBANRegistry.load(reader);
+        }
+        IBANRegistry compiled = IBANRegistry.getDefault();
+        assertThat(loaded.getRevision(), is(equalTo(compiled.getRevision())));
+        assertThat(loaded.getLastUpdateDate(), is(equalTo(compiled.getLastUpdateDate())));
+        assertThat(new ArrayList<>(loaded.getKnownCountryCodes()),
+            is(equalTo(new ArrayList<>(compiled.getKnownCountryCodes()))));
+        assertThat(Arrays.toString(loaded.countryData), is(equalTo(Arrays.toString(compiled.countryData))));
+        assertThat(Arrays.toString(loaded.bankCodeBranchCode),
+            is(equalTo(Arrays.toString(compiled.bankCodeBranchCode))));
+        assertThat(Arrays.toString(loaded.accountNumberCheckDigits),
+            is(equalTo(Arrays.toString(compiled.accountNumberCheckDigits))));
+        assertThat(Arrays.toString(loaded.accountType), is(equalTo(Arrays.toString(compiled.accountType))));
+        assertThat(Arrays.asList(loaded.bbanStructures), is(equalTo(Arrays.asList(compiled.bbanStructures))));
+    }
+
+    @Test
+    public void installedRegistryShouldBeUsedForParsing() throws IOException {
+        IBANRegistry registry = IBANRegistry.load(new StringReader(SMALL_REGISTRY));
+        IBAN before = IBAN.parse("NL91ABNA0417164300");
+        IBANRegistry previous = IBANRegistry.install(registry);
+
+        assertThat(previous, is(sameInstance(IBANRegistry.getDefault())));
+        assertThat(CountryCodes.getLastUpdateDate(), is(equalTo(LocalDate.of(2026, 10, 1))));
+        assertThat(CountryCodes.getLastUpdateRevision(), is(equalTo("100")));
+        assertThat(CountryCodes.isKnownCountryCode("ZZ"), is(true));
+        assertThat(CountryCodes.isKnownCountryCode("DE"), is(false));
+        assertThat(CountryCodes.getLengthForCountryCode("ZZ"), is(12));
+        assertThat(IBAN.parse("ZZ47ABC12345").isSEPA(), is(false));
+        assertThat(IBAN.parse("NL91ABNA0417164300"), is(equalTo(before)));
+        assertThat(IBANFieldsCompat.getBankIdentifier(before), is(equalTo("ABNA")));
+        try {
+            IBAN.parse("DE89370400440532013000");
+            fail("DE should be unknown in the installed registry.");
+        } catch (UnknownCountryCodeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void entriesWithoutBbanStructureShouldAcceptAlphanumerics() throws IOException {
+        IBANRegistry.install(IBANRegistry.load(new StringReader(SMALL_REGISTRY)));
+        assertThat(IBAN.parse("ZZ47ABC12345", ValidationLevel.STRUCTURE).toPlainString(), is("ZZ47ABC12345"));
+    }
+
+    @Test
+    public void reloadShouldLoadAndInstallFile() throws IOException {
+        Path file = Files.createTempFile("registry", ".yml");
+        try {
+            Files.write(file, SMALL_REGISTRY.getBytes(StandardCharsets.UTF_8));
+            IBANRegistry registry = IBANRegistry.reload(file);
+            assertThat(IBANRegistry.getCurrent(), is(sameInstance(registry)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void resetShouldRestoreDefault() throws IOException {
+        IBANRegistry.install(IBANRegistry.load(new StringReader(SMALL_REGISTRY)));
+        IBANRegistry.reset();
+        assertThat(IBANRegistry.getCurrent(), is(sameInstance(IBANRegistry.getDefault())));
+    }
+
+    @Test(expected = IOException.class)
+    public void loadShouldRejectBbanFormatNotMatchingLength() throws IOException {
+        IBANRegistry.load(new StringReader(SMALL_REGISTRY.replace("4!a10!n", "4!a9!n")));
+    }
+
+    @Test(expected = IOException.class)
+    public void loadShouldRejectDuplicateCountry() throws IOException {
+        IBANRegistry.load(new StringReader(SMALL_REGISTRY.replace("\"ZZ\"", "NL")));
+    }
+
+    @Test(expected = IOException.class)
+    public void loadShouldRejectFieldOutsideIban() throws IOException {
+        IBANRegistry.load(new StringReader(SMALL_REGISTRY.replace("length: 4", "length: 15")));
+    }
+
+    @Test(expected = IOException.class)
+    public void loadShouldRejectLengthOverIsoMaximum() throws IOException {
+        IBANRegistry.load(new StringReader(SMALL_REGISTRY.replace("length: 12", "length: 35")));
+    }
+
+    @Test
+    public void loadShouldAcceptLengthOfIsoMaximum() throws IOException {
+        IBANRegistry registry = IBANRegistry.load(new StringReader(SMALL_REGISTRY.replace("length: 12", "length: 34")));
+        assertThat(registry.getLengthForCountryCode("ZZ"), is(34));
+    }
+
+    @Test
+    public void failedReloadShouldKeepCurrentRegistry() throws IOException {
+        Path file = Files.createTempFile("registry", ".yml");
+        try {
+            Files.write(file, "meta: [ 1, 2 ]".getBytes(StandardCharsets.UTF_8));
+            IBANRegistry.reload(file);
+            fail("Invalid file should have been rejected.");
+        } catch (IOException e) {
+            assertThat(IBANRegistry.getCurrent(), is(sameInstance(IBANRegistry.getDefault())));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
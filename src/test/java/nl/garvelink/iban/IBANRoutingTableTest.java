@@ -0,0 +1,119 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANRoutingTable}.
+ */
+public class IBANRoutingTableTest {
+
+    private final IBANRoutingTable<String> table = IBANRoutingTable.<String>builder()
+        .route("DE", "", "DE")
+        .route("DE", "1001", "DE-1001")
+        .route("DE", "10010010", "DE-10010010")
+        .route("NL", "ABNA", "NL-ABNA")
+        .route("GB", "NWBK", "GB-NWBK")
+        .route("GB", "NWBK601613", "GB-NWBK-601613")
+        .defaultValue("DEFAULT")
+        .build();
+
+    @Test
+    public void longestPrefixShouldWin() {
+        assertThat(table.route(IBAN.compose("DE", "100100101234567890")), is("DE-10010010"));
+        assertThat(table.route(IBAN.compose("DE", "100112341234567890")), is("DE-1001"));
+        assertThat(table.route(IBAN.valueOf("DE89370400440532013000")), is("DE"));
+        assertThat(table.route(IBAN.valueOf("NL91ABNA0417164300")), is("NL-ABNA"));
+        assertThat(table.route(IBAN.compose("NL", "INGB0001234567")), is("DEFAULT"));
+        assertThat(table.route(IBAN.valueOf("BE68539007547034")), is("DEFAULT"));
+        assertThat(table.size(), is(6));
+    }
+
+    @Test
+    public void branchShouldFollowBankInTheKey() {
+        assertThat(table.route(IBAN.valueOf("GB29NWBK60161331926819")), is("GB-NWBK-601613"));
+        assertThat(table.route(IBAN.compose("GB", "NWBK60161431926819")), is("GB-NWBK"));
+    }
+
+    @Test
+    public void lowercaseBankCodeShouldMatchRule() {
+        assertThat(table.route(IBAN.parse("NL91abna0417164300")), is("NL-ABNA"));
+        assertThat(table.route("GB29nwbk60161331926819"), is("GB-NWBK-601613"));
+    }
+
+    @Test
+    public void plainStringsShouldRouteLikeIbans() {
+        assertThat(table.route("GB29NWBK60161331926819"), is("GB-NWBK-601613"));
+        assertThat(table.route("ZZ00"), is("DEFAULT"));
+        assertThat(table.route("ZZ001234567890"), is("DEFAULT"));
+        assertThat(IBANRoutingTable.<String>builder().build().route(IBAN.valueOf("NL91ABNA0417164300")),
+            is(nullValue()));
+    }
+
+    @Test
+    public void routesShouldMatchLinearScan() {
+        SplittableRandom random = new SplittableRandom(11L);
+        Map<String, Integer> rules = new LinkedHashMap<>();
+        IBANRoutingTable.Builder<Integer> builder = IBANRoutingTable.builder();
+        for (int i = 0; i < 2_000; i++) {
+            String prefix = Integer.toString(10_000 + random.nextInt(90_000)).substring(0, 1 + random.nextInt(5));
+            if (rules.putIfAbsent(prefix, i) == null) {
+                builder.route("DE", prefix, i);
+            }
+        }
+        IBANRoutingTable<Integer> compiled = builder.build();
+        List<IBAN> ibans = IBANRandom.builder().seed(12L).weight("DE", 1_000.0).build().ibans(5_000)
+            .filter(iban -> iban.getCountryCode().equals("DE")).collect(Collectors.toList());
+        for (IBAN iban : ibans) {
+            String bank = iban.getBankIdentifierView().toString();
+            Integer expected = null;
+            int longest = -1;
+            for (Map.Entry<String, Integer> rule : rules.entrySet()) {
+                if (bank.startsWith(rule.getKey()) && rule.getKey().length() > longest) {
+                    expected = rule.getValue();
+                    longest = rule.getKey().length();
+                }
+            }
+            assertThat(iban.toString(), compiled.route(iban), is(expected));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateRuleShouldBeRejected() {
+        IBANRoutingTable.<String>builder().route("DE", "1001", "A").route("DE", "1001", "B");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooLongPrefixShouldBeRejected() {
+        IBANRoutingTable.<String>builder().route("DE", "100100101", "A");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lowercasePrefixShouldBeRejected() {
+        IBANRoutingTable.<String>builder().route("NL", "abna", "A");
+    }
+}
@@ -0,0 +1,121 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANSetFile}.
+ */
+public class IBANSetFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void containsShouldFindAddedIbans() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("set.bin");
+        IBANSetFile.builder()
+            .add("NL91 ABNA 0417 1643 00")
+            .add(IBAN.valueOf("DE89370400440532013000"))
+            .add("LC14BOSL123456789012345678901234")
+            .add("NL91ABNA0417164300")
+            .write(file);
+        IBANSetFile set = IBANSetFile.open(file);
+        assertThat(set.size(), is(3L));
+        assertThat(set.contains(IBAN.valueOf("NL91ABNA0417164300")), is(true));
+        assertThat(set.contains("DE89370400440532013000"), is(true));
+        assertThat(set.contains("LC14BOSL123456789012345678901234"), is(true));
+        assertThat(set.contains("NL91ABNA041716430"), is(false));
+        assertThat(set.contains("NL91ABNA04171643000"), is(false));
+        assertThat(set.contains("NL91 ABNA 0417 1643 00"), is(false));
+        assertThat(set.contains("nl91abna0417164300"), is(false));
+        assertThat(set.contains(""), is(false));
+        assertThat(set.contains(IBAN.valueOf("BE68539007547034")), is(false));
+    }
+
+    @Test
+    public void lowercaseIbansShouldBeStoredInUpperCase() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("lowercase.bin");
+        IBANSetFile.builder()
+            .add("NL91abna0417164300")
+            .add("NL91ABNA0417164300")
+            .add("FR1420041010050500013m02606")
+            .add("DE89370400440532013000")
+            .write(file);
+        IBANSetFile set = IBANSetFile.open(file);
+        assertThat(set.size(), is(3L));
+        assertThat(set.contains("NL91abna0417164300"), is(true));
+        assertThat(set.contains("NL91ABNA0417164300"), is(true));
+        assertThat(set.contains("FR1420041010050500013M02606"), is(true));
+        assertThat(set.contains("DE89370400440532013000"), is(true));
+    }
+
+    @Test
+    public void emptySetShouldContainNothing() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("empty.bin");
+        IBANSetFile.builder().write(file);
+        IBANSetFile set = IBANSetFile.open(file);
+        assertThat(set.size(), is(0L));
+        assertThat(set.contains("NL91ABNA0417164300"), is(false));
+    }
+
+    @Test
+    public void spilledRunsAndSegmentsShouldAgreeWithInMemorySet() throws IOException {
+        Random random = new Random(42L);
+        List<IBAN> added = new ArrayList<>();
+        List<IBAN> missing = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // Shared prefixes put many equal first words in the sparse index.
+            IBAN iban = IBAN.compose("NL", String.format("ABNA%010d", random.nextInt(5000)));
+            (i % 4 == 0 ? missing : added).add(iban);
+        }
+        missing.removeAll(added);
+        Collections.shuffle(added, random);
+
+        Path file = folder.getRoot().toPath().resolve("large.bin");
+        new IBANSetFile.Builder(97).addAll(added.stream()).write(file);
+        IBANSetFile set = IBANSetFile.open(file, 50, 8);
+        assertThat(set.size(), is(added.stream().distinct().count()));
+        for (IBAN iban : added) {
+            assertThat(iban.toPlainString(), set.contains(iban), is(true));
+        }
+        for (IBAN iban : missing) {
+            assertThat(iban.toPlainString(), set.contains(iban), is(false));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void openShouldRejectOtherFiles() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, "NL91ABNA0417164300\n".getBytes(StandardCharsets.UTF_8));
+        IBANSetFile.open(file);
+    }
+}
@@ -17,20 +17,29 @@ package nl.garvelink.iban;
 
 import org.junit.Test;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -104,6 +113,59 @@ public class IBANTest {
         }
     }
 
+    @Test
+    public void parseShouldDefaultToLengthValidation() {
+        assertThat(IBAN.parse(VALID_IBAN).getValidationLevel(), is(ValidationLevel.LENGTH));
+    }
+
+    @Test
+    public void parseShouldRecordValidationLevel() {
+        assertThat(IBAN.parse(VALID_IBAN, ValidationLevel.NATIONAL).getValidationLevel(), is(ValidationLevel.NATIONAL));
+    }
+
+    @Test
+    public void parseAtChecksumLevelShouldAcceptWrongLength() {
+        IBAN iban = IBAN.parse("NL25ABNA014326746", ValidationLevel.CHECKSUM);
+        assertThat(iban.toPlainString(), is("NL25ABNA014326746"));
+    }
+
+    @Test(expected = WrongLengthException.class)
+    public void parseAtLengthLevelShouldRejectWrongLength() {
+        IBAN.parse("NL25ABNA014326746", ValidationLevel.LENGTH);
+    }
+
+    @Test(expected = WrongChecksumException.class)
+    public void parseAtChecksumLevelShouldRejectChecksumFailure() {
+        IBAN.parse(INVALID_IBAN, ValidationLevel.CHECKSUM);
+    }
+
+    @Test
+    public void parseAtStructureLevelShouldRejectWrongStructure() {
+        // Valid checksum, but the Dutch bank code must be letters.
+        String input = "NL13123A0143267469";
+        assertThat(IBAN.parse(input, ValidationLevel.LENGTH).toPlainString(), is(input));
+        try {
+            IBAN.parse(input, ValidationLevel.STRUCTURE);
+            fail("Invalid input should have been rejected for wrong structure.");
+        } catch (WrongStructureException e) {
+            assertThat(e.getIndex(), is(4));
+            assertThat(e.getFailedInput(), is(input));
+        }
+    }
+
+    @Test(expected = WrongNationalCheckDigitsException.class)
+    public void parseAtNationalLevelShouldRejectWrongNationalCheckDigits() {
+        IBAN iban = IBAN.compose("BE", "539007547035");
+        IBAN.parse(iban.toPlainString(), ValidationLevel.NATIONAL);
+    }
+
+    @Test
+    public void validationLevelShouldIncludeLowerLevels() {
+        assertThat(ValidationLevel.STRUCTURE.includes(ValidationLevel.LENGTH), is(true));
+        assertThat(ValidationLevel.STRUCTURE.includes(ValidationLevel.STRUCTURE), is(true));
+        assertThat(ValidationLevel.STRUCTURE.includes(ValidationLevel.NATIONAL), is(false));
+    }
+
     @Test
     public void composeShouldHandleCorrectInput() {
         IBAN composed = IBAN.compose(VALID_IBAN.subSequence(0, 2), VALID_IBAN.substring(4));
@@ -206,6 +268,18 @@ public class IBANTest {
         assertThat(copy.toPlainString(), is(equalTo(VALID_IBAN)));
     }
 
+    @Test
+    public void testSerializationRoundTripShouldPreserveValidationLevel() throws IOException, ClassNotFoundException {
+        IBAN original = IBAN.parse("NL25ABNA014326746", ValidationLevel.CHECKSUM);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(2048);
+        new ObjectOutputStream(baos).writeObject(original);
+
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        IBAN copy = (IBAN) ois.readObject();
+        assertThat(copy, is(equalTo(original)));
+        assertThat(copy.getValidationLevel(), is(ValidationLevel.CHECKSUM));
+    }
+
     @Test
     public void testDeserializationPerformsValidation() throws IOException, ClassNotFoundException {
         // This is the same base64 blob as above, altered to put in a garbage IBAN value.
@@ -221,6 +295,135 @@ public class IBANTest {
         }
     }
 
+    @Test
+    public void fieldAccessorsShouldNotCopy() {
+        IBAN iban = IBAN.parse("NL91ABNA0417164300");
+        assertThat(iban.getCountryCode(), is(sameInstance(iban.getCountry().getCountryCode())));
+        assertThat(iban.getCheckDigits(), is(sameInstance(IBAN.parse("NL91 ABNA 0417 1643 00").getCheckDigits())));
+        assertThat(iban.getCheckDigits(), is(equalTo("91")));
+        assertThat(IBAN.parse("GB33BUKB20201555555555").getCheckDigits(), is(equalTo("33")));
+        assertThat(IBAN.parse("NL04ABNA0000000003").getCheckDigits(), is(equalTo("04")));
+    }
+
+    @Test
+    public void viewsShouldExposeFieldCharacters() {
+        IBAN iban = IBAN.parse("GB29NWBK60161331926819");
+        CharSequence bban = iban.getBbanView();
+        assertThat(bban.length(), is(18));
+        assertThat(bban.charAt(0), is('N'));
+        assertThat(bban.subSequence(4, 10).toString(), is(equalTo("601613")));
+        assertThat(iban.getBankIdentifierView().toString(), is(equalTo("NWBK")));
+        assertThat(iban.getBranchIdentifierView().toString(), is(equalTo("601613")));
+        assertThat(iban.getCountry().getBankIdentifierBegin(), is(4));
+        assertThat(iban.getCountry().getBankIdentifierEnd(), is(8));
+        assertThat(IBAN.parse("AE070331234567890123456").getBranchIdentifierView().length(), is(0));
+        assertThat(IBAN.parse("AE070331234567890123456").getCountry().getBranchIdentifierBegin(), is(-1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void viewShouldRejectIndexOutOfRange() {
+        IBAN.parse("GB29NWBK60161331926819").getBankIdentifierView().charAt(4);
+    }
+
+    @Test
+    public void formatToShouldWriteEachFormat() throws IOException {
+        IBAN iban = IBAN.parse("NL91ABNA0417164300");
+        assertThat(iban.formatTo(new StringBuilder(), IBANFormat.ELECTRONIC).toString(), is("NL91ABNA0417164300"));
+        assertThat(iban.formatTo(new StringBuilder(), IBANFormat.PRINT).toString(), is("NL91 ABNA 0417 1643 00"));
+        assertThat(iban.formatTo(new StringBuilder(), IBANFormat.MASKED).toString(), is("NL** **** **** **43 00"));
+        StringWriter writer = new StringWriter();
+        iban.formatTo((Appendable) writer, IBANFormat.PRINT);
+        assertThat(writer.toString(), is(equalTo(iban.toString())));
+        assertThat(iban.formattedLength(IBANFormat.PRINT), is(22));
+        assertThat(IBAN.parse("GB29NWBK60161331926819").formattedLength(IBANFormat.MASKED), is(27));
+    }
+
+    @Test
+    public void formatToArraysShouldWriteAtOffset() {
+        IBAN iban = IBAN.parse("NL91ABNA0417164300");
+        char[] chars = new char[24];
+        assertThat(iban.formatTo(chars, 1, IBANFormat.PRINT), is(22));
+        assertThat(new String(chars, 1, 22), is("NL91 ABNA 0417 1643 00"));
+        byte[] bytes = new byte[18];
+        assertThat(iban.formatTo(bytes, 0, IBANFormat.ELECTRONIC), is(18));
+        assertThat(new String(bytes, StandardCharsets.US_ASCII), is("NL91ABNA0417164300"));
+        CharBuffer buffer = CharBuffer.allocate(30);
+        buffer.put('[');
+        iban.formatTo(buffer, IBANFormat.MASKED);
+        buffer.flip();
+        assertThat(buffer.toString(), is("[NL** **** **** **43 00"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void formatToArrayShouldRejectTooSmallArray() {
+        IBAN.parse("NL91ABNA0417164300").formatTo(new char[22], 1, IBANFormat.PRINT);
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void formatToBufferShouldRejectTooSmallBuffer() {
+        IBAN.parse("NL91ABNA0417164300").formatTo(CharBuffer.allocate(21), IBANFormat.PRINT);
+    }
+
+    @Test
+    public void fingerprint64ShouldBeStable() {
+        IBAN iban = IBAN.parse("NL91ABNA0417164300");
+        assertThat(iban.fingerprint64(), is(0x0c50778f31b791d1L));
+        assertThat(IBAN.fingerprint64(""), is(0xefd01f60ba992926L));
+    }
+
+    @Test
+    public void fingerprint64ShouldIgnoreFormatting() {
+        long expected = IBAN.parse("NL91ABNA0417164300").fingerprint64();
+        assertThat(IBAN.fingerprint64("NL91 ABNA 0417 1643 00"), is(expected));
+        assertThat(IBAN.fingerprint64("nl91abna0417164300"), is(expected));
+        byte[] record = "iban=NL91 ABNA 0417 1643 00;".getBytes(StandardCharsets.US_ASCII);
+        assertThat(IBAN.fingerprint64(record, 5, 22), is(expected));
+        assertThat(IBAN.fingerprint64("NL91ABNA0417164301") == expected, is(false));
+    }
+
+    @Test
+    public void componentsShouldBeExtracted() {
+        IBAN be = IBAN.valueOf("BE68539007547034");
+        assertThat(IBANFields.getAccountNumber(be).get(), is("0075470"));
+        assertThat(IBANFields.getNationalCheckDigits(be).get(), is("34"));
+        assertThat(IBANFields.getAccountType(be).isPresent(), is(false));
+        IBAN bg = IBAN.valueOf("BG80BNBG96611020345678");
+        assertThat(IBANFieldsCompat.getAccountType(bg), is("10"));
+        assertThat(IBANFieldsCompat.getAccountNumber(bg), is("20345678"));
+        assertThat(IBANFieldsCompat.getNationalCheckDigits(bg), is(nullValue()));
+        char[] chars = new char[12];
+        assertThat(IBANFields.copy(be, BbanComponent.ACCOUNT_NUMBER, chars, 2), is(7));
+        assertThat(new String(chars, 2, 7), is("0075470"));
+        assertThat(IBANFields.copy(be, BbanComponent.ACCOUNT_TYPE, chars, 0), is(-1));
+        IBAN xk = IBAN.valueOf("XK051212012345678906");
+        assertThat(IBANFields.getAccountNumber(xk).get(), is("0123456789"));
+        assertThat(IBANFields.getNationalCheckDigits(xk).get(), is("06"));
+    }
+
+    @Test
+    public void componentsPastTheEndOfAShortIbanShouldBeAbsent() {
+        IBAN shortIban = IBAN.parse("NL61ABNA041716", ValidationLevel.CHECKSUM);
+        assertThat(IBANFields.getAccountNumber(shortIban).isPresent(), is(false));
+        assertThat(IBANFields.copy(shortIban, BbanComponent.ACCOUNT_NUMBER, new char[34], 0), is(-1));
+        assertThat(IBANFields.copy(shortIban, BbanComponent.BANK_IDENTIFIER, new char[34], 0), is(4));
+        List<IBAN> ibans = Arrays.asList(IBAN.valueOf("NL91ABNA0417164300"), shortIban);
+        byte[] destination = new byte[64];
+        int[] ends = new int[2];
+        assertThat(IBANFields.extractAll(ibans, BbanComponent.ACCOUNT_NUMBER, destination, ends), is(10));
+        assertThat(ends, is(new int[] { 10, 10 }));
+    }
+
+    @Test
+    public void extractAllShouldWriteComponentsConsecutively() {
+        List<IBAN> ibans = Arrays.asList(IBAN.valueOf("NL91ABNA0417164300"), IBAN.valueOf("AO06004400006729503010102"),
+            IBAN.valueOf("GB29NWBK60161331926819"));
+        byte[] destination = new byte[64];
+        int[] ends = new int[3];
+        assertThat(IBANFields.extractAll(ibans, BbanComponent.ACCOUNT_NUMBER, destination, ends), is(18));
+        assertThat(ends, is(new int[] { 10, 10, 18 }));
+        assertThat(new String(destination, 0, 18, StandardCharsets.US_ASCII), is("041716430031926819"));
+    }
+
     @Test
     public void lexicalSort() {
         List<IBAN> expected = Arrays.asList(IBAN.parse("DK3400000000000003"), IBAN.parse("NL41BANK0000000002"), IBAN.parse("NL68BANK0000000001"));
@@ -228,4 +431,31 @@ public class IBANTest {
         actual.sort(IBAN.LEXICAL_ORDER);
         assertThat(actual, is(equalTo(expected)));
     }
+
+    @Test
+    public void primeShouldParseEveryCountry() {
+        // Throws if the synthetic IBAN of any country fails validation.
+        IBAN.prime();
+    }
+
+    @Test
+    public void primeShouldHandleLoadedRegistry() throws IOException {
+        IBANRegistryTest.withLongestPossibleCountry(IBAN::prime);
+    }
+
+    @Test
+    public void classListShouldNameExistingLibraryClasses() throws Exception {
+        Set<String> classes = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                IBAN.class.getResourceAsStream("classlist"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("nl/garvelink/")) {
+                    classes.add(Class.forName(line.replace('/', '.')).getName());
+                }
+            }
+        }
+        assertThat(classes.contains(IBAN.class.getName()), is(true));
+        assertThat(classes.contains(CountryCodesData.class.getName()), is(true));
+    }
 }
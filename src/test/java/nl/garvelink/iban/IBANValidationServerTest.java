@@ -0,0 +1,136 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANValidationServer}, over TCP on the loopback address.
+ */
+public class IBANValidationServerTest {
+
+    private IBANValidationServer server;
+    private SocketChannel client;
+
+    @Before
+    public void setUp() throws IOException {
+        ServerSocketChannel channel = ServerSocketChannel.open()
+            .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        InetSocketAddress address = (InetSocketAddress) channel.getLocalAddress();
+        server = IBANValidationServer.start(channel, ValidationLevel.STRUCTURE);
+        client = SocketChannel.open(address);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void batchShouldReturnStatusAndPlainForm() throws IOException {
+        send(Arrays.asList("NL91 ABNA 0417 1643 00", "NL91ABNA0417164301", "ZZ91ABNA0417164300", "NL91"));
+        List<String> response = receive();
+        assertThat(response, is(Arrays.asList("VALID NL91ABNA0417164300", "WRONG_CHECKSUM ", "UNKNOWN_COUNTRY_CODE ",
+            "MALFORMED ")));
+    }
+
+    @Test
+    public void pipelinedAndLargeFramesShouldBeAnsweredInOrder() throws IOException {
+        List<String> first = IBANRandom.builder().seed(9L).build().strings(3_000).collect(Collectors.toList());
+        List<String> second = Arrays.asList("GB29NWBK60161331926819");
+        ByteBuffer frames = ByteBuffer.allocate(200_000);
+        encode(first, frames);
+        encode(second, frames);
+        frames.flip();
+        while (frames.hasRemaining()) {
+            client.write(frames);
+        }
+        List<String> expected = first.stream().map(s -> "VALID " + s).collect(Collectors.toList());
+        assertThat(receive(), is(expected));
+        assertThat(receive(), is(Arrays.asList("VALID GB29NWBK60161331926819")));
+    }
+
+    @Test
+    public void malformedFrameShouldCloseConnection() throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(8).putInt(4).putShort((short) 1).put((byte) 30).put((byte) 'N');
+        frame.flip();
+        client.write(frame);
+        assertThat(client.read(ByteBuffer.allocate(16)), is(-1));
+    }
+
+    private void send(List<String> ibans) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(65536);
+        encode(ibans, frame);
+        frame.flip();
+        while (frame.hasRemaining()) {
+            client.write(frame);
+        }
+    }
+
+    private static void encode(List<String> ibans, ByteBuffer frame) {
+        int start = frame.position();
+        frame.putInt(0).putShort((short) ibans.size());
+        for (String iban : ibans) {
+            byte[] bytes = iban.getBytes(StandardCharsets.US_ASCII);
+            frame.put((byte) bytes.length).put(bytes);
+        }
+        frame.putInt(start, frame.position() - start - 4);
+    }
+
+    private List<String> receive() throws IOException {
+        ByteBuffer header = readFully(4);
+        ByteBuffer payload = readFully(header.getInt());
+        int count = payload.getShort() & 0xFFFF;
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            IBANView.Result status = IBANView.Result.values()[payload.get()];
+            byte[] plain = new byte[payload.get() & 0xFF];
+            payload.get(plain);
+            result.add(status + " " + new String(plain, StandardCharsets.US_ASCII));
+        }
+        assertThat(payload.hasRemaining(), is(false));
+        return result;
+    }
+
+    private ByteBuffer readFully(int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (client.read(buffer) < 0) {
+                throw new IOException("Connection closed.");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link IBANView}.
+ */
+public class IBANViewTest {
+
+    private final IBANView view = new IBANView();
+
+    @Test
+    public void resetShouldValidateCharSequence() {
+        assertThat(view.reset(new StringBuilder("GB29NWBK60161331926819")), is(true));
+        assertThat(view.getResult(), is(IBANView.Result.VALID));
+        assertThat(view.getCountry().getCountryCode(), is("GB"));
+        assertThat(view.isSEPA(), is(true));
+        assertThat(view.isInSwiftRegistry(), is(true));
+        assertThat(view.length(), is(22));
+        assertThat(view.subSequence(4, 8).toString(), is("NWBK"));
+    }
+
+    @Test
+    public void resetShouldValidateByteRange() {
+        byte[] record = "id=7;iban=NL91ABNA0417164300;amount=12".getBytes(StandardCharsets.US_ASCII);
+        assertThat(view.reset(record, 10, 18), is(true));
+        IBANCountry country = view.getCountry();
+        assertThat(view.charAt(country.getBankIdentifierBegin()), is('A'));
+        assertThat(view.toString(), is("NL91ABNA0417164300"));
+        assertThat(view.reset(record, 9, 18), is(false));
+        assertThat(view.getResult(), is(IBANView.Result.MALFORMED));
+    }
+
+    @Test
+    public void resetShouldReportEachFailure() {
+        assertThat(resultOf("NL91"), is(IBANView.Result.MALFORMED));
+        assertThat(resultOf("NLAAABNA0417164300"), is(IBANView.Result.MALFORMED));
+        assertThat(resultOf("NL91ABNA04171643_0"), is(IBANView.Result.MALFORMED));
+        assertThat(resultOf("XX91ABNA0417164300"), is(IBANView.Result.UNKNOWN_COUNTRY_CODE));
+        assertThat(resultOf("NL91ABNA041716430"), is(IBANView.Result.WRONG_LENGTH));
+        assertThat(resultOf("NL92ABNA0417164300"), is(IBANView.Result.WRONG_CHECKSUM));
+        view.reset("NL13123A0143267469", ValidationLevel.STRUCTURE);
+        assertThat(view.getResult(), is(IBANView.Result.WRONG_STRUCTURE));
+        assertThat(view.reset("NL13123A0143267469", ValidationLevel.CHECKSUM), is(true));
+    }
+
+    @Test
+    public void resetShouldValidateNationalCheckDigits() {
+        String wrong = IBAN.compose("BE", "539007547035").toPlainString();
+        assertThat(view.reset(wrong), is(true));
+        assertThat(view.reset(wrong, ValidationLevel.NATIONAL), is(false));
+        assertThat(view.getResult(), is(IBANView.Result.WRONG_NATIONAL_CHECK_DIGITS));
+    }
+
+    @Test
+    public void matchesShouldCompareCharacters() {
+        IBANView other = new IBANView();
+        other.reset("NL91ABNA0417164300".getBytes(StandardCharsets.US_ASCII), 0, 18);
+        view.reset("NL91ABNA0417164300");
+        assertThat(view.matches(other), is(true));
+        assertThat(view.matches(IBAN.parse("NL91 ABNA 0417 1643 00")), is(true));
+        assertThat(view.matches(IBAN.parse("GB29NWBK60161331926819")), is(false));
+        view.reset("NL92ABNA0417164300");
+        assertThat(view.matches(other), is(false));
+    }
+
+    @Test
+    public void toIBANShouldKeepValueAndLevel() {
+        view.reset("NL91ABNA0417164300", ValidationLevel.STRUCTURE);
+        IBAN iban = view.toIBAN();
+        assertThat(iban, is(equalTo(IBAN.parse("NL91ABNA0417164300"))));
+        assertThat(iban.getValidationLevel(), is(ValidationLevel.STRUCTURE));
+        assertThat(iban.getCountry(), is(view.getCountry()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void toIBANShouldRejectInvalidInput() {
+        view.reset("NL92ABNA0417164300");
+        view.toIBAN();
+    }
+
+    private IBANView.Result resultOf(String input) {
+        view.reset(input);
+        return view.getResult();
+    }
+}
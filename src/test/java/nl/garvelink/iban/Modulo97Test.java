@@ -17,6 +17,8 @@ package nl.garvelink.iban;
 
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -168,4 +170,37 @@ public class Modulo97Test {
         int checkDigits = Modulo97.calculateCheckDigits(VALID_COUNTRY, VALID_BBAN.substring(1));
         assertThat(checkDigits, is(equalTo(50)));
     }
+
+    @Test
+    public void remainderShouldMatchChecksum() {
+        String value = "GB29NWBK60161331926819";
+        int remainder = Modulo97.remainder(value, 0, 4, Modulo97.remainder(value, 4, value.length(), 0));
+        assertThat(remainder, is(1));
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        assertThat(Modulo97.remainder(bytes, 0, 4, Modulo97.remainder(bytes, 4, bytes.length, 0)), is(1));
+        assertThat(Modulo97.remainder("MO00T", 4, 5, 0), is(Modulo97.remainder("mo00t", 4, 5, 0)));
+    }
+
+    @Test
+    public void remainderShouldFlagInvalidCharacters() {
+        assertThat(Modulo97.remainder("AB-12", 0, 5, 0), is(-1));
+        assertThat(Modulo97.remainder("AB 12", 0, 5, 0), is(-1));
+        assertThat(Modulo97.remainder("1234", 0, 4, -1), is(-1));
+        assertThat(Modulo97.remainder("AB-12".getBytes(StandardCharsets.US_ASCII), 0, 5, 0), is(-1));
+    }
+
+    @Test
+    public void verifyAllShouldCheckEveryRow() {
+        String[] values = { "GB29NWBK60161331926819", "GB28NWBK60161331926819", "MO15T", "MO15", "NL91ABNA0417164300" };
+        StringBuilder data = new StringBuilder();
+        int[] ends = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ends[i] = data.append(values[i]).length();
+        }
+        boolean[] rejected = new boolean[values.length];
+        int valid = Modulo97.verifyAll(data.toString().getBytes(StandardCharsets.US_ASCII), ends, values.length,
+            rejected);
+        assertThat(valid, is(3));
+        assertThat(rejected, is(new boolean[] { false, true, false, true, false }));
+    }
 }
@@ -0,0 +1,120 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link NationalAccountConverter}.
+ */
+public class NationalAccountConverterTest {
+
+    @Test
+    public void countryConvertersShouldMatchKnownIbans() {
+        assertThat(NationalAccountConverter.germany().convert("37040044", "532013000"), is("DE89370400440532013000"));
+        assertThat(NationalAccountConverter.netherlands().convert("abna", "417164300"), is("NL91ABNA0417164300"));
+        assertThat(NationalAccountConverter.belgium().convert("539-0075470-34"), is("BE68539007547034"));
+        assertThat(NationalAccountConverter.france().convert("20041", "01005", "0500013M026", "06"),
+            is("FR1420041010050500013M02606"));
+        assertThat(NationalAccountConverter.unitedKingdom().convert("NWBK", "60-16-13", "31926819"),
+            is("GB29NWBK60161331926819"));
+    }
+
+    @Test
+    public void toIBANShouldMatchValueOf() {
+        IBAN iban = NationalAccountConverter.germany().toIBAN("37040044", "0532013000");
+        assertThat(iban, is(equalTo(IBAN.valueOf("DE89370400440532013000"))));
+        assertThat(iban.getCountry().getCountryCode(), is("DE"));
+    }
+
+    @Test
+    public void componentsMayBeDeclaredInAnyOrder() {
+        NationalAccountConverter converter =
+            NationalAccountConverter.of("NL", BbanComponent.ACCOUNT_NUMBER, BbanComponent.BANK_IDENTIFIER);
+        assertThat(converter.convert("417164300", "ABNA"), is("NL91ABNA0417164300"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooLongAccountShouldBeRejected() {
+        NationalAccountConverter.germany().convert("37040044", "12345678901");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void letterInNumericFieldShouldBeRejected() {
+        NationalAccountConverter.germany().convert("3704004X", "532013000");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortAlphabeticFieldShouldBeRejected() {
+        NationalAccountConverter.netherlands().convert("ABN", "417164300");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void incompleteComponentsShouldBeRejected() {
+        NationalAccountConverter.of("GB", BbanComponent.BANK_IDENTIFIER, BbanComponent.ACCOUNT_NUMBER);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingComponentShouldBeRejected() {
+        NationalAccountConverter.of("DE", BbanComponent.BANK_IDENTIFIER, BbanComponent.BRANCH_IDENTIFIER);
+    }
+
+    @Test
+    public void convertAllShouldConvertColumnsAndReportRejects() {
+        NationalAccountConverter converter = NationalAccountConverter.germany();
+        int rows = 10_000;
+        List<String> banks = new ArrayList<>();
+        List<String> accounts = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            banks.add("37040044");
+            accounts.add(i % 1000 == 7 ? "1234567890X" : Integer.toString(i));
+        }
+        byte[][] columns = new byte[2][];
+        int[][] ends = new int[2][rows];
+        columns[0] = column(banks, ends[0]);
+        columns[1] = column(accounts, ends[1]);
+        byte[] destination = new byte[rows * 22];
+        boolean[] rejected = new boolean[rows];
+
+        int converted = converter.convertAll(columns, ends, rows, destination, rejected);
+
+        assertThat(converted, is(rows - 10));
+        for (int i = 0; i < rows; i++) {
+            assertThat(rejected[i], is(i % 1000 == 7));
+            if (!rejected[i]) {
+                String iban = new String(destination, i * 22, 22, StandardCharsets.US_ASCII);
+                assertThat(iban, is(IBAN.compose("DE", String.format("37040044%010d", i)).toPlainString()));
+            }
+        }
+    }
+
+    private static byte[] column(List<String> values, int[] ends) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            sb.append(values.get(i));
+            ends[i] = sb.length();
+        }
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+   Copyright 2026 Barend Garvelink
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package nl.garvelink.iban;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link NationalCheckDigits}. The positive cases for every supported country are covered by
+ * {@link CountryCodesParameterizedTest}.
+ */
+public class NationalCheckDigitsTest {
+
+    @Test
+    public void isSupportedShouldReturnTrueForSupportedCountry() {
+        assertThat(NationalCheckDigits.isSupported("BE"), is(true));
+    }
+
+    @Test
+    public void isSupportedShouldReturnFalseForUnsupportedCountry() {
+        assertThat(NationalCheckDigits.isSupported("NL"), is(false));
+    }
+
+    @Test
+    public void isSupportedShouldReturnFalseForUnknownCountry() {
+        assertThat(NationalCheckDigits.isSupported("XX"), is(false));
+    }
+
+    @Test
+    public void unsupportedCountryShouldAlwaysPass() {
+        assertThat(NationalCheckDigits.verify(IBAN.parse("NL91ABNA0417164300")), is(true));
+    }
+
+    @Test
+    public void shouldAcceptLowercaseLetters() {
+        assertThat(NationalCheckDigits.verify(IBAN.parse("FR1420041010050500013m02606")), is(true));
+    }
+
+    @Test
+    public void belgiumShouldRejectWrongNationalCheckDigits() {
+        assertRejected("BE", "539007547035");
+    }
+
+    @Test
+    public void franceShouldRejectWrongRibKey() {
+        assertRejected("FR", "20041010050500013M02607");
+    }
+
+    @Test
+    public void spainShouldRejectWrongFirstControlDigit() {
+        assertRejected("ES", "21000418550200051332");
+    }
+
+    @Test
+    public void spainShouldRejectWrongSecondControlDigit() {
+        assertRejected("ES", "21000418460200051332");
+    }
+
+    @Test
+    public void italyShouldRejectWrongCin() {
+        assertRejected("IT", "Y0542811101000000123456");
+    }
+
+    @Test
+    public void norwayShouldRejectWrongCheckDigit() {
+        assertRejected("NO", "86011117948");
+    }
+
+    @Test
+    public void finlandShouldRejectWrongCheckDigit() {
+        assertRejected("FI", "12345600000786");
+    }
+
+    @Test
+    public void estoniaShouldRejectWrongCheckDigit() {
+        assertRejected("EE", "2200221020145686");
+    }
+
+    @Test
+    public void croatiaShouldRejectWrongAccountCheckDigit() {
+        assertRejected("HR", "10010051863000161");
+    }
+
+    @Test
+    public void czechRepublicShouldRejectWrongAccountNumber() {
+        assertRejected("CZ", "08000000192000145398");
+    }
+
+    @Test
+    public void polandShouldRejectWrongBranchCheckDigit() {
+        assertRejected("PL", "109010150000071219812874");
+    }
+
+    @Test
+    public void albaniaShouldRejectWrongBranchCheckDigit() {
+        assertRejected("AL", "212110080000000235698741");
+    }
+
+    @Test
+    public void portugalShouldRejectWrongNib() {
+        assertRejected("PT", "000201231234567890155");
+    }
+
+    @Test
+    public void countryWithChangedLengthShouldAlwaysPass() throws IOException {
+        IBANRegistryTest.withRegistry(String.join("\n",
+            "meta:",
+            "  iban_registry_version: 1",
+            "  last_update: 2026-10-01",
+            "ibans:",
+            "  - country_code: BE",
+            "    length: 14",
+            "    bban: \"10!n\"",
+            "    flags:",
+            "      sepa_country: yes",
+            "      in_swift_registry: yes",
+            ""), () -> {
+            String value = IBAN.compose("BE", "5390075470").toPlainString();
+            IBAN iban = IBAN.parse(value, ValidationLevel.NATIONAL);
+            assertThat(NationalCheckDigits.isSupported("BE"), is(false));
+            assertThat(NationalCheckDigits.verify(iban), is(true));
+            assertThat(NationalCheckDigits.verify(iban.getCountry(), value), is(true));
+            assertThat(new IBANView().reset(value, ValidationLevel.NATIONAL), is(true));
+            IBAN.prime();
+        });
+    }
+
+    private static void assertRejected(String countryCode, String bban) {
+        IBAN iban = IBAN.compose(countryCode, bban);
+        assertThat(iban + " should fail national check", NationalCheckDigits.verify(iban), is(false));
+    }
+}